@@ -7,9 +7,11 @@
  * ========================================================================== */
 
 import prof.test.open.Autograder;
+import prof.utils.WorldGenerator;
 import prof.view.GUI;
 
 import javax.swing.*;
+import java.util.Arrays;
 import java.util.Scanner;
 
 //=============================================================================
@@ -41,6 +43,11 @@ private static final String GUI_MODE_COMMAND = "gui";
  */
 private static final String AUTOGRADE_MODE_COMMAND = "autograde";
 
+/**
+ * Command-line argument for world generation mode.
+ */
+private static final String GENERATE_MODE_COMMAND = "generate";
+
 //----------------------------- Main Method -------------------------------
 
 /**
@@ -50,6 +57,7 @@ private static final String AUTOGRADE_MODE_COMMAND = "autograde";
  * <ul>
  *   <li>{@code gui} - Launch GUI directly</li>
  *   <li>{@code autograde} - Run autograder tests</li>
+ *   <li>{@code generate <options>} - Generate a world file (see {@link WorldGenerator#main(String[])})</li>
  * </ul>
  *
  * <p>If no arguments are provided, an interactive menu is displayed.</p>
@@ -66,6 +74,9 @@ public static void main(final String[] args) {
 		} else if (AUTOGRADE_MODE_COMMAND.equals(mode)) {
 			runAutograder();
 			return;
+		} else if (GENERATE_MODE_COMMAND.equals(mode)) {
+			WorldGenerator.main(Arrays.copyOfRange(args, 1, args.length));
+			return;
 		}
 	}
 	
@@ -0,0 +1,129 @@
+// path: prof/test/CheckpointerTest.java
+// author: Zakary Gaillard-D.
+// date: 2026-10-18
+// purpose: Tests des points de reprise (aller-retour, rotation des fichiers, déclencheurs)
+
+package prof.test;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import prof.utils.Checkpointer;
+import prof.utils.RandomGenerator;
+import student.model.core.Cell;
+import student.model.core.Position;
+import student.model.core.World;
+import student.model.core.WorldSnapshot;
+import student.model.organisms.Carnivore;
+import student.model.organisms.Herbivore;
+import student.model.organisms.Plant;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Section: Classe de test
+public class CheckpointerTest {
+
+private static final int WORLD_WIDTH = 23;
+private static final int WORLD_HEIGHT = 19;
+
+@TempDir
+Path dir;
+
+private World world;
+private Checkpointer checkpointer;
+
+// Section: Setup
+@BeforeEach
+void setUp() throws IOException {
+	world = new World(WORLD_WIDTH, WORLD_HEIGHT);
+	for (int y = 0; y < WORLD_HEIGHT; y++) {
+		for (int x = 0; x < WORLD_WIDTH; x++) {
+			Cell cell = world.getCell(new Position(x, y));
+			if ((x + y) % 3 == 0) {
+				Plant plant = new Plant(1 + x % 3);
+				plant.setPosition(cell.getPosition());
+				cell.setPlant(plant);
+			}
+			if ((x * y) % 7 == 1) {
+				Herbivore herbivore = new Herbivore(2 + y);
+				herbivore.setPosition(cell.getPosition());
+				cell.setAnimal(herbivore);
+			} else if ((x * y) % 11 == 2) {
+				Carnivore carnivore = new Carnivore(4 + x);
+				carnivore.setPosition(cell.getPosition());
+				cell.setAnimal(carnivore);
+			}
+		}
+	}
+	RandomGenerator.reseed(99L);
+	checkpointer = new Checkpointer(dir.toFile(), 2, 0, 2);
+}
+
+@AfterEach
+void tearDown() {
+	checkpointer.close();
+}
+
+// Section: Aller-retour
+@Test
+@DisplayName("Un point de reprise se relit avec le monde et l'état du générateur")
+void testRoundTrip() {
+	RandomGenerator.nextInt(10);
+	WorldSnapshot expected = world.snapshot();
+	Checkpointer.Result result = checkpointer.submit(4, world).join();
+	long nextDraw = RandomGenerator.nextLong();
+
+	assertEquals(4, result.turn());
+	assertTrue(result.file().isFile());
+	assertEquals(result.file().length(), result.bytes());
+
+	Checkpointer.Checkpoint checkpoint = Checkpointer.latest(dir.toFile());
+	assertNotNull(checkpoint);
+	assertEquals(4, checkpoint.turn());
+	assertEquals(99L, checkpoint.seed());
+	for (int y = 0; y < WORLD_HEIGHT; y++) {
+		for (int x = 0; x < WORLD_WIDTH; x++) {
+			String where = "case (" + x + ", " + y + ")";
+			assertEquals(expected.flagsAt(x, y), checkpoint.state().flagsAt(x, y), where);
+			assertEquals(expected.plantEnergyAt(x, y), checkpoint.state().plantEnergyAt(x, y), where);
+			assertEquals(expected.animalEnergyAt(x, y), checkpoint.state().animalEnergyAt(x, y), where);
+		}
+	}
+	// Le générateur restauré reprend exactement là où la capture l'a laissé.
+	RandomGenerator.restoreState(checkpoint.randomState(), checkpoint.seed());
+	assertEquals(nextDraw, RandomGenerator.nextLong());
+}
+
+// Section: Rotation et déclencheurs
+@Test
+@DisplayName("Seuls les derniers points de reprise sont conservés, le plus récent est relu")
+void testKeepsNewest() throws IOException {
+	for (int turn = 2; turn <= 8; turn += 2) checkpointer.submit(turn, world).join();
+	File[] files = dir.toFile().listFiles((_, name) -> name.endsWith(".tpc"));
+	assertNotNull(files);
+	assertEquals(2, files.length);
+	assertEquals(8, Checkpointer.latest(dir.toFile()).turn());
+
+	// Un fichier récent illisible est ignoré au profit du précédent.
+	Files.write(dir.resolve("checkpoint-0000000010.tpc"), new byte[] {1, 2, 3});
+	assertEquals(8, Checkpointer.latest(dir.toFile()).turn());
+}
+
+@Test
+@DisplayName("isDue suit l'intervalle en tours depuis le dernier point de reprise")
+void testTurnTrigger() {
+	assertFalse(checkpointer.isDue(1));
+	assertTrue(checkpointer.isDue(2));
+	checkpointer.submit(2, world).join();
+	assertFalse(checkpointer.isDue(3));
+	assertTrue(checkpointer.isDue(4));
+	assertEquals(0, checkpointer.getSkipped());
+}
+}
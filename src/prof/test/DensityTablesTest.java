@@ -0,0 +1,127 @@
+// path: prof/test/DensityTablesTest.java
+// author: Zakary Gaillard-D.
+// date: 2026-10-18
+// purpose: Tests des tables de sommes cumulées (comptes de fenêtres vs parcours direct)
+
+package prof.test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import student.model.core.Cell;
+import student.model.core.DensityTables;
+import student.model.core.OccupancyLayers.Layer;
+import student.model.core.Position;
+import student.model.core.World;
+import student.model.organisms.Carnivore;
+import student.model.organisms.Herbivore;
+import student.model.organisms.Plant;
+import student.model.organisms.Species;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Section: Classe de test
+public class DensityTablesTest {
+
+// Largeur > 64 pour couvrir plusieurs mots de bitboard par ligne.
+private static final int WORLD_WIDTH = 150;
+private static final int WORLD_HEIGHT = 40;
+private World world;
+
+// Section: Setup
+@BeforeEach
+void setUp() {
+	world = new World(WORLD_WIDTH, WORLD_HEIGHT);
+	Random random = new Random(11);
+	for (int y = 0; y < WORLD_HEIGHT; y++) {
+		for (int x = 0; x < WORLD_WIDTH; x++) {
+			Cell cell = world.getCell(new Position(x, y));
+			if (random.nextInt(4) == 0) cell.setPlant(new Plant(2));
+			int roll = random.nextInt(20);
+			if (roll == 0) cell.setAnimal(new Herbivore(5));
+			else if (roll == 1) cell.setAnimal(new Carnivore(10));
+		}
+	}
+}
+
+// Section: Comptes
+@Test
+@DisplayName("Les comptes de rectangles égalent un parcours direct")
+void testCountMatchesScan() {
+	DensityTables tables = new DensityTables(world);
+	Random random = new Random(3);
+	for (Layer layer : new Layer[]{Layer.PLANT, Layer.HERBIVORE, Layer.CARNIVORE}) {
+		assertEquals(world.getOccupancy().count(layer), tables.count(layer, 0, 0, WORLD_WIDTH - 1, WORLD_HEIGHT - 1),
+			"total de la couche " + layer);
+		for (int i = 0; i < 200; i++) {
+			int x0 = random.nextInt(WORLD_WIDTH + 10) - 5;
+			int y0 = random.nextInt(WORLD_HEIGHT + 10) - 5;
+			int x1 = x0 + random.nextInt(80);
+			int y1 = y0 + random.nextInt(30);
+			assertEquals(scan(layer, x0, y0, x1, y1), tables.count(layer, x0, y0, x1, y1),
+				layer + " [" + x0 + ".." + x1 + "] x [" + y0 + ".." + y1 + "]");
+		}
+	}
+}
+
+@Test
+@DisplayName("nearestRadius et locate trouvent la cellule occupée la plus proche")
+void testNearestAndLocate() {
+	DensityTables tables = new DensityTables(world);
+	for (int y = 0; y < WORLD_HEIGHT; y += 3) {
+		for (int x = 0; x < WORLD_WIDTH; x += 7) {
+			Position center = new Position(x, y);
+			int expectedRadius = -1;
+			for (int r = 1; r <= 6 && expectedRadius < 0; r++) {
+				if (scan(Layer.CARNIVORE, x - r, y - r, x + r, y + r) - scan(Layer.CARNIVORE, x, y, x, y) > 0) expectedRadius = r;
+			}
+			assertEquals(expectedRadius, tables.nearestRadius(Layer.CARNIVORE, center, 6), "rayon depuis " + center);
+			
+			Position expected = null;
+			for (int wy = y - 4; wy <= y + 4 && expected == null; wy++) {
+				for (int wx = x - 4; wx <= x + 4 && expected == null; wx++) {
+					if ((wx != x || wy != y) && scan(Layer.HERBIVORE, wx, wy, wx, wy) == 1) expected = new Position(wx, wy);
+				}
+			}
+			assertEquals(expected, tables.locate(Layer.HERBIVORE, center, 4), "cible depuis " + center);
+		}
+	}
+}
+
+@Test
+@DisplayName("Les tables sont un instantané: elles ignorent les déplacements suivants")
+void testSnapshotSemantics() {
+	DensityTables tables = world.densityTables();
+	int before = tables.count(Layer.HERBIVORE, 0, 0, WORLD_WIDTH - 1, WORLD_HEIGHT - 1);
+	Cell empty = null;
+	for (int x = 0; x < WORLD_WIDTH && empty == null; x++) {
+		if (world.getCell(new Position(x, 0)).isEmptyAnimal()) empty = world.getCell(new Position(x, 0));
+	}
+	assertNotNull(empty);
+	empty.setAnimal(new Herbivore(5));
+	assertSame(tables, world.densityTables(), "les tables restent partagées pendant le tour");
+	assertEquals(before, tables.count(Layer.HERBIVORE, 0, 0, WORLD_WIDTH - 1, WORLD_HEIGHT - 1));
+	world.invalidateDensity();
+	assertEquals(before + 1, world.densityTables().count(Layer.HERBIVORE, 0, 0, WORLD_WIDTH - 1, WORLD_HEIGHT - 1));
+}
+
+// Section: Utilitaires (parcours direct des cellules)
+private int scan(Layer layer, int x0, int y0, int x1, int y1) {
+	int count = 0;
+	for (int y = Math.max(0, y0); y <= Math.min(WORLD_HEIGHT - 1, y1); y++) {
+		for (int x = Math.max(0, x0); x <= Math.min(WORLD_WIDTH - 1, x1); x++) {
+			Cell cell = world.getCell(new Position(x, y));
+			boolean occupied = switch (layer) {
+				case PLANT -> cell.hasPlant();
+				case HERBIVORE -> cell.getAnimalSpecies() == Species.HERBIVORE;
+				case CARNIVORE -> cell.getAnimalSpecies() == Species.CARNIVORE;
+				default -> throw new IllegalArgumentException(layer.name());
+			};
+			if (occupied) count++;
+		}
+	}
+	return count;
+}
+}
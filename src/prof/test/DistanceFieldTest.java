@@ -0,0 +1,132 @@
+// path: prof/test/DistanceFieldTest.java
+// author: Zakary Gaillard-D.
+// date: 2026-10-18
+// purpose: Tests du champ de distances (Manhattan, réparation incrémentale vs reconstruction)
+
+package prof.test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import student.model.core.Cell;
+import student.model.core.DistanceField;
+import student.model.core.Position;
+import student.model.core.World;
+import student.model.organisms.Animal;
+import student.model.organisms.Carnivore;
+import student.model.organisms.Herbivore;
+import student.model.organisms.Species;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Section: Classe de test
+public class DistanceFieldTest {
+
+private static final int WORLD_WIDTH = 24;
+private static final int WORLD_HEIGHT = 17;
+private World world;
+
+// Section: Setup
+@BeforeEach
+void setUp() {
+	world = new World(WORLD_WIDTH, WORLD_HEIGHT);
+}
+
+// Section: Métrique
+@Test
+@DisplayName("Les distances sont des distances Manhattan bornées par la portée")
+void testManhattanDistances() {
+	place(new Herbivore(5), 5, 5);
+	place(new Herbivore(5), 15, 9);
+	DistanceField field = world.preyField(4);
+	for (int y = 0; y < WORLD_HEIGHT; y++) {
+		for (int x = 0; x < WORLD_WIDTH; x++) {
+			int expected = Math.min(Math.abs(x - 5) + Math.abs(y - 5), Math.abs(x - 15) + Math.abs(y - 9));
+			if (expected > 4) expected = DistanceField.UNREACHED;
+			assertEquals(expected, field.distanceAt(x, y), "distance en (" + x + ", " + y + ")");
+		}
+	}
+}
+
+@Test
+@DisplayName("stepsToward ne retourne que des pas cardinaux qui rapprochent")
+void testStepsTowardCardinal() {
+	place(new Herbivore(5), 8, 8);
+	DistanceField field = world.preyField(4);
+	// En diagonale de la proie: deux pas cardinaux possibles, jamais la diagonale.
+	List<Position> steps = field.stepsToward(new Position(6, 6));
+	assertEquals(List.of(new Position(7, 6), new Position(6, 7)), steps);
+	for (Position step : field.stepsToward(new Position(10, 7))) {
+		assertEquals(1, Math.abs(step.x() - 10) + Math.abs(step.y() - 7), "pas non cardinal: " + step);
+	}
+	assertTrue(field.stepsToward(new Position(8, 8)).isEmpty(), "aucun pas depuis la source");
+	assertTrue(field.stepsToward(new Position(0, 0)).isEmpty(), "aucun pas hors de portée");
+}
+
+@Test
+@DisplayName("stepsAway retourne les cases cardinales libres qui maximisent la distance")
+void testStepsAwayMaximizes() {
+	place(new Carnivore(10), 6, 6);
+	DistanceField field = world.threatField(3);
+	// Menace au nord-ouest: est et sud éloignent à distance 3.
+	assertEquals(List.of(new Position(8, 7), new Position(7, 8)), field.stepsAway(new Position(7, 7)));
+	// Case sud occupée: seule la case est reste.
+	place(new Herbivore(5), 7, 8);
+	assertEquals(List.of(new Position(8, 7)),
+		field.stepsAway(new Position(7, 7), p -> world.getCell(p).isEmptyAnimal()));
+	assertTrue(field.stepsAway(new Position(20, 15)).isEmpty(), "aucune menace en vue");
+}
+
+// Section: Réparation incrémentale
+@Test
+@DisplayName("Les champs réparés restent identiques à une reconstruction complète")
+void testIncrementalMatchesRebuild() {
+	Random random = new Random(7);
+	for (int i = 0; i < 40; i++) {
+		place(random.nextBoolean() ? new Herbivore(5) : new Carnivore(10),
+			random.nextInt(WORLD_WIDTH), random.nextInt(WORLD_HEIGHT));
+	}
+	// Plusieurs portées en cache en même temps: aucune ne doit reconstruire l'autre.
+	DistanceField prey2 = world.preyField(2);
+	DistanceField prey4 = world.preyField(4);
+	DistanceField threat3 = world.threatField(3);
+	assertSame(prey2, world.preyField(2), "le champ de portée 2 doit rester en cache");
+	
+	for (int step = 0; step < 400; step++) {
+		Cell from = world.getCell(new Position(random.nextInt(WORLD_WIDTH), random.nextInt(WORLD_HEIGHT)));
+		Cell to = world.getCell(new Position(random.nextInt(WORLD_WIDTH), random.nextInt(WORLD_HEIGHT)));
+		switch (random.nextInt(3)) {
+			case 0 -> world.transferAnimal(from, to);
+			case 1 -> from.removeAnimal();
+			default -> {
+				if (to.isEmptyAnimal()) place(new Herbivore(5), to.getPosition().x(), to.getPosition().y());
+			}
+		}
+		if (step % 20 == 0) {
+			assertSameField(DistanceField.ofAnimals(world, Species.HERBIVORE, 2), prey2);
+			assertSameField(DistanceField.ofAnimals(world, Species.HERBIVORE, 4), prey4);
+			assertSameField(DistanceField.ofAnimals(world, Species.CARNIVORE, 3), threat3);
+		}
+	}
+	assertSame(prey4, world.preyField(4), "le champ de portée 4 doit rester en cache");
+}
+
+// Section: Utilitaires
+private void place(Animal animal, int x, int y) {
+	Cell cell = world.getCell(new Position(x, y));
+	if (!cell.isEmptyAnimal()) return;
+	animal.setPosition(cell.getPosition());
+	cell.setAnimal(animal);
+}
+
+private static void assertSameField(DistanceField expected, DistanceField actual) {
+	for (int y = 0; y < WORLD_HEIGHT; y++) {
+		for (int x = 0; x < WORLD_WIDTH; x++) {
+			assertEquals(expected.distanceAt(x, y), actual.distanceAt(x, y), "distance en (" + x + ", " + y + ")");
+		}
+	}
+}
+}
@@ -0,0 +1,194 @@
+// path: prof/test/FingerprintTest.java
+// author: Zakary Gaillard-D.
+// date: 2026-10-18
+// purpose: Tests de l'empreinte du monde et de la détection d'états répétés du contrôleur
+
+package prof.test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import student.controller.SimulationController;
+import student.model.core.Cell;
+import student.model.core.Position;
+import student.model.core.World;
+import student.model.organisms.Animal;
+import student.model.organisms.Carnivore;
+import student.model.organisms.Herbivore;
+import student.model.organisms.Organism;
+import student.model.organisms.Plant;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Section: Classe de test
+public class FingerprintTest {
+
+private static final int WORLD_WIDTH = 80;
+private static final int WORLD_HEIGHT = 80;
+private static final int WINDOW = 4096;
+private World world;
+private Plant wanderer;
+
+// Section: Setup
+@BeforeEach
+void setUp() {
+	world = new World(WORLD_WIDTH, WORLD_HEIGHT);
+}
+
+// Section: Empreinte incrémentale
+@Test
+@DisplayName("L'empreinte incrémentale égale celle d'un monde reconstruit après transferts et changements d'énergie")
+void testIncrementalMatchesRecomputed() {
+	Random random = new Random(45L);
+	for (int i = 0; i < 400; i++) {
+		int x = random.nextInt(WORLD_WIDTH);
+		int y = random.nextInt(WORLD_HEIGHT);
+		switch (i % 3) {
+			case 0 -> place(new Plant(1 + random.nextInt(3)), x, y);
+			case 1 -> place(new Herbivore(1 + random.nextInt(10)), x, y);
+			default -> place(new Carnivore(1 + random.nextInt(20)), x, y);
+		}
+	}
+	assertEquals(rebuilt(world).fingerprint(), world.fingerprint());
+
+	for (int i = 0; i < 3000; i++) {
+		Cell from = world.getCell(new Position(random.nextInt(WORLD_WIDTH), random.nextInt(WORLD_HEIGHT)));
+		Cell to = world.getCell(new Position(random.nextInt(WORLD_WIDTH), random.nextInt(WORLD_HEIGHT)));
+		if (from == to) continue;
+		if (i % 2 == 0 && from.hasAnimal() && to.isEmptyAnimal()) {
+			world.transferAnimal(from, to);
+		} else if (from.hasPlant() && to.isEmptyPlant()) {
+			world.transferPlant(from, to);
+		} else if (from.hasAnimal()) {
+			Animal animal = from.getAnimal();
+			int previous = animal.getEnergy();
+			animal.restore(Math.max(1, previous - 1), true);
+			world.energyChanged(animal, previous);
+		}
+		if (i % 500 == 0) assertEquals(rebuilt(world).fingerprint(), world.fingerprint(), "étape " + i);
+	}
+	assertEquals(rebuilt(world).fingerprint(), world.fingerprint());
+}
+
+@Test
+@DisplayName("Un aller-retour de transferts rend l'empreinte de départ")
+void testTransferRoundTrip() {
+	place(new Herbivore(5), 3, 3);
+	place(new Plant(2), 10, 4);
+	long start = world.fingerprint();
+
+	world.transferAnimal(world.getCell(new Position(3, 3)), world.getCell(new Position(4, 3)));
+	world.transferPlant(world.getCell(new Position(10, 4)), world.getCell(new Position(10, 5)));
+	assertNotEquals(start, world.fingerprint());
+	world.transferPlant(world.getCell(new Position(10, 5)), world.getCell(new Position(10, 4)));
+	world.transferAnimal(world.getCell(new Position(4, 3)), world.getCell(new Position(3, 3)));
+	assertEquals(start, world.fingerprint());
+}
+
+// Section: Détection des répétitions
+@Test
+@DisplayName("Un tour qui ne change rien répète l'état du tour 0")
+void testStalledRunRepeats() {
+	place(new Plant(2), 5, 5);
+	SimulationController controller = new SimulationController(world);
+	assertEquals(-1, controller.getRepeatedTurn());
+
+	controller.step();
+	assertEquals(0, controller.getRepeatedTurn());
+	controller.step();
+	assertEquals(0, controller.getRepeatedTurn());
+}
+
+@Test
+@DisplayName("Un cycle d'états est rattaché au premier tour où l'état est apparu")
+void testCycleDetected() {
+	wanderer = new Plant(2);
+	place(wanderer, 5, 5);
+	SimulationController controller = new SimulationController(world);
+
+	moveTo(controller, 1);
+	assertEquals(-1, controller.getRepeatedTurn());
+	moveTo(controller, 2);
+	assertEquals(-1, controller.getRepeatedTurn());
+	moveTo(controller, 1);
+	assertEquals(1, controller.getRepeatedTurn());
+	moveTo(controller, 0);
+	assertEquals(-1, controller.getRepeatedTurn());
+}
+
+@Test
+@DisplayName("Seuls les 4096 derniers états nouveaux sont retenus")
+void testWindowForgetsOldestStates() {
+	wanderer = new Plant(2);
+	place(wanderer, 0, 0);
+	SimulationController controller = new SimulationController(world);
+
+	// Tours 1..4096: un état nouveau par tour, l'état du tour 0 sort de la fenêtre.
+	for (int turn = 1; turn <= WINDOW; turn++) {
+		moveTo(controller, turn);
+		assertEquals(-1, controller.getRepeatedTurn(), "tour " + turn);
+	}
+	moveTo(controller, 0);
+	assertEquals(-1, controller.getRepeatedTurn());
+	// Revenir à l'état du tour 0 l'a réinséré et fait sortir le tour 1.
+	moveTo(controller, 2);
+	assertEquals(2, controller.getRepeatedTurn());
+	moveTo(controller, WINDOW);
+	assertEquals(WINDOW, controller.getRepeatedTurn());
+	moveTo(controller, 1);
+	assertEquals(-1, controller.getRepeatedTurn());
+	assertEquals(WINDOW + 4, controller.getTurn());
+}
+
+// Section: Utilitaires
+/**
+ * Déplace l'unique plante sur la case d'indice {@code index} (ordre ligne par ligne), puis joue un tour.
+ */
+private void moveTo(SimulationController controller, int index) {
+	Position target = new Position(index % WORLD_WIDTH, index / WORLD_WIDTH);
+	if (!wanderer.getPosition().equals(target)) {
+		world.transferPlant(world.getCell(wanderer.getPosition()), world.getCell(target));
+	}
+	controller.step();
+}
+
+private static World rebuilt(World source) {
+	World copy = new World(source.getWidth(), source.getHeight());
+	for (int y = 0; y < source.getHeight(); y++) {
+		for (int x = 0; x < source.getWidth(); x++) {
+			Cell cell = source.getCell(new Position(x, y));
+			if (cell.hasPlant()) placeIn(copy, copyOf(cell.getPlant()), x, y);
+			if (cell.hasAnimal()) placeIn(copy, copyOf(cell.getAnimal()), x, y);
+		}
+	}
+	return copy;
+}
+
+private static Organism copyOf(Organism organism) {
+	Organism copy = switch (organism) {
+		case Plant _ -> new Plant();
+		case Herbivore _ -> new Herbivore();
+		case Carnivore _ -> new Carnivore();
+	};
+	copy.restore(organism.getEnergy(), organism.isAlive());
+	return copy;
+}
+
+private void place(Organism organism, int x, int y) {
+	Cell cell = world.getCell(new Position(x, y));
+	if (organism.getSpecies().isAnimal() ? cell.hasAnimal() : cell.hasPlant()) return;
+	placeIn(world, organism, x, y);
+}
+
+private static void placeIn(World target, Organism organism, int x, int y) {
+	Cell cell = target.getCell(new Position(x, y));
+	organism.setPosition(cell.getPosition());
+	switch (organism) {
+		case Plant plant -> cell.setPlant(plant);
+		case Herbivore herbivore -> cell.setAnimal(herbivore);
+		case Carnivore carnivore -> cell.setAnimal(carnivore);
+	}
+}
+}
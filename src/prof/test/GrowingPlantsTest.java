@@ -0,0 +1,111 @@
+// path: prof/test/GrowingPlantsTest.java
+// author: Zakary Gaillard-D.
+// date: 2026-10-18
+// purpose: Tests de l'ensemble des plantes en croissance et de la couche GROWING
+
+package prof.test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import student.model.core.Cell;
+import student.model.core.OccupancyLayers;
+import student.model.core.Position;
+import student.model.core.World;
+import student.model.organisms.Plant;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Section: Classe de test
+public class GrowingPlantsTest {
+
+private static final int WORLD_WIDTH = 12;
+private static final int WORLD_HEIGHT = 10;
+private World world;
+
+// Section: Setup
+@BeforeEach
+void setUp() {
+	world = new World(WORLD_WIDTH, WORLD_HEIGHT);
+}
+
+// Section: Entrées et sorties
+@Test
+@DisplayName("Les nouvelles plantes sous le plafond entrent dans l'ensemble, les saturées n'y entrent pas")
+void testNewPlantsEnter() {
+	Plant young = place(new Plant(1), 2, 3);
+	Plant half = place(new Plant(2), 7, 1);
+	place(new Plant(3), 4, 4);
+	Plant dead = new Plant(1);
+	dead.restore(1, false);
+	place(dead, 9, 9);
+
+	assertEquals(Set.of(young, half), new HashSet<>(world.growingPlants()));
+	assertGrowingLayerMatches();
+}
+
+@Test
+@DisplayName("Une plante qui atteint le plafond quitte l'ensemble et la couche GROWING")
+void testSaturatedPlantsLeave() {
+	Plant plant = place(new Plant(2), 5, 5);
+	Plant other = place(new Plant(1), 6, 5);
+
+	plant.restore(3, true);
+	world.energyChanged(plant, 2);
+	assertEquals(List.of(other), world.growingPlants());
+	assertFalse(world.getOccupancy().get(OccupancyLayers.Layer.GROWING, 5, 5));
+	assertGrowingLayerMatches();
+
+	plant.restore(1, true);
+	world.energyChanged(plant, 3);
+	assertEquals(Set.of(plant, other), new HashSet<>(world.growingPlants()));
+	assertGrowingLayerMatches();
+}
+
+@Test
+@DisplayName("Retirer, déplacer ou faire mourir une plante garde la couche GROWING alignée sur l'ensemble")
+void testLayerFollowsSlotChanges() {
+	place(new Plant(1), 1, 1);
+	Plant moved = place(new Plant(2), 3, 8);
+	Plant dies = place(new Plant(1), 10, 2);
+	assertGrowingLayerMatches();
+
+	world.getCell(new Position(1, 1)).removePlant();
+	world.transferPlant(world.getCell(new Position(3, 8)), world.getCell(new Position(4, 8)));
+	dies.restore(0, false);
+	world.energyChanged(dies, 1);
+
+	assertEquals(List.of(moved), world.growingPlants());
+	assertTrue(world.getOccupancy().get(OccupancyLayers.Layer.GROWING, 4, 8));
+	assertFalse(world.getOccupancy().get(OccupancyLayers.Layer.GROWING, 3, 8));
+	assertGrowingLayerMatches();
+}
+
+// Section: Utilitaires
+/**
+ * Vérifie que chaque bit de la couche GROWING correspond exactement aux plantes listées.
+ */
+private void assertGrowingLayerMatches() {
+	Set<Position> growing = new HashSet<>();
+	for (Plant plant : world.growingPlants()) growing.add(plant.getPosition());
+	OccupancyLayers layers = world.getOccupancy();
+	for (int y = 0; y < WORLD_HEIGHT; y++) {
+		for (int x = 0; x < WORLD_WIDTH; x++) {
+			assertEquals(growing.contains(new Position(x, y)), layers.get(OccupancyLayers.Layer.GROWING, x, y),
+				"GROWING en (" + x + ", " + y + ")");
+		}
+	}
+	assertEquals(growing.size(), layers.count(OccupancyLayers.Layer.GROWING));
+}
+
+private Plant place(Plant plant, int x, int y) {
+	Cell cell = world.getCell(new Position(x, y));
+	plant.setPosition(cell.getPosition());
+	cell.setPlant(plant);
+	return plant;
+}
+}
@@ -0,0 +1,137 @@
+// path: prof/test/MovementEngineTest.java
+// author: Zakary Gaillard-D.
+// date: 2026-10-18
+// purpose: Tests du moteur de mouvement en deux phases (équivalence séquentielle, conflits)
+
+package prof.test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import student.controller.MovementEngine;
+import student.controller.MovementEngine.TieBreak;
+import student.model.core.Cell;
+import student.model.core.Position;
+import student.model.core.World;
+import student.model.organisms.Animal;
+import student.model.organisms.Carnivore;
+import student.model.organisms.Herbivore;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Section: Classe de test
+public class MovementEngineTest {
+
+private static final int WORLD_WIDTH = 10;
+private static final int WORLD_HEIGHT = 8;
+private static final long SEED = 7L;
+private World world;
+
+// Section: Setup
+@BeforeEach
+void setUp() {
+	world = new World(WORLD_WIDTH, WORLD_HEIGHT);
+}
+
+// Section: Équivalence séquentielle
+@Test
+@DisplayName("Sans conflit, commit équivaut aux transferAnimal séquentiels dans l'ordre du lot")
+void testCommitMatchesSequentialTransfers() {
+	World sequential = new World(WORLD_WIDTH, WORLD_HEIGHT);
+	int[][] from = {{1, 1}, {2, 1}, {5, 4}, {8, 6}};
+	int[][] to = {{1, 2}, {3, 1}, {5, 3}, {7, 6}};
+	List<Animal> movers = spawn(world, from);
+	List<Animal> reference = spawn(sequential, from);
+	Position[] targets = new Position[from.length];
+	for (int i = 0; i < from.length; i++) {
+		targets[i] = new Position(to[i][0], to[i][1]);
+		sequential.transferAnimal(sequential.getCell(reference.get(i).getPosition()), sequential.getCell(targets[i]));
+	}
+
+	assertEquals(from.length, new MovementEngine(TieBreak.PRIORITY).commit(world, movers, targets, SEED));
+	assertSameAnimalLayout(sequential, world);
+	for (int i = 0; i < from.length; i++) {
+		assertEquals(targets[i], movers.get(i).getPosition());
+	}
+}
+
+@Test
+@DisplayName("Un animal dont la destination est déjà occupée reste en place")
+void testCommitKeepsBlockedAnimal() {
+	List<Animal> movers = spawn(world, new int[][] {{4, 4}});
+	Herbivore blocker = new Herbivore(3);
+	Cell cell = world.getCell(new Position(4, 5));
+	blocker.setPosition(cell.getPosition());
+	cell.setAnimal(blocker);
+
+	Position[] targets = {new Position(4, 5)};
+	assertEquals(0, new MovementEngine(TieBreak.PRIORITY).commit(world, movers, targets, SEED));
+	assertEquals(new Position(4, 4), movers.get(0).getPosition());
+	assertSame(blocker, cell.getAnimal());
+}
+
+// Section: Conflits
+@Test
+@DisplayName("PRIORITY: une case disputée revient au premier réclamant du lot")
+void testPriorityFirstClaimantWins() {
+	List<Animal> movers = spawn(world, new int[][] {{5, 4}, {4, 3}, {3, 4}});
+	Position contested = new Position(4, 4);
+	Position[] targets = {contested, contested, contested};
+
+	assertEquals(1, new MovementEngine(TieBreak.PRIORITY).commit(world, movers, targets, SEED));
+	assertSame(movers.get(0), world.getCell(contested).getAnimal());
+	assertEquals(new Position(4, 3), movers.get(1).getPosition());
+	assertEquals(new Position(3, 4), movers.get(2).getPosition());
+}
+
+@Test
+@DisplayName("SEEDED: le gagnant d'une case disputée ne dépend pas de l'ordre du lot")
+void testSeededIndependentOfBatchOrder() {
+	int[][] claimants = {{5, 4}, {4, 3}, {3, 4}, {4, 5}};
+	Position contested = new Position(4, 4);
+	MovementEngine engine = new MovementEngine(TieBreak.SEEDED);
+	for (long seed = 0; seed < 16; seed++) {
+		World forward = new World(WORLD_WIDTH, WORLD_HEIGHT);
+		World backward = new World(WORLD_WIDTH, WORLD_HEIGHT);
+		List<Animal> inOrder = spawn(forward, claimants);
+		List<Animal> reversed = spawn(backward, claimants).reversed();
+		Position[] targets = {contested, contested, contested, contested};
+
+		assertEquals(1, engine.commit(forward, inOrder, targets, seed));
+		assertEquals(1, engine.commit(backward, reversed, targets, seed));
+		assertSameAnimalLayout(forward, backward);
+	}
+}
+
+// Section: Helpers
+private static List<Animal> spawn(World target, int[][] cells) {
+	Animal[] animals = new Animal[cells.length];
+	for (int i = 0; i < cells.length; i++) {
+		// Énergies distinctes pour reconnaître chaque animal d'un monde à l'autre.
+		animals[i] = i % 2 == 0 ? new Herbivore(10 + i) : new Carnivore(10 + i);
+		Cell cell = target.getCell(new Position(cells[i][0], cells[i][1]));
+		animals[i].setPosition(cell.getPosition());
+		cell.setAnimal(animals[i]);
+	}
+	return List.of(animals);
+}
+
+private static void assertSameAnimalLayout(World expected, World actual) {
+	for (int y = 0; y < WORLD_HEIGHT; y++) {
+		for (int x = 0; x < WORLD_WIDTH; x++) {
+			Animal a = expected.getCell(new Position(x, y)).getAnimal();
+			Animal b = actual.getCell(new Position(x, y)).getAnimal();
+			String where = "case (" + x + ", " + y + ")";
+			if (a == null) {
+				assertNull(b, where);
+			} else {
+				assertNotNull(b, where);
+				assertEquals(a.getClass(), b.getClass(), where);
+				assertEquals(a.getEnergy(), b.getEnergy(), where);
+			}
+		}
+	}
+}
+}
@@ -0,0 +1,146 @@
+// path: prof/test/OccupancyLayersTest.java
+// author: Zakary Gaillard-D.
+// date: 2026-10-18
+// purpose: Tests des bitboards d'occupation et des filtres de voisinage qui les utilisent
+
+package prof.test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import prof.utils.RandomGenerator;
+import prof.utils.RandomGenerator.NeighborFilter;
+import student.model.core.Cell;
+import student.model.core.OccupancyLayers;
+import student.model.core.OccupancyLayers.Layer;
+import student.model.core.Position;
+import student.model.core.World;
+import student.model.organisms.Carnivore;
+import student.model.organisms.Herbivore;
+import student.model.organisms.Plant;
+import student.model.organisms.Species;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Section: Classe de test
+public class OccupancyLayersTest {
+
+// Largeur > 64 pour couvrir les frontières de mots.
+private static final int WORLD_WIDTH = 70;
+private static final int WORLD_HEIGHT = 12;
+private World world;
+private OccupancyLayers layers;
+
+// Section: Setup
+@BeforeEach
+void setUp() {
+	world = new World(WORLD_WIDTH, WORLD_HEIGHT);
+	layers = world.getOccupancy();
+}
+
+// Section: Synchronisation avec les cellules
+@Test
+@DisplayName("Les couches suivent les ajouts, retraits et transferts")
+void testLayersFollowSlots() {
+	Cell a = world.getCell(new Position(63, 4));
+	Cell b = world.getCell(new Position(64, 4));
+	a.setAnimal(new Herbivore(5));
+	a.setPlant(new Plant(3));
+	assertTrue(layers.get(Layer.HERBIVORE, 63, 4));
+	assertTrue(layers.get(Layer.ANIMAL, 63, 4));
+	assertTrue(layers.get(Layer.PLANT, 63, 4));
+	assertFalse(layers.get(Layer.CARNIVORE, 63, 4));
+	
+	world.transferAnimal(a, b);
+	assertFalse(layers.get(Layer.ANIMAL, 63, 4), "la case de départ est libérée");
+	assertTrue(layers.get(Layer.HERBIVORE, 64, 4), "la case d'arrivée est occupée");
+	
+	b.removeAnimal();
+	b.setAnimal(new Carnivore(10));
+	assertFalse(layers.get(Layer.HERBIVORE, 64, 4));
+	assertTrue(layers.get(Layer.CARNIVORE, 64, 4));
+	assertEquals(1, layers.count(Layer.ANIMAL));
+	assertEquals(1, layers.count(Layer.PLANT));
+	assertFalse(layers.get(Layer.PLANT, -1, 4), "hors grille: toujours faux");
+}
+
+@Test
+@DisplayName("La couche GROWING ne marque que les plantes sous le maximum")
+void testGrowingLayer() {
+	world.getCell(new Position(1, 1)).setPlant(new Plant(1));
+	world.getCell(new Position(2, 1)).setPlant(new Plant(3));
+	assertTrue(layers.get(Layer.GROWING, 1, 1));
+	assertFalse(layers.get(Layer.GROWING, 2, 1), "plante saturée");
+	world.getCell(new Position(1, 1)).removePlant();
+	assertFalse(layers.get(Layer.GROWING, 1, 1));
+	assertEquals(0, layers.count(Layer.GROWING));
+}
+
+@Test
+@DisplayName("rowBits lit les colonnes à cheval sur deux mots et hors grille")
+void testRowBits() {
+	for (int x : new int[]{0, 60, 63, 64, 69}) world.getCell(new Position(x, 2)).setPlant(new Plant(2));
+	assertEquals(0b11001L, layers.rowBits(Layer.PLANT, 2, 60, 5), "colonnes 60 à 64");
+	assertEquals(1L << 2, layers.rowBits(Layer.PLANT, 2, -2, 4), "colonne 0 au bit 2");
+	assertEquals(1L | 1L << 5, layers.rowBits(Layer.PLANT, 2, 64, 8), "colonnes 64 et 69");
+	assertEquals(0L, layers.rowBits(Layer.PLANT, WORLD_HEIGHT, 0, 64), "ligne hors grille");
+	assertEquals(0b0011L, layers.boundsBits(2, 68, 4), "seules les colonnes 68 et 69 existent");
+}
+
+// Section: Filtres de voisinage
+@Test
+@DisplayName("countNeighbors égale un parcours direct pour chaque filtre et portée")
+void testNeighborFiltersMatchScan() {
+	Random random = new Random(5);
+	for (int y = 0; y < WORLD_HEIGHT; y++) {
+		for (int x = 0; x < WORLD_WIDTH; x++) {
+			Cell cell = world.getCell(new Position(x, y));
+			if (random.nextInt(3) == 0) cell.setPlant(new Plant(2));
+			int roll = random.nextInt(6);
+			if (roll == 0) cell.setAnimal(new Herbivore(5));
+			else if (roll == 1) cell.setAnimal(new Carnivore(10));
+		}
+	}
+	for (NeighborFilter filter : NeighborFilter.values()) {
+		for (int range = 1; range <= 3; range++) {
+			for (int y = 0; y < WORLD_HEIGHT; y++) {
+				for (int x = 0; x < WORLD_WIDTH; x++) {
+					Position pos = new Position(x, y);
+					assertEquals(scan(pos, range, filter), RandomGenerator.countNeighbors(pos, world, range, filter),
+						filter + " portée " + range + " en " + pos);
+				}
+			}
+		}
+	}
+}
+
+// Section: Utilitaires
+private int scan(Position center, int range, NeighborFilter filter) {
+	int radius = range == 3 ? 2 : 1;
+	int count = 0;
+	for (int dy = -radius; dy <= radius; dy++) {
+		for (int dx = -radius; dx <= radius; dx++) {
+			if (dx == 0 && dy == 0) continue;
+			if (range == 1 && dx != 0 && dy != 0) continue;
+			int x = center.x() + dx;
+			int y = center.y() + dy;
+			if (x < 0 || y < 0 || x >= WORLD_WIDTH || y >= WORLD_HEIGHT) continue;
+			Cell cell = world.getCell(new Position(x, y));
+			boolean matches = switch (filter) {
+				case EMPTY -> cell.isEmptyAnimal() && cell.isEmptyPlant();
+				case EMPTY_ANIMAL -> cell.isEmptyAnimal();
+				case EMPTY_PLANT -> cell.isEmptyPlant();
+				case ORGANISM -> cell.hasAnimal() || cell.hasPlant();
+				case PLANT -> cell.hasPlant();
+				case ANIMAL -> cell.hasAnimal();
+				case HERBIVORE -> cell.getAnimalSpecies() == Species.HERBIVORE;
+				case CARNIVORE -> cell.getAnimalSpecies() == Species.CARNIVORE;
+			};
+			if (matches) count++;
+		}
+	}
+	return count;
+}
+}
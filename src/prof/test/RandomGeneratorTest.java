@@ -12,6 +12,9 @@ import prof.utils.RandomGenerator;
 import prof.utils.RandomGenerator.NeighborFilter;
 import student.model.core.Position;
 import student.model.core.World;
+import student.model.organisms.Carnivore;
+import student.model.organisms.Herbivore;
+import student.model.organisms.Plant;
 
 import java.util.*;
 
@@ -227,6 +230,28 @@ void testRandomNeighborOverloads() {
 	assertDoesNotThrow(() -> RandomGenerator.randomNeighbor(center, testWorld, 2));
 }
 
+@Test
+@DisplayName("Test des filtres de voisinage par espèce")
+void testRandomNeighborSpeciesFilters() {
+	Position center = new Position(5, 5);
+	Position herbPos = new Position(6, 4);
+	Position carnPos = new Position(3, 7);
+	testWorld.getCell(herbPos).setAnimal(new Herbivore(3));
+	testWorld.getCell(carnPos).setAnimal(new Carnivore(5));
+	testWorld.getCell(new Position(5, 4)).setPlant(new Plant(1));
+	// Seul l'herbivore est dans le 3x3, les deux animaux sont dans le 5x5
+	for (int i = 0; i < 20; i++) {
+		assertEquals(herbPos, RandomGenerator.randomNeighbor(center, testWorld, 2, NeighborFilter.HERBIVORE), "Herbivore attendu");
+		assertEquals(carnPos, RandomGenerator.randomNeighbor(center, testWorld, 3, NeighborFilter.CARNIVORE), "Carnivore attendu");
+	}
+	assertNull(RandomGenerator.randomNeighbor(center, testWorld, 2, NeighborFilter.CARNIVORE), "Aucun carnivore dans le 3x3");
+	assertEquals(2, RandomGenerator.countNeighbors(center, testWorld, 3, NeighborFilter.ANIMAL), "Deux animaux dans le 5x5");
+	assertEquals(1, RandomGenerator.countNeighbors(center, testWorld, 1, NeighborFilter.PLANT), "Une plante dans la croix");
+	assertEquals(21, RandomGenerator.countNeighbors(center, testWorld, 3, NeighborFilter.EMPTY), "Cases vides du 5x5");
+	// Au coin, seules les cases dans les limites comptent
+	assertEquals(3, RandomGenerator.countNeighbors(new Position(0, 0), testWorld, 2, NeighborFilter.EMPTY), "Coin: 3 voisins");
+}
+
 // Section: Reproductibilité séquence
 @Test
 @DisplayName("Test de reproductibilité complète")
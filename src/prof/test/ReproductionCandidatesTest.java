@@ -0,0 +1,115 @@
+// path: prof/test/ReproductionCandidatesTest.java
+// author: Zakary Gaillard-D.
+// date: 2026-10-18
+// purpose: Tests de l'index des candidats à la reproduction (ordre, entrées périmées, seuils)
+
+package prof.test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import student.model.core.Cell;
+import student.model.core.Position;
+import student.model.core.World;
+import student.model.organisms.Carnivore;
+import student.model.organisms.Herbivore;
+import student.model.organisms.Organism;
+import student.model.organisms.Plant;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Section: Classe de test
+public class ReproductionCandidatesTest {
+
+private static final int WORLD_WIDTH = 12;
+private static final int WORLD_HEIGHT = 10;
+private World world;
+
+// Section: Setup
+@BeforeEach
+void setUp() {
+	world = new World(WORLD_WIDTH, WORLD_HEIGHT);
+}
+
+// Section: Ordre
+@Test
+@DisplayName("Les candidats sortent plantes d'abord, puis animaux, chaque groupe en ordre ligne par ligne")
+void testOrderPlantsFirstThenRowMajor() {
+	Herbivore h1 = place(new Herbivore(8), 5, 1);
+	Plant p1 = place(new Plant(3), 7, 6);
+	Carnivore c1 = place(new Carnivore(14), 2, 1);
+	Plant p2 = place(new Plant(3), 1, 2);
+	Herbivore h2 = place(new Herbivore(9), 9, 0);
+	Plant p3 = place(new Plant(3), 0, 6);
+	place(new Herbivore(3), 4, 4);
+	place(new Carnivore(13), 6, 4);
+	place(new Plant(2), 8, 8);
+
+	assertEquals(List.of(p2, p3, p1, h2, c1, h1), world.reproductionCandidates());
+}
+
+// Section: Entrées périmées
+@Test
+@DisplayName("Les entrées mortes ou retirées de leur case sont écartées")
+void testDeadOrRemovedEntriesDropped() {
+	Herbivore dies = place(new Herbivore(8), 3, 3);
+	Herbivore leaves = place(new Herbivore(8), 5, 5);
+	Plant removed = place(new Plant(3), 2, 7);
+	Carnivore stays = place(new Carnivore(15), 8, 2);
+	assertEquals(4, world.reproductionCandidates().size());
+
+	dies.restore(8, false);
+	world.getCell(new Position(5, 5)).removeAnimal();
+	world.getCell(new Position(2, 7)).removePlant();
+
+	assertEquals(List.of(stays), world.reproductionCandidates());
+	place(leaves, 5, 5);
+	place(removed, 2, 7);
+	assertEquals(List.of(removed, stays, leaves), world.reproductionCandidates());
+}
+
+@Test
+@DisplayName("Un candidat déplacé reste listé, trié selon sa nouvelle position")
+void testMovedEntryFollowsPosition() {
+	Herbivore mover = place(new Herbivore(8), 9, 8);
+	Carnivore fixed = place(new Carnivore(14), 4, 4);
+	assertEquals(List.of(fixed, mover), world.reproductionCandidates());
+
+	world.transferAnimal(world.getCell(new Position(9, 8)), world.getCell(new Position(1, 1)));
+	assertEquals(new Position(1, 1), mover.getPosition());
+	assertEquals(List.of(mover, fixed), world.reproductionCandidates());
+}
+
+// Section: Seuil
+@Test
+@DisplayName("Une entrée sort de l'index quand l'énergie passe sous le seuil, et y revient au-dessus")
+void testThresholdCrossing() {
+	Herbivore herbivore = place(new Herbivore(8), 3, 3);
+	Carnivore carnivore = place(new Carnivore(14), 6, 6);
+
+	herbivore.restore(6, true);
+	world.energyChanged(herbivore, 8);
+	assertEquals(List.of(carnivore), world.reproductionCandidates());
+
+	carnivore.restore(13, true);
+	assertEquals(List.of(), world.reproductionCandidates());
+
+	herbivore.restore(7, true);
+	world.energyChanged(herbivore, 6);
+	assertEquals(List.of(herbivore), world.reproductionCandidates());
+}
+
+// Section: Utilitaires
+private <T extends Organism> T place(T organism, int x, int y) {
+	Cell cell = world.getCell(new Position(x, y));
+	organism.setPosition(cell.getPosition());
+	switch (organism) {
+		case Plant plant -> cell.setPlant(plant);
+		case Herbivore herbivore -> cell.setAnimal(herbivore);
+		case Carnivore carnivore -> cell.setAnimal(carnivore);
+	}
+	return organism;
+}
+}
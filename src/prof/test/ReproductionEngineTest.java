@@ -0,0 +1,140 @@
+// path: prof/test/ReproductionEngineTest.java
+// author: Zakary Gaillard-D.
+// date: 2026-10-18
+// purpose: Tests du moteur de reproduction (placement, conflits indépendants de l'ordre)
+
+package prof.test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import student.controller.ReproductionEngine;
+import student.model.core.Cell;
+import student.model.core.Position;
+import student.model.core.World;
+import student.model.organisms.Carnivore;
+import student.model.organisms.Herbivore;
+import student.model.organisms.Organism;
+import student.model.organisms.Plant;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Section: Classe de test
+public class ReproductionEngineTest {
+
+private static final int WORLD_WIDTH = 12;
+private static final int WORLD_HEIGHT = 10;
+private static final long SEED = 42L;
+private World world;
+private ReproductionEngine engine;
+
+// Section: Setup
+@BeforeEach
+void setUp() {
+	world = new World(WORLD_WIDTH, WORLD_HEIGHT);
+	engine = new ReproductionEngine();
+}
+
+// Section: Placement
+@Test
+@DisplayName("commit place les descendants dans la case visée, sur la bonne couche")
+void testCommitPlacesOffspring() {
+	Plant plant = place(new Plant(), 2, 2);
+	Herbivore herbivore = place(new Herbivore(8), 5, 5);
+	Carnivore carnivore = place(new Carnivore(12), 8, 3);
+	List<Organism> parents = List.of(plant, herbivore, carnivore);
+	Position[] targets = {new Position(2, 3), new Position(6, 5), new Position(8, 4)};
+
+	assertEquals(3, engine.commit(world, parents, targets, SEED));
+	assertInstanceOf(Plant.class, world.getCell(new Position(2, 3)).getPlant());
+	assertInstanceOf(Herbivore.class, world.getCell(new Position(6, 5)).getAnimal());
+	assertInstanceOf(Carnivore.class, world.getCell(new Position(8, 4)).getAnimal());
+	assertEquals(new Position(6, 5), world.getCell(new Position(6, 5)).getAnimal().getPosition());
+}
+
+@Test
+@DisplayName("commit ignore les parents sans cible et les cases déjà occupées")
+void testCommitSkipsMissingAndOccupied() {
+	Herbivore parent = place(new Herbivore(8), 4, 4);
+	Herbivore blocker = place(new Herbivore(3), 4, 5);
+	Herbivore idle = place(new Herbivore(8), 7, 7);
+	Position[] targets = {new Position(4, 5), null};
+
+	assertEquals(0, engine.commit(world, List.of(parent, idle), targets, SEED));
+	assertSame(blocker, world.getCell(new Position(4, 5)).getAnimal());
+	assertTrue(world.getCell(new Position(7, 8)).isEmptyAnimal());
+}
+
+@Test
+@DisplayName("Une plante et un animal visant la même case occupent chacun leur couche")
+void testPlantAndAnimalSlotsIndependent() {
+	Plant plant = place(new Plant(), 3, 3);
+	Herbivore herbivore = place(new Herbivore(8), 4, 4);
+	Position[] targets = {new Position(3, 4), new Position(3, 4)};
+
+	assertEquals(2, engine.commit(world, List.of(plant, herbivore), targets, SEED));
+	Cell cell = world.getCell(new Position(3, 4));
+	assertTrue(cell.hasPlant());
+	assertTrue(cell.hasHerbivore());
+}
+
+// Section: Conflits
+@Test
+@DisplayName("Une case disputée revient au même parent quel que soit l'ordre des réclamations")
+void testContestIndependentOfOrder() {
+	Position contested = new Position(6, 6);
+	boolean herbivoreWon = false;
+	boolean carnivoreWon = false;
+	for (long seed = 0; seed < 32; seed++) {
+		World forward = new World(WORLD_WIDTH, WORLD_HEIGHT);
+		World backward = new World(WORLD_WIDTH, WORLD_HEIGHT);
+		Position[] targets = {contested, contested};
+
+		assertEquals(1, engine.commit(forward, contenders(forward), targets, seed));
+		assertEquals(1, engine.commit(backward, contenders(backward).reversed(), targets, seed));
+		// Le descendant trahit son parent: Herbivore(3) ou Carnivore(5).
+		Class<?> winner = forward.getCell(contested).getAnimal().getClass();
+		assertEquals(winner, backward.getCell(contested).getAnimal().getClass(), "graine " + seed);
+		herbivoreWon |= winner == Herbivore.class;
+		carnivoreWon |= winner == Carnivore.class;
+	}
+	assertTrue(herbivoreWon && carnivoreWon, "le gagnant dépend de la graine, pas de l'ordre");
+}
+
+// Section: Phase complète
+@Test
+@DisplayName("run ne modifie pas le monde quand aucun parent ne peut se reproduire")
+void testRunWithoutCandidates() {
+	place(new Plant(), 1, 1);
+	place(new Herbivore(1), 5, 5);
+	assertEquals(0, engine.run(world, SEED));
+	assertTrue(world.getCell(new Position(1, 2)).isEmptyPlant());
+	assertTrue(world.getCell(new Position(5, 6)).isEmptyAnimal());
+}
+
+// Section: Helpers
+private <T extends Organism> T place(T organism, int x, int y) {
+	Cell cell = world.getCell(new Position(x, y));
+	organism.setPosition(cell.getPosition());
+	switch (organism) {
+		case Plant plant -> cell.setPlant(plant);
+		case Herbivore herbivore -> cell.setAnimal(herbivore);
+		case Carnivore carnivore -> cell.setAnimal(carnivore);
+	}
+	return organism;
+}
+
+private static List<Organism> contenders(World target) {
+	Herbivore herbivore = new Herbivore(10);
+	Carnivore carnivore = new Carnivore(12);
+	Cell north = target.getCell(new Position(6, 5));
+	Cell west = target.getCell(new Position(5, 6));
+	herbivore.setPosition(north.getPosition());
+	north.setAnimal(herbivore);
+	carnivore.setPosition(west.getPosition());
+	west.setAnimal(carnivore);
+	return List.of(herbivore, carnivore);
+}
+}
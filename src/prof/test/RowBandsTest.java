@@ -0,0 +1,77 @@
+// path: prof/test/RowBandsTest.java
+// author: Zakary Gaillard-D.
+// date: 2026-10-18
+// purpose: Tests des bandes de lignes parallèles (couverture, alignement sur les chunks)
+
+package prof.test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import student.model.core.ActivityMap;
+import student.model.core.Cell;
+import student.model.core.Position;
+import student.model.core.RowBands;
+import student.model.core.World;
+import student.model.organisms.Plant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Section: Classe de test
+public class RowBandsTest {
+
+private static final int WORLD_WIDTH = 40;
+private static final int WORLD_HEIGHT = 5 * ActivityMap.CHUNK_SIZE + 3;
+private World world;
+private List<Plant> plants;
+
+// Section: Setup
+@BeforeEach
+void setUp() {
+	world = new World(WORLD_WIDTH, WORLD_HEIGHT);
+	plants = new ArrayList<>();
+	for (int y = 0; y < WORLD_HEIGHT; y++) {
+		for (int x = (y % 3); x < WORLD_WIDTH; x += 3) {
+			Plant plant = new Plant();
+			Cell cell = world.getCell(new Position(x, y));
+			plant.setPosition(cell.getPosition());
+			cell.setPlant(plant);
+			plants.add(plant);
+		}
+	}
+}
+
+// Section: Couverture
+@Test
+@DisplayName("Chaque organisme est visité exactement une fois, en série comme en parallèle")
+void testVisitsEveryItemOnce() {
+	for (int threshold : new int[] {0, Integer.MAX_VALUE}) {
+		Map<Plant, AtomicInteger> visits = new ConcurrentHashMap<>();
+		RowBands.forEach(world, plants, threshold,
+			plant -> visits.computeIfAbsent(plant, p -> new AtomicInteger()).incrementAndGet());
+		assertEquals(plants.size(), visits.size(), "seuil " + threshold);
+		visits.values().forEach(count -> assertEquals(1, count.get(), "seuil " + threshold));
+	}
+}
+
+// Section: Alignement
+@Test
+@DisplayName("Un même chunk n'est jamais visité par deux threads")
+void testBandsAreChunkAligned() {
+	Map<Integer, Thread> owner = new ConcurrentHashMap<>();
+	AtomicInteger conflicts = new AtomicInteger();
+	RowBands.forEach(world, plants, 0, plant -> {
+		Position pos = plant.getPosition();
+		int chunk = (pos.y() / ActivityMap.CHUNK_SIZE) * WORLD_WIDTH + pos.x() / ActivityMap.CHUNK_SIZE;
+		Thread previous = owner.putIfAbsent(chunk, Thread.currentThread());
+		if (previous != null && previous != Thread.currentThread()) conflicts.incrementAndGet();
+	});
+	assertEquals(0, conflicts.get());
+}
+}
@@ -0,0 +1,219 @@
+// path: prof/test/SnapshotRingTest.java
+// author: Zakary Gaillard-D.
+// date: 2026-10-18
+// purpose: Tests de l'historique borné en mémoire (budget, espacement logarithmique, éviction)
+
+package prof.test;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import prof.utils.SnapshotRing;
+import student.model.core.Cell;
+import student.model.core.Position;
+import student.model.core.World;
+import student.model.core.WorldSnapshot;
+import student.model.organisms.Plant;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Section: Classe de test
+public class SnapshotRingTest {
+
+// Deux chunks: chaque tour ne modifie que le premier, donc chaque entrée retient un chunk.
+private static final int WORLD_WIDTH = 32;
+private static final int WORLD_HEIGHT = 16;
+private World world;
+private SnapshotRing ring;
+private Semaphore changes;
+private long chunk;
+
+// Section: Setup
+@BeforeEach
+void setUp() {
+	world = new World(WORLD_WIDTH, WORLD_HEIGHT);
+	WorldSnapshot before = world.snapshot();
+	change(world, 0);
+	chunk = world.snapshot().retainedBytes(before);
+	assertTrue(chunk > 0);
+	ring = new SnapshotRing(SnapshotRing.DEFAULT_BUDGET);
+	changes = new Semaphore(0);
+	ring.setOnChange(changes::release);
+}
+
+@AfterEach
+void tearDown() {
+	ring.dispose();
+}
+
+// Section: Budget
+@Test
+@DisplayName("La mémoire retenue reste sous le budget et égale la somme recalculée des entrées")
+void testBudgetRespected() {
+	ring.setBudget(10 * chunk);
+	await(1);
+	for (int turn = 0; turn < 100; turn++) {
+		record(turn);
+		assertTrue(ring.getUsedBytes() <= 10 * chunk, "tour " + turn);
+		assertEquals(recomputedBytes(), ring.getUsedBytes(), "tour " + turn);
+	}
+	// Première entrée: deux chunks, les suivantes: un chunk chacune.
+	assertEquals(9, ring.turns().length);
+}
+
+@Test
+@DisplayName("setBudget réduit l'historique en gardant la première et la dernière entrée")
+void testSetBudgetShrinks() {
+	for (int turn = 0; turn < 20; turn++) record(turn);
+	assertEquals(20, ring.turns().length);
+	assertEquals(21 * chunk, ring.getUsedBytes());
+
+	ring.setBudget(6 * chunk);
+	await(1);
+	int[] turns = ring.turns();
+	assertEquals(5, turns.length);
+	assertEquals(0, turns[0]);
+	assertEquals(19, turns[turns.length - 1]);
+	assertEquals(6 * chunk, ring.getUsedBytes());
+	assertEquals(recomputedBytes(), ring.getUsedBytes());
+}
+
+// Section: Éviction
+@Test
+@DisplayName("L'éviction retire d'abord les entrées intérieures les plus anciennes, la première en dernier")
+void testEvictionOrder() {
+	for (int turn = 0; turn < 5; turn++) record(turn);
+	assertArrayEquals(new int[]{0, 1, 2, 3, 4}, ring.turns());
+
+	int[][] expected = {{0, 2, 3, 4}, {0, 3, 4}, {0, 4}, {4}};
+	long budget = ring.getUsedBytes();
+	for (int[] turns : expected) {
+		budget -= chunk;
+		ring.setBudget(budget);
+		await(1);
+		assertArrayEquals(turns, ring.turns());
+		assertEquals(recomputedBytes(), ring.getUsedBytes());
+	}
+	// Seule, la dernière entrée retient le monde entier et reste gardée même au-dessus du budget.
+	assertEquals(2 * chunk, ring.getUsedBytes());
+	ring.setBudget(0);
+	await(1);
+	assertArrayEquals(new int[]{4}, ring.turns());
+}
+
+@Test
+@DisplayName("Sur une longue partie l'espacement des tours gardés croît avec leur âge")
+void testLogarithmicSpacing() {
+	int length = 4000;
+	ring.setBudget(20 * chunk);
+	await(1);
+	for (int turn = 0; turn < length; turn++) {
+		change(world, turn);
+		ring.record(turn, world);
+	}
+	await(length);
+
+	int[] turns = ring.turns();
+	int newest = length - 1;
+	assertEquals(0, turns[0]);
+	assertEquals(newest, turns[turns.length - 1]);
+	assertEquals(19, turns.length);
+	assertEquals(newest - 1, turns[turns.length - 2]);
+	assertEquals(newest - 2, turns[turns.length - 3]);
+	assertTrue(turns[1] >= length / 8, "les tours anciens sont espacés: " + turns[1]);
+	for (int i = 1; i < turns.length; i++) {
+		int gap = turns[i] - turns[i - 1];
+		assertTrue(gap <= 2 * (newest - turns[i]) + 1, "écart " + gap + " avant le tour " + turns[i]);
+	}
+}
+
+// Section: Requêtes
+@Test
+@DisplayName("snapshotAt renvoie l'instantané gardé le plus récent au plus tard au tour demandé")
+void testSnapshotAt() {
+	int[] energies = new int[6];
+	for (int turn = 0; turn < 6; turn++) {
+		record(turn);
+		energies[turn] = world.getCell(new Position(0, 0)).getPlant().getEnergy();
+	}
+	ring.setBudget(ring.getUsedBytes() - chunk);
+	await(1);
+	assertArrayEquals(new int[]{0, 2, 3, 4, 5}, ring.turns());
+
+	assertNull(ring.snapshotAt(-1));
+	assertEquals(energies[0], ring.snapshotAt(0).plantEnergyAt(0, 0));
+	assertEquals(energies[0], ring.snapshotAt(1).plantEnergyAt(0, 0));
+	assertEquals(energies[2], ring.snapshotAt(2).plantEnergyAt(0, 0));
+	assertEquals(energies[5], ring.snapshotAt(5).plantEnergyAt(0, 0));
+	assertEquals(energies[5], ring.snapshotAt(100).plantEnergyAt(0, 0));
+	assertEquals(world.fingerprint(), ring.snapshotAt(5).restore().fingerprint());
+}
+
+@Test
+@DisplayName("Un tour qui n'est pas après le plus récent remplace les entrées plus récentes")
+void testRewindReplacesNewer() {
+	for (int turn = 0; turn < 6; turn++) record(turn);
+	record(3);
+	assertArrayEquals(new int[]{0, 1, 2, 3}, ring.turns());
+	assertEquals(recomputedBytes(), ring.getUsedBytes());
+}
+
+@Test
+@DisplayName("Enregistrer un autre monde vide l'historique")
+void testWorldChangeClears() {
+	for (int turn = 0; turn < 4; turn++) record(turn);
+	world = new World(WORLD_WIDTH, WORLD_HEIGHT);
+	record(7);
+	assertArrayEquals(new int[]{7}, ring.turns());
+	assertEquals(2 * chunk, ring.getUsedBytes());
+
+	ring.clear();
+	await(1);
+	assertArrayEquals(new int[0], ring.turns());
+	assertEquals(0, ring.getUsedBytes());
+}
+
+// Section: Utilitaires
+private void record(int turn) {
+	change(world, turn);
+	ring.record(turn, world);
+	await(1);
+}
+
+/**
+ * Attend que le fil de fond ait appliqué {@code count} changements.
+ */
+private void await(int count) {
+	try {
+		assertTrue(changes.tryAcquire(count, 10, TimeUnit.SECONDS), "fil de fond bloqué");
+	} catch (InterruptedException e) {
+		Thread.currentThread().interrupt();
+		fail(e);
+	}
+}
+
+/**
+ * Recalcule la mémoire retenue: chaque entrée gardée contre la précédente.
+ */
+private long recomputedBytes() {
+	long bytes = 0;
+	WorldSnapshot previous = null;
+	for (int turn : ring.turns()) {
+		WorldSnapshot snapshot = ring.snapshotAt(turn);
+		bytes += snapshot.retainedBytes(previous);
+		previous = snapshot;
+	}
+	return bytes;
+}
+
+private static void change(World target, int turn) {
+	Cell cell = target.getCell(new Position(0, 0));
+	Plant plant = new Plant(1 + turn % 3);
+	plant.setPosition(cell.getPosition());
+	cell.setPlant(plant);
+}
+}
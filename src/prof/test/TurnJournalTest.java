@@ -0,0 +1,162 @@
+// path: prof/test/TurnJournalTest.java
+// author: Zakary Gaillard-D.
+// date: 2026-10-18
+// purpose: Tests du journal de tours (aller-retour, images complètes, fichier tronqué)
+
+package prof.test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import prof.utils.TurnJournal;
+import student.model.core.Cell;
+import student.model.core.Position;
+import student.model.core.World;
+import student.model.core.WorldSnapshot;
+import student.model.organisms.Carnivore;
+import student.model.organisms.Herbivore;
+import student.model.organisms.Plant;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Section: Classe de test
+public class TurnJournalTest {
+
+private static final int WORLD_WIDTH = 37;
+private static final int WORLD_HEIGHT = 21;
+private static final int TURNS = 10;
+
+@TempDir
+Path dir;
+
+private World world;
+private Random random;
+
+// Section: Setup
+@BeforeEach
+void setUp() {
+	world = new World(WORLD_WIDTH, WORLD_HEIGHT);
+	random = new Random(5);
+	for (int i = 0; i < 120; i++) mutate();
+}
+
+// Section: Aller-retour
+@Test
+@DisplayName("Chaque tour enregistré se relit à l'identique, images complètes et deltas")
+void testRoundTrip() throws IOException {
+	File file = dir.resolve("run.tpj").toFile();
+	List<WorldSnapshot> expected = new ArrayList<>();
+	try (TurnJournal journal = new TurnJournal(file, world, 0, 3)) {
+		expected.add(world.snapshot());
+		for (int turn = 1; turn <= TURNS; turn++) {
+			for (int i = 0; i < 15; i++) mutate();
+			journal.record(world, turn);
+			expected.add(world.snapshot());
+		}
+	}
+
+	try (TurnJournal.Reader reader = new TurnJournal.Reader(file)) {
+		assertEquals(WORLD_WIDTH, reader.getWidth());
+		assertEquals(WORLD_HEIGHT, reader.getHeight());
+		assertEquals(TURNS + 1, reader.turns().length);
+		// Ordre de lecture volontairement mélangé.
+		for (int turn : new int[] {7, 0, 10, 3, 4, 1, 9, 2, 8, 5, 6}) {
+			assertSameSnapshot(expected.get(turn), reader.snapshotAt(turn), "tour " + turn);
+		}
+		assertThrows(IllegalArgumentException.class, () -> reader.snapshotAt(TURNS + 1));
+	}
+}
+
+@Test
+@DisplayName("Chaque enregistrement est écrit sur disque sans attendre la fermeture")
+void testFlushedPerRecord() throws IOException {
+	File file = dir.resolve("live.tpj").toFile();
+	try (TurnJournal journal = new TurnJournal(file, world, 0, 100)) {
+		mutate();
+		journal.record(world, 1);
+		WorldSnapshot expected = world.snapshot();
+		try (TurnJournal.Reader reader = new TurnJournal.Reader(file)) {
+			assertArrayEquals(new int[] {0, 1}, reader.turns());
+			assertSameSnapshot(expected, reader.snapshotAt(1), "tour 1");
+		}
+	}
+}
+
+@Test
+@DisplayName("Un enregistrement final tronqué est ignoré")
+void testTruncatedTail() throws IOException {
+	File file = dir.resolve("cut.tpj").toFile();
+	WorldSnapshot second;
+	try (TurnJournal journal = new TurnJournal(file, world, 0, 4)) {
+		mutate();
+		journal.record(world, 1);
+		second = world.snapshot();
+		for (int i = 0; i < 30; i++) mutate();
+		journal.record(world, 2);
+	}
+	try (RandomAccessFile raw = new RandomAccessFile(file, "rw")) {
+		raw.setLength(raw.length() - 3);
+	}
+	try (TurnJournal.Reader reader = new TurnJournal.Reader(file)) {
+		assertArrayEquals(new int[] {0, 1}, reader.turns());
+		assertSameSnapshot(second, reader.snapshotAt(1), "tour 1");
+	}
+}
+
+@Test
+@DisplayName("Un fichier qui n'est pas un journal est refusé")
+void testRejectsForeignFile() throws IOException {
+	File file = dir.resolve("foreign.bin").toFile();
+	try (RandomAccessFile raw = new RandomAccessFile(file, "rw")) {
+		raw.writeInt(0xCAFEBABE);
+	}
+	assertThrows(IOException.class, () -> new TurnJournal.Reader(file));
+}
+
+// Section: Helpers
+/**
+ * Random change of one cell: place, replace or remove a plant or an animal.
+ */
+private void mutate() {
+	Cell cell = world.getCell(new Position(random.nextInt(WORLD_WIDTH), random.nextInt(WORLD_HEIGHT)));
+	switch (random.nextInt(5)) {
+		case 0 -> {
+			Plant plant = new Plant(1 + random.nextInt(3));
+			plant.setPosition(cell.getPosition());
+			cell.setPlant(plant);
+		}
+		case 1 -> cell.removePlant();
+		case 2 -> {
+			Herbivore herbivore = new Herbivore(1 + random.nextInt(20));
+			herbivore.setPosition(cell.getPosition());
+			cell.setAnimal(herbivore);
+		}
+		case 3 -> {
+			Carnivore carnivore = new Carnivore(1 + random.nextInt(20));
+			carnivore.setPosition(cell.getPosition());
+			cell.setAnimal(carnivore);
+		}
+		default -> cell.removeAnimal();
+	}
+}
+
+private static void assertSameSnapshot(WorldSnapshot expected, WorldSnapshot actual, String label) {
+	for (int y = 0; y < WORLD_HEIGHT; y++) {
+		for (int x = 0; x < WORLD_WIDTH; x++) {
+			String where = label + ", case (" + x + ", " + y + ")";
+			assertEquals(expected.flagsAt(x, y), actual.flagsAt(x, y), where);
+			assertEquals(expected.plantEnergyAt(x, y), actual.plantEnergyAt(x, y), where);
+			assertEquals(expected.animalEnergyAt(x, y), actual.animalEnergyAt(x, y), where);
+		}
+	}
+}
+}
@@ -0,0 +1,144 @@
+// path: prof/test/WavefrontTest.java
+// author: Zakary Gaillard-D.
+// date: 2026-10-18
+// purpose: Tests du tour fusionné (équivalence avec l'exécution phase par phase, graines)
+
+package prof.test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import prof.utils.RandomGenerator;
+import prof.utils.RandomGenerator.NeighborFilter;
+import student.controller.Wavefront;
+import student.controller.Wavefront.RowStage;
+import student.model.core.Cell;
+import student.model.core.Position;
+import student.model.core.World;
+import student.model.organisms.Herbivore;
+import student.model.organisms.Plant;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Section: Classe de test
+public class WavefrontTest {
+
+private static final int WORLD_WIDTH = 20;
+private static final int WORLD_HEIGHT = 18;
+private static final long SEED = 2026L;
+
+// Section: Setup
+@BeforeEach
+void setUp() {
+	RandomGenerator.reseed(SEED);
+}
+
+// Section: Équivalence
+@Test
+@DisplayName("Un tour fusionné tirant de l'aléatoire égale l'exécution phase par phase")
+void testFusedMatchesPhased() {
+	for (int turn = 0; turn < 4; turn++) {
+		World fused = new World(WORLD_WIDTH, WORLD_HEIGHT);
+		World phased = new World(WORLD_WIDTH, WORLD_HEIGHT);
+		List<String> fusedTrace = new ArrayList<>();
+		List<String> phasedTrace = new ArrayList<>();
+
+		Wavefront.run(fused, stages(fusedTrace), SEED, turn);
+		Wavefront.runPhased(phased, stages(phasedTrace), SEED, turn);
+
+		assertEquals(layout(phased), layout(fused), "tour " + turn);
+		assertEquals(phasedTrace, fusedTrace, "tour " + turn);
+		assertTrue(fusedTrace.size() > 1, "la dernière étape doit placer des herbivores");
+	}
+}
+
+@Test
+@DisplayName("Le tour fusionné ne consomme pas le générateur partagé")
+void testSharedGeneratorUntouched() {
+	Wavefront.run(new World(WORLD_WIDTH, WORLD_HEIGHT), stages(new ArrayList<>()), SEED, 0);
+	long after = RandomGenerator.nextLong();
+	RandomGenerator.reseed(SEED);
+	assertEquals(RandomGenerator.nextLong(), after);
+}
+
+@Test
+@DisplayName("Les tirages dépendent du tour")
+void testDrawsDependOnTurn() {
+	World first = new World(WORLD_WIDTH, WORLD_HEIGHT);
+	World second = new World(WORLD_WIDTH, WORLD_HEIGHT);
+	Wavefront.run(first, stages(new ArrayList<>()), SEED, 1);
+	Wavefront.run(second, stages(new ArrayList<>()), SEED, 2);
+	assertNotEquals(layout(first), layout(second));
+}
+
+// Section: Helpers
+/**
+ * Three stages drawing from the generator: random sowing (reach 0), spreading to a random free
+ * neighbor (reach 1), then herbivores placed on draws and traced (reach 1).
+ */
+private static List<RowStage> stages(List<String> trace) {
+	RowStage sow = new RowStage() {
+		public int reach() { return 0; }
+		public void runRow(World world, int y) {
+			for (int x = 0; x < world.getWidth(); x++) {
+				if (RandomGenerator.chance(0.2)) place(world, new Plant(), x, y);
+			}
+		}
+	};
+	RowStage spread = new RowStage() {
+		public int reach() { return 1; }
+		public void runRow(World world, int y) {
+			for (int x = 0; x < world.getWidth(); x++) {
+				if (!world.getCell(new Position(x, y)).hasPlant()) continue;
+				Position to = RandomGenerator.randomNeighbor(new Position(x, y), world, 1, NeighborFilter.EMPTY_PLANT);
+				if (to != null) place(world, new Plant(), to.x(), to.y());
+			}
+		}
+	};
+	RowStage graze = new RowStage() {
+		public int reach() { return 1; }
+		public void runRow(World world, int y) {
+			for (int x = 0; x < world.getWidth(); x++) {
+				int plants = RandomGenerator.countNeighbors(new Position(x, y), world, 1, NeighborFilter.PLANT);
+				if (plants >= 4 && RandomGenerator.nextBoolean()) {
+					place(world, new Herbivore(1 + RandomGenerator.nextInt(9)), x, y);
+					trace.add(x + "," + y);
+				}
+			}
+		}
+		public void finish(World world) {
+			trace.add("fin " + RandomGenerator.nextInt(1000));
+		}
+	};
+	return List.of(sow, spread, graze);
+}
+
+private static void place(World world, Plant plant, int x, int y) {
+	Cell cell = world.getCell(new Position(x, y));
+	if (!cell.isEmptyPlant()) return;
+	plant.setPosition(cell.getPosition());
+	cell.setPlant(plant);
+}
+
+private static void place(World world, Herbivore herbivore, int x, int y) {
+	Cell cell = world.getCell(new Position(x, y));
+	if (!cell.isEmptyAnimal()) return;
+	herbivore.setPosition(cell.getPosition());
+	cell.setAnimal(herbivore);
+}
+
+private static String layout(World world) {
+	StringBuilder sb = new StringBuilder();
+	for (int y = 0; y < world.getHeight(); y++) {
+		for (int x = 0; x < world.getWidth(); x++) {
+			Cell cell = world.getCell(new Position(x, y));
+			sb.append(cell.hasAnimal() ? (char) ('0' + cell.getAnimal().getEnergy()) : cell.hasPlant() ? 'P' : '.');
+		}
+		sb.append('\n');
+	}
+	return sb.toString();
+}
+}
@@ -0,0 +1,52 @@
+// path: prof/test/WorldAssertions.java
+// author: Zakary Gaillard-D.
+// date: 2026-10-18
+// purpose: Assertions partagées comparant deux mondes case par case
+
+package prof.test;
+
+import student.model.core.Cell;
+import student.model.core.Position;
+import student.model.core.World;
+import student.model.organisms.Organism;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Section: Classe utilitaire
+final class WorldAssertions {
+
+private WorldAssertions() {
+}
+
+// Section: Assertions
+/**
+ * Vérifie que deux mondes ont les mêmes dimensions et, case par case, les mêmes occupants
+ * (classe, énergie, état de vie et position).
+ */
+static void assertSameWorld(World expected, World actual) {
+	assertNotNull(actual);
+	assertEquals(expected.getWidth(), actual.getWidth());
+	assertEquals(expected.getHeight(), actual.getHeight());
+	for (int y = 0; y < expected.getHeight(); y++) {
+		for (int x = 0; x < expected.getWidth(); x++) {
+			Cell a = expected.getCell(new Position(x, y));
+			Cell b = actual.getCell(new Position(x, y));
+			String where = "case (" + x + ", " + y + ")";
+			assertSameOccupant(a.getPlant(), b.getPlant(), b, where);
+			assertSameOccupant(a.getAnimal(), b.getAnimal(), b, where);
+		}
+	}
+}
+
+private static void assertSameOccupant(Organism a, Organism b, Cell cell, String where) {
+	if (a == null) {
+		assertNull(b, where);
+		return;
+	}
+	assertNotNull(b, where);
+	assertEquals(a.getClass(), b.getClass(), where);
+	assertEquals(a.getEnergy(), b.getEnergy(), where);
+	assertEquals(a.isAlive(), b.isAlive(), where);
+	assertEquals(cell.getPosition(), b.getPosition(), where);
+}
+}
@@ -0,0 +1,151 @@
+// path: prof/test/WorldDeathQueueTest.java
+// author: Zakary Gaillard-D.
+// date: 2026-10-18
+// purpose: Tests de la file des morts du monde (enqueueDeath, drainDeaths, entrées périmées)
+
+package prof.test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import student.model.core.Cell;
+import student.model.core.OccupancyLayers;
+import student.model.core.Position;
+import student.model.core.RowBands;
+import student.model.core.World;
+import student.model.organisms.Carnivore;
+import student.model.organisms.Herbivore;
+import student.model.organisms.Organism;
+import student.model.organisms.Plant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Section: Classe de test
+public class WorldDeathQueueTest {
+
+private static final int WORLD_WIDTH = 12;
+private static final int WORLD_HEIGHT = 10;
+private World world;
+
+// Section: Setup
+@BeforeEach
+void setUp() {
+	world = new World(WORLD_WIDTH, WORLD_HEIGHT);
+}
+
+// Section: Placement
+@Test
+@DisplayName("Un occupant déjà mort placé par Cell est mis en file")
+void testDeadOccupantEnqueuedOnPlacement() {
+	place(dead(new Plant(2)), 3, 4);
+	place(dead(new Herbivore(5)), 6, 2);
+	place(new Carnivore(12), 8, 8);
+
+	assertEquals(2, world.pendingDeaths());
+}
+
+@Test
+@DisplayName("Une entrée quitte la file dès que l'organisme quitte sa case")
+void testEntryLeavesQueueWithSlot() {
+	place(dead(new Plant(2)), 3, 4);
+	place(dead(new Herbivore(5)), 6, 2);
+
+	world.getCell(new Position(3, 4)).removePlant();
+	assertEquals(1, world.pendingDeaths());
+	world.getCell(new Position(6, 2)).setAnimal(null);
+	assertEquals(0, world.pendingDeaths());
+}
+
+@Test
+@DisplayName("enqueueDeath ignore un organisme absent de la case de sa position")
+void testEnqueueIgnoresOrganismOffGrid() {
+	Herbivore detached = dead(new Herbivore(5));
+	detached.setPosition(new Position(2, 2));
+	world.enqueueDeath(detached);
+	assertEquals(0, world.pendingDeaths());
+
+	Herbivore eaten = place(new Herbivore(5), 4, 4);
+	world.getCell(new Position(4, 4)).removeAnimal();
+	eaten.restore(0, false);
+	world.enqueueDeath(eaten);
+	assertEquals(0, world.pendingDeaths());
+
+	world.enqueueDeath(null);
+	assertEquals(0, world.pendingDeaths());
+}
+
+// Section: Vidage
+@Test
+@DisplayName("drainDeaths retire chaque mort de sa case puis vide la file")
+void testDrainRemovesDeadOccupants() {
+	place(dead(new Plant(2)), 3, 4);
+	Herbivore herbivore = place(dead(new Herbivore(5)), 3, 4);
+	Carnivore alive = place(new Carnivore(12), 8, 8);
+
+	assertEquals(2, world.drainDeaths());
+	assertTrue(world.getCell(new Position(3, 4)).isCompletelyEmpty());
+	assertSame(alive, world.getCell(new Position(8, 8)).getAnimal());
+	assertEquals(0, world.pendingDeaths());
+	assertFalse(world.getOccupancy().get(OccupancyLayers.Layer.ANIMAL, 3, 4));
+	assertFalse(herbivore.isAlive());
+	assertEquals(0, world.drainDeaths());
+}
+
+@Test
+@DisplayName("drainDeaths saute les entrées redevenues vivantes")
+void testDrainSkipsStaleEntries() {
+	Plant revived = place(dead(new Plant(2)), 3, 4);
+	place(dead(new Herbivore(5)), 6, 2);
+	revived.restore(2, true);
+
+	assertEquals(2, world.pendingDeaths());
+	assertEquals(1, world.drainDeaths());
+	assertSame(revived, world.getCell(new Position(3, 4)).getPlant());
+	assertTrue(world.getCell(new Position(6, 2)).isEmptyAnimal());
+	assertEquals(0, world.pendingDeaths());
+}
+
+@Test
+@DisplayName("drainDeaths en bandes parallèles retire les mêmes occupants qu'en série")
+void testParallelDrainMatchesSerial() {
+	int width = 200;
+	int height = 100;
+	assertTrue(width * height >= RowBands.DEFAULT_THRESHOLD);
+	World serial = new World(width, height);
+	World parallel = new World(width, height);
+	for (World target : new World[]{serial, parallel}) {
+		world = target;
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				if ((x + y) % 3 == 0) place(dead(new Plant(1)), x, y);
+				else if ((x * y) % 5 == 1) place(new Plant(2), x, y);
+				if ((x + 2 * y) % 7 == 0) place(dead(new Herbivore(4)), x, y);
+			}
+		}
+	}
+
+	int expected = serial.pendingDeaths();
+	assertTrue(expected > 0);
+	assertEquals(expected, serial.drainDeaths());
+	assertEquals(expected, parallel.drainDeaths(0));
+	assertEquals(serial.fingerprint(), parallel.fingerprint());
+	assertEquals(0, parallel.pendingDeaths());
+}
+
+// Section: Utilitaires
+private static <T extends Organism> T dead(T organism) {
+	organism.restore(organism.getEnergy(), false);
+	return organism;
+}
+
+private <T extends Organism> T place(T organism, int x, int y) {
+	Cell cell = world.getCell(new Position(x, y));
+	organism.setPosition(cell.getPosition());
+	switch (organism) {
+		case Plant plant -> cell.setPlant(plant);
+		case Herbivore herbivore -> cell.setAnimal(herbivore);
+		case Carnivore carnivore -> cell.setAnimal(carnivore);
+	}
+	return organism;
+}
+}
@@ -0,0 +1,133 @@
+// path: prof/test/WorldGeneratorTest.java
+// author: Zakary Gaillard-D.
+// date: 2026-10-18
+// purpose: Tests du générateur de mondes (déterminisme, densités, énergies)
+
+package prof.test;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import prof.utils.WorldGenerator;
+import prof.utils.WorldGenerator.Settings;
+import student.model.core.Cell;
+import student.model.core.Position;
+import student.model.core.World;
+import student.model.organisms.Organism;
+import student.model.organisms.Species;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Section: Classe de test
+public class WorldGeneratorTest {
+
+private static final int WORLD_WIDTH = 120;
+private static final int WORLD_HEIGHT = 90;
+private static final long SEED = 31337L;
+
+// Section: Déterminisme
+@Test
+@DisplayName("Les mêmes réglages donnent le même monde")
+void testSameSettingsSameWorld() {
+	Settings settings = Settings.of(WORLD_WIDTH, WORLD_HEIGHT, SEED);
+	World first = WorldGenerator.generate(settings);
+	World second = WorldGenerator.generate(settings);
+	assertEquals(layout(first), layout(second));
+	assertEquals(first.fingerprint(), second.fingerprint());
+}
+
+@Test
+@DisplayName("Le monde ne dépend pas du nombre de threads")
+void testIndependentOfThreadCount() throws Exception {
+	Settings settings = Settings.of(WORLD_WIDTH, WORLD_HEIGHT, SEED).withClustering(0.8, 8);
+	ForkJoinPool single = new ForkJoinPool(1);
+	ForkJoinPool many = new ForkJoinPool(4);
+	try {
+		World serial = single.submit(() -> WorldGenerator.generate(settings)).get();
+		World parallel = many.submit(() -> WorldGenerator.generate(settings)).get();
+		assertEquals(layout(serial), layout(parallel));
+	} finally {
+		single.shutdown();
+		many.shutdown();
+	}
+}
+
+@Test
+@DisplayName("Une autre graine donne un autre monde")
+void testSeedChangesWorld() {
+	World first = WorldGenerator.generate(Settings.of(WORLD_WIDTH, WORLD_HEIGHT, SEED));
+	World second = WorldGenerator.generate(Settings.of(WORLD_WIDTH, WORLD_HEIGHT, SEED + 1));
+	assertNotEquals(layout(first), layout(second));
+}
+
+// Section: Densités et énergies
+@Test
+@DisplayName("Sans regroupement, les densités observées suivent les réglages")
+void testDensities() {
+	Settings settings = Settings.of(WORLD_WIDTH, WORLD_HEIGHT, SEED)
+		.withDensities(0.40, 0.10, 0.05).withClustering(0, 16);
+	World world = WorldGenerator.generate(settings);
+	int cells = WORLD_WIDTH * WORLD_HEIGHT;
+	assertEquals(0.40, count(world, Species.PLANT) / (double) cells, 0.03);
+	assertEquals(0.10, count(world, Species.HERBIVORE) / (double) cells, 0.02);
+	assertEquals(0.05, count(world, Species.CARNIVORE) / (double) cells, 0.015);
+}
+
+@Test
+@DisplayName("Les énergies restent dans les intervalles configurés")
+void testEnergyRanges() {
+	Settings settings = Settings.of(WORLD_WIDTH, WORLD_HEIGHT, SEED)
+		.withEnergies(Species.HERBIVORE, 3, 6).withEnergies(Species.CARNIVORE, 5, 5);
+	World world = WorldGenerator.generate(settings);
+	for (int y = 0; y < WORLD_HEIGHT; y++) {
+		for (int x = 0; x < WORLD_WIDTH; x++) {
+			Cell cell = world.getCell(new Position(x, y));
+			for (Organism organism : new Organism[] {cell.getPlant(), cell.getAnimal()}) {
+				if (organism == null) continue;
+				Species species = organism.getSpecies();
+				assertTrue(organism.getEnergy() >= settings.minEnergy(species)
+					&& organism.getEnergy() <= settings.maxEnergy(species), species + " en (" + x + ", " + y + ")");
+				assertEquals(cell.getPosition(), organism.getPosition());
+			}
+		}
+	}
+}
+
+@Test
+@DisplayName("Des réglages invalides sont refusés")
+void testInvalidSettings() {
+	Settings settings = Settings.of(10, 10, SEED);
+	assertThrows(IllegalArgumentException.class, () -> settings.withDensities(0.5, 0.7, 0.4));
+	assertThrows(IllegalArgumentException.class, () -> settings.withEnergies(Species.PLANT, 2, 1));
+	assertThrows(IllegalArgumentException.class, () -> settings.withSize(0, 10));
+}
+
+// Section: Helpers
+private static int count(World world, Species species) {
+	int total = 0;
+	for (int y = 0; y < world.getHeight(); y++) {
+		for (int x = 0; x < world.getWidth(); x++) {
+			Cell cell = world.getCell(new Position(x, y));
+			Organism organism = species == Species.PLANT ? cell.getPlant() : cell.getAnimal();
+			if (organism != null && organism.getSpecies() == species) total++;
+		}
+	}
+	return total;
+}
+
+private static String layout(World world) {
+	StringBuilder sb = new StringBuilder();
+	for (int y = 0; y < world.getHeight(); y++) {
+		for (int x = 0; x < world.getWidth(); x++) {
+			Cell cell = world.getCell(new Position(x, y));
+			sb.append(cell.hasPlant() ? cell.getPlant().getEnergy() : 0);
+			sb.append(cell.hasHerbivore() ? 'h' : cell.hasCarnivore() ? 'c' : '.');
+			if (cell.hasAnimal()) sb.append(cell.getAnimal().getEnergy());
+			sb.append(' ');
+		}
+		sb.append('\n');
+	}
+	return sb.toString();
+}
+}
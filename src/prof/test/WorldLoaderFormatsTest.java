@@ -0,0 +1,211 @@
+// path: prof/test/WorldLoaderFormatsTest.java
+// author: Zakary Gaillard-D.
+// date: 2026-10-18
+// purpose: Tests des formats de monde (JSON texte, JSON mappé en parallèle, RLE)
+
+package prof.test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import prof.utils.WorldLoader;
+import student.model.core.Cell;
+import student.model.core.Position;
+import student.model.core.RowBands;
+import student.model.core.World;
+import student.model.organisms.Carnivore;
+import student.model.organisms.Herbivore;
+import student.model.organisms.Organism;
+import student.model.organisms.Plant;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static prof.test.WorldAssertions.assertSameWorld;
+
+// Section: Classe de test
+public class WorldLoaderFormatsTest {
+
+private static final int WORLD_WIDTH = 70;
+private static final int WORLD_HEIGHT = 45;
+// Taille minimale d'un segment d'analyse parallèle (WorldLoader.MIN_SEGMENT_BYTES).
+private static final int MIN_SEGMENT_BYTES = 1 << 16;
+
+@TempDir
+Path dir;
+
+private World world;
+private String json;
+
+// Section: Setup
+@BeforeEach
+void setUp() throws IOException {
+	world = new World(WORLD_WIDTH, WORLD_HEIGHT);
+	for (int y = 0; y < WORLD_HEIGHT; y++) {
+		for (int x = 0; x < WORLD_WIDTH; x++) {
+			int k = (x * 31 + y * 17) % 13;
+			if (k < 5) place(new Plant(1 + k % 3), x, y);
+			if (k == 2 || k == 7) place(new Herbivore(1 + (x + y) % 9), x, y);
+			if (k == 9) place(new Carnivore(1 + (x * y) % 12), x, y);
+		}
+	}
+	StringWriter out = new StringWriter();
+	WorldLoader.writeJson(world, out);
+	json = out.toString();
+}
+
+// Section: JSON
+@Test
+@DisplayName("Le JSON texte relu redonne le monde écrit")
+void testTextJson() throws IOException {
+	Path file = dir.resolve("world.json");
+	Files.writeString(file, json, StandardCharsets.UTF_8);
+	assertTrue(Files.size(file) < WorldLoader.PARALLEL_THRESHOLD_BYTES);
+	assertSameWorld(world, WorldLoader.load(file.toString()));
+}
+
+@Test
+@DisplayName("Le JSON mappé en mémoire et analysé en parallèle égale l'analyse texte, conflits résolus dans l'ordre du fichier")
+void testMappedJsonMatchesText() throws IOException {
+	// Monde au-dessus du seuil des bandes parallèles, tableaux de plusieurs segments d'analyse.
+	int width = 200;
+	int height = 100;
+	assertTrue(width * height > RowBands.DEFAULT_THRESHOLD);
+	Random random = new Random(47L);
+	List<Integer> cells = new ArrayList<>();
+	for (int i = 0; i < width * height; i++) cells.add(i);
+	Collections.shuffle(cells, random);
+	List<int[]> plants = entries(random, cells.subList(0, 12000), 3, width);
+	Collections.shuffle(cells, random);
+	List<int[]> herbivores = entries(random, cells.subList(0, 8000), 10, width);
+	List<int[]> carnivores = entries(random, cells.subList(8000, 11000), 20, width);
+	// Un carnivore sur une case déjà prise par un herbivore: le premier dans le fichier gagne.
+	for (int i = 0; i < 200; i++) {
+		int[] herbivore = herbivores.get(random.nextInt(herbivores.size()));
+		carnivores.add(random.nextInt(carnivores.size()), new int[]{1 + random.nextInt(20), herbivore[1], herbivore[2]});
+	}
+
+	String compact = worldJson(width, height, plants, herbivores, carnivores, "");
+	int padding = (int) (WorldLoader.PARALLEL_THRESHOLD_BYTES / (plants.size() + herbivores.size() + carnivores.size())) + 1;
+	String padded = worldJson(width, height, plants, herbivores, carnivores, " ".repeat(padding));
+	assertTrue(padded.indexOf("\"herbivores\"") - padded.indexOf("\"plants\"") > 8 * MIN_SEGMENT_BYTES);
+	Path small = dir.resolve("small.json");
+	Files.writeString(small, compact, StandardCharsets.UTF_8);
+	Path large = dir.resolve("large.json");
+	Files.writeString(large, padded, StandardCharsets.UTF_8);
+	assertTrue(Files.size(small) < WorldLoader.PARALLEL_THRESHOLD_BYTES);
+	assertTrue(Files.size(large) >= WorldLoader.PARALLEL_THRESHOLD_BYTES);
+
+	// Référence: chaque case garde la première entrée du fichier qui la vise.
+	World expected = new World(width, height);
+	world = expected;
+	for (int[] e : plants) {
+		if (expected.getCell(new Position(e[1], e[2])).isEmptyPlant()) place(new Plant(e[0]), e[1], e[2]);
+	}
+	for (int[] e : herbivores) {
+		if (expected.getCell(new Position(e[1], e[2])).isEmptyAnimal()) place(new Herbivore(e[0]), e[1], e[2]);
+	}
+	for (int[] e : carnivores) {
+		if (expected.getCell(new Position(e[1], e[2])).isEmptyAnimal()) place(new Carnivore(e[0]), e[1], e[2]);
+	}
+
+	World text = WorldLoader.load(small.toString());
+	World mapped = WorldLoader.load(large.toString());
+	assertSameWorld(expected, text);
+	assertSameWorld(expected, mapped);
+	assertEquals(expected.fingerprint(), mapped.fingerprint());
+}
+
+// Section: RLE
+@Test
+@DisplayName("Le format RLE relu égale le monde et le JSON équivalent")
+void testRleMatchesJson() throws IOException {
+	StringWriter out = new StringWriter();
+	WorldLoader.writeRle(world, out);
+	World fromReader = WorldLoader.readRle(new BufferedReader(new StringReader(out.toString())));
+	assertSameWorld(world, fromReader);
+
+	Path rle = dir.resolve("world" + WorldLoader.RLE_EXTENSION);
+	WorldLoader.save(world, rle.toString());
+	Path text = dir.resolve("world.json");
+	Files.writeString(text, json, StandardCharsets.UTF_8);
+	World fromFile = WorldLoader.load(rle.toString());
+	assertSameWorld(WorldLoader.load(text.toString()), fromFile);
+	assertTrue(Files.size(rle) < Files.size(text), "le RLE doit être plus compact que le JSON");
+}
+
+@Test
+@DisplayName("Un monde vide s'écrit et se relit dans les deux formats")
+void testEmptyWorld() throws IOException {
+	World empty = new World(9, 4);
+	StringWriter rle = new StringWriter();
+	WorldLoader.writeRle(empty, rle);
+	assertSameWorld(empty, WorldLoader.readRle(new BufferedReader(new StringReader(rle.toString()))));
+
+	Path file = dir.resolve("empty.json");
+	WorldLoader.save(empty, file.toString());
+	assertSameWorld(empty, WorldLoader.load(file.toString()));
+}
+
+// Section: Helpers
+/**
+ * Crée une entrée {energy, posx, posy} par case distincte; une sur cent reprend la case d'une
+ * entrée précédente.
+ */
+private static List<int[]> entries(Random random, List<Integer> cells, int maxEnergy, int width) {
+	List<int[]> entries = new ArrayList<>(cells.size());
+	for (int i = 0; i < cells.size(); i++) {
+		int energy = 1 + random.nextInt(maxEnergy);
+		if (i > 0 && i % 100 == 0) {
+			int[] earlier = entries.get(random.nextInt(i));
+			entries.add(new int[]{energy, earlier[1], earlier[2]});
+		} else {
+			entries.add(new int[]{energy, cells.get(i) % width, cells.get(i) / width});
+		}
+	}
+	return entries;
+}
+
+private static String worldJson(int width, int height, List<int[]> plants, List<int[]> herbivores,
+                                List<int[]> carnivores, String padding) {
+	StringBuilder out = new StringBuilder();
+	out.append("{\n  \"world\": {\"width\": ").append(width).append(", \"height\": ").append(height).append("},\n");
+	appendArray(out, "plants", plants, padding);
+	out.append(",\n");
+	appendArray(out, "herbivores", herbivores, padding);
+	out.append(",\n");
+	appendArray(out, "carnivores", carnivores, padding);
+	return out.append("\n}\n").toString();
+}
+
+private static void appendArray(StringBuilder out, String name, List<int[]> entries, String padding) {
+	out.append("  \"").append(name).append("\": [");
+	for (int i = 0; i < entries.size(); i++) {
+		int[] e = entries.get(i);
+		out.append(i == 0 ? "\n" : ",\n").append(padding);
+		out.append("    {\"energy\": ").append(e[0]).append(", \"posx\": ").append(e[1]).append(", \"posy\": ").append(e[2]).append("}");
+	}
+	out.append("\n  ]");
+}
+
+private void place(Organism organism, int x, int y) {
+	Cell cell = world.getCell(new Position(x, y));
+	organism.setPosition(cell.getPosition());
+	switch (organism) {
+		case Plant plant -> cell.setPlant(plant);
+		case Herbivore herbivore -> cell.setAnimal(herbivore);
+		case Carnivore carnivore -> cell.setAnimal(carnivore);
+	}
+}
+}
@@ -0,0 +1,181 @@
+// path: prof/test/WorldLoaderProgressTest.java
+// author: Zakary Gaillard-D.
+// date: 2026-10-18
+// purpose: Tests de la progression et de l'annulation du chargement de monde
+
+package prof.test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import prof.utils.WorldLoader;
+import student.model.core.Cell;
+import student.model.core.Position;
+import student.model.core.World;
+import student.model.organisms.Carnivore;
+import student.model.organisms.Herbivore;
+import student.model.organisms.Organism;
+import student.model.organisms.Plant;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static prof.test.WorldAssertions.assertSameWorld;
+
+// Section: Classe de test
+public class WorldLoaderProgressTest {
+
+private static final int WORLD_WIDTH = 120;
+private static final int WORLD_HEIGHT = 60;
+
+@TempDir
+Path dir;
+
+private World world;
+private int organisms;
+private String json;
+
+// Section: Setup
+@BeforeEach
+void setUp() throws IOException {
+	world = new World(WORLD_WIDTH, WORLD_HEIGHT);
+	organisms = 0;
+	for (int y = 0; y < WORLD_HEIGHT; y++) {
+		for (int x = 0; x < WORLD_WIDTH; x++) {
+			int k = (x * 31 + y * 17) % 13;
+			if (k < 5) place(new Plant(1 + k % 3), x, y);
+			if (k == 2 || k == 7) place(new Herbivore(1 + (x + y) % 9), x, y);
+			if (k == 9) place(new Carnivore(1 + (x * y) % 12), x, y);
+		}
+	}
+	StringWriter out = new StringWriter();
+	WorldLoader.writeJson(world, out);
+	json = out.toString();
+}
+
+// Section: Totaux
+@Test
+@DisplayName("Les deux rapports atteignent leur total en JSON texte")
+void testTextJsonReportsTotals() throws IOException {
+	Path file = dir.resolve("world.json");
+	Files.writeString(file, json, StandardCharsets.UTF_8);
+	assertTrue(Files.size(file) > 2 * (1 << 16), "plusieurs rapports d'octets attendus");
+
+	Recorder recorder = new Recorder(Integer.MAX_VALUE);
+	assertSameWorld(world, WorldLoader.load(file.toString(), recorder));
+	recorder.assertTotals(Files.size(file), organisms);
+}
+
+@Test
+@DisplayName("Les deux rapports atteignent leur total en JSON mappé")
+void testMappedJsonReportsTotals() throws IOException {
+	Path file = writeMapped();
+	Recorder recorder = new Recorder(Integer.MAX_VALUE);
+	assertSameWorld(world, WorldLoader.load(file.toString(), recorder));
+	recorder.assertTotals(Files.size(file), organisms);
+}
+
+@Test
+@DisplayName("Les deux rapports atteignent leur total en RLE")
+void testRleReportsTotals() throws IOException {
+	Path file = dir.resolve("world" + WorldLoader.RLE_EXTENSION);
+	WorldLoader.save(world, file.toString());
+	Recorder recorder = new Recorder(Integer.MAX_VALUE);
+	assertSameWorld(world, WorldLoader.load(file.toString(), recorder));
+	recorder.assertTotals(Files.size(file), organisms);
+}
+
+// Section: Annulation
+@Test
+@DisplayName("Annuler après le premier rapport fait échouer le chargement JSON texte")
+void testTextJsonCancelled() throws IOException {
+	Path file = dir.resolve("world.json");
+	Files.writeString(file, json, StandardCharsets.UTF_8);
+	Recorder recorder = new Recorder(1);
+	assertThrows(CancellationException.class, () -> WorldLoader.load(file.toString(), recorder));
+	assertEquals(1, recorder.reports);
+}
+
+@Test
+@DisplayName("Annuler après le premier rapport fait échouer le chargement JSON mappé")
+void testMappedJsonCancelled() throws IOException {
+	Path file = writeMapped();
+	Recorder recorder = new Recorder(1);
+	assertThrows(CancellationException.class, () -> WorldLoader.load(file.toString(), recorder));
+	assertTrue(recorder.placedTotal < 0, "le placement ne doit pas commencer");
+}
+
+// Section: Utilitaires
+/**
+ * Écrit le JSON complété d'espaces avant l'accolade finale pour passer par le chemin mappé.
+ */
+private Path writeMapped() throws IOException {
+	Path file = dir.resolve("large.json");
+	int close = json.lastIndexOf('}');
+	String padding = " ".repeat((int) WorldLoader.PARALLEL_THRESHOLD_BYTES);
+	Files.writeString(file, json.substring(0, close) + padding + json.substring(close), StandardCharsets.UTF_8);
+	assertTrue(Files.size(file) >= WorldLoader.PARALLEL_THRESHOLD_BYTES);
+	return file;
+}
+
+private void place(Organism organism, int x, int y) {
+	Cell cell = world.getCell(new Position(x, y));
+	organism.setPosition(cell.getPosition());
+	switch (organism) {
+		case Plant plant -> cell.setPlant(plant);
+		case Herbivore herbivore -> cell.setAnimal(herbivore);
+		case Carnivore carnivore -> cell.setAnimal(carnivore);
+	}
+	organisms++;
+}
+
+/**
+ * Progression qui garde les plus grandes valeurs rapportées et s'annule après {@code cancelAfter}
+ * rapports.
+ */
+private static final class Recorder implements WorldLoader.Progress {
+	private final int cancelAfter;
+	private int reports;
+	private long bytes = -1;
+	private long bytesTotal = -1;
+	private int placed = -1;
+	private int placedTotal = -1;
+
+	Recorder(int cancelAfter) {
+		this.cancelAfter = cancelAfter;
+	}
+
+	@Override
+	public synchronized void bytesRead(long bytes, long total) {
+		reports++;
+		this.bytes = Math.max(this.bytes, bytes);
+		this.bytesTotal = total;
+	}
+
+	@Override
+	public synchronized void organismsPlaced(int placed, int total) {
+		reports++;
+		this.placed = Math.max(this.placed, placed);
+		this.placedTotal = total;
+	}
+
+	@Override
+	public synchronized boolean isCancelled() {
+		return reports >= cancelAfter;
+	}
+
+	synchronized void assertTotals(long fileBytes, int organisms) {
+		assertTrue(reports > 1);
+		assertEquals(fileBytes, bytesTotal);
+		assertEquals(bytesTotal, bytes);
+		assertEquals(organisms, placedTotal);
+		assertEquals(placedTotal, placed);
+	}
+}
+}
@@ -0,0 +1,160 @@
+// path: prof/test/WorldSnapshotTest.java
+// author: Zakary Gaillard-D.
+// date: 2026-10-18
+// purpose: Tests des instantanés (capture, restauration, partage des chunks, forks)
+
+package prof.test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import student.model.core.ActivityMap;
+import student.model.core.Cell;
+import student.model.core.Position;
+import student.model.core.World;
+import student.model.core.WorldSnapshot;
+import student.model.organisms.Carnivore;
+import student.model.organisms.Herbivore;
+import student.model.organisms.Organism;
+import student.model.organisms.Plant;
+
+import java.lang.ref.WeakReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static prof.test.WorldAssertions.assertSameWorld;
+
+// Section: Classe de test
+public class WorldSnapshotTest {
+
+private static final int WORLD_WIDTH = 40;
+private static final int WORLD_HEIGHT = 35;
+private World world;
+
+// Section: Setup
+@BeforeEach
+void setUp() {
+	world = new World(WORLD_WIDTH, WORLD_HEIGHT);
+	for (int y = 0; y < WORLD_HEIGHT; y++) {
+		for (int x = 0; x < WORLD_WIDTH; x++) {
+			int k = (x * 7 + y * 13) % 11;
+			if (k < 3) placePlant(world, restored(new Plant(), 1 + k, true), x, y);
+			if (k == 4) placeAnimal(world, new Herbivore(2 + x % 5), x, y);
+			if (k == 6) placeAnimal(world, new Carnivore(3 + y % 4), x, y);
+		}
+	}
+	// Occupants morts en attente de nettoyage.
+	placePlant(world, restored(new Plant(), 0, false), 39, 34);
+	placeAnimal(world, restored(new Herbivore(), 0, false), 39, 33);
+}
+
+// Section: Capture et restauration
+@Test
+@DisplayName("restore reconstruit un monde identique, morts compris")
+void testRoundTrip() {
+	WorldSnapshot snapshot = world.snapshot();
+	World restored = snapshot.restore();
+	assertSameWorld(world, restored);
+	assertEquals(world.fingerprint(), restored.fingerprint());
+	assertEquals(0, snapshot.flagsAt(39, 34) & WorldSnapshot.PLANT_ALIVE);
+	assertNotEquals(0, snapshot.flagsAt(39, 34) & WorldSnapshot.PLANT);
+}
+
+@Test
+@DisplayName("L'instantané ne suit pas les changements ultérieurs du monde")
+void testSnapshotIsImmutable() {
+	WorldSnapshot snapshot = world.snapshot();
+	byte before = snapshot.flagsAt(0, 0);
+	world.getCell(new Position(0, 0)).removePlant();
+	world.getCell(new Position(0, 0)).removeAnimal();
+	assertEquals(before, snapshot.flagsAt(0, 0));
+}
+
+// Section: Partage des chunks
+@Test
+@DisplayName("Les chunks inchangés sont partagés entre instantanés successifs")
+void testChunkSharing() {
+	int chunks = ceil(WORLD_WIDTH) * ceil(WORLD_HEIGHT);
+	WorldSnapshot first = world.snapshot();
+	WorldSnapshot second = world.snapshot();
+	assertEquals(chunks, second.sharedChunks(first));
+
+	placeAnimal(world, new Herbivore(4), 20, 20);
+	world.getCell(new Position(20, 20)).removeAnimal();
+	WorldSnapshot third = world.snapshot();
+	assertEquals(chunks - 1, third.sharedChunks(second));
+	assertFalse(third.sharesChunk(second, 20 / ActivityMap.CHUNK_SIZE, 20 / ActivityMap.CHUNK_SIZE));
+	assertTrue(third.sharesChunk(second, 0, 0));
+	assertEquals(0, third.retainedBytes(third));
+}
+
+@Test
+@DisplayName("Un instantané d'un autre monde ne partage aucun chunk")
+void testNoSharingAcrossWorlds() {
+	WorldSnapshot base = world.snapshot();
+	WorldSnapshot other = new WorldSnapshot(base.restore(), base);
+	assertEquals(0, other.sharedChunks(base));
+}
+
+// Section: Identité du monde source
+@Test
+@DisplayName("sameWorld reconnaît le monde source sans le retenir")
+void testSnapshotDoesNotPinWorld() throws InterruptedException {
+	WorldSnapshot first = world.snapshot();
+	assertTrue(world.snapshot().sameWorld(first));
+	assertFalse(first.restore().snapshot().sameWorld(first));
+
+	WeakReference<World> source = new WeakReference<>(new World(WORLD_WIDTH, WORLD_HEIGHT));
+	WorldSnapshot kept = source.get().snapshot();
+	for (int i = 0; i < 50 && source.get() != null; i++) {
+		System.gc();
+		Thread.sleep(10);
+	}
+	assertNull(source.get(), "l'instantané ne doit pas retenir son monde");
+	assertEquals(WORLD_WIDTH, kept.getWidth());
+}
+
+// Section: Forks
+@Test
+@DisplayName("fork copie le monde et les deux évoluent indépendamment")
+void testForkIndependent() {
+	World fork = world.fork();
+	assertSameWorld(world, fork);
+	assertEquals(world.fingerprint(), fork.fingerprint());
+
+	fork.getCell(new Position(3, 0)).removeAnimal();
+	placeAnimal(fork, new Carnivore(9), 1, 1);
+	assertNotSame(world.getCell(new Position(0, 0)).getPlant(), fork.getCell(new Position(0, 0)).getPlant());
+	assertSameWorld(world.snapshot().restore(), world);
+	assertNotEquals(world.fingerprint(), fork.fingerprint());
+}
+
+// Section: Helpers
+private static int ceil(int cells) {
+	return (cells + ActivityMap.CHUNK_SIZE - 1) / ActivityMap.CHUNK_SIZE;
+}
+
+private static <T extends Organism> T restored(T organism, int energy, boolean alive) {
+	organism.restore(energy, alive);
+	return organism;
+}
+
+private static void placePlant(World target, Plant plant, int x, int y) {
+	Cell cell = target.getCell(new Position(x, y));
+	plant.setPosition(cell.getPosition());
+	cell.setPlant(plant);
+}
+
+private static void placeAnimal(World target, Herbivore animal, int x, int y) {
+	Cell cell = target.getCell(new Position(x, y));
+	if (!cell.isEmptyAnimal()) return;
+	animal.setPosition(cell.getPosition());
+	cell.setAnimal(animal);
+}
+
+private static void placeAnimal(World target, Carnivore animal, int x, int y) {
+	Cell cell = target.getCell(new Position(x, y));
+	if (!cell.isEmptyAnimal()) return;
+	animal.setPosition(cell.getPosition());
+	cell.setAnimal(animal);
+}
+}
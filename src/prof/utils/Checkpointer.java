@@ -0,0 +1,329 @@
+/* ============================================================================
+ * Path: src/prof/utils/Checkpointer.java
+ * Author: Zakary Gaillard-D.
+ * Date: 2026-10-18
+ * Description: Periodic checkpoints written by a background thread from
+ *              copy-on-write world snapshots, and resume from the latest one.
+ * ========================================================================== */
+package prof.utils;
+
+import student.model.core.World;
+import student.model.core.WorldSnapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+//=============================================================================
+//                              Checkpointer
+//=============================================================================
+
+/**
+ * Writes checkpoints of a running world every N turns and/or every T milliseconds without
+ * stalling the simulation.
+ *
+ * <p>On the simulation thread, a checkpoint only takes a copy-on-write {@link World#snapshot()}
+ * (unchanged chunks are shared, not copied) and the random generator state. Encoding, writing,
+ * {@code fsync} and the atomic rename into place run on a single background thread. If the
+ * previous checkpoint is still being written when the next one is due, the new one is skipped
+ * rather than queued, so a slow disk never builds up memory.</p>
+ *
+ * <p>{@link #isDue}, {@link #submit} and {@link #getSkipped} must all be called from one thread
+ * (the simulation thread): the trigger bookkeeping they share is not synchronized. Only the
+ * completion of the returned future runs on the writer thread.</p>
+ *
+ * <p>File layout (varints as in {@link SnapshotCodec}):</p>
+ * <pre>{@code
+ * int magic "TPC1", turn, long seed, rngLength, rng state bytes, width, height, cells (row-major)
+ * }</pre>
+ * <p>Files are named {@code checkpoint-<turn>.tpc}; only the newest {@code keep} are kept.</p>
+ */
+public final class Checkpointer implements Closeable {
+
+//----------------------------- Constants ---------------------------------
+
+/**
+ * File magic number ("TPC1").
+ */
+private static final int MAGIC = 0x54504331;
+
+/**
+ * Checkpoint file name prefix and suffix.
+ */
+private static final String PREFIX = "checkpoint-";
+private static final String SUFFIX = ".tpc";
+
+//----------------------------- Fields ------------------------------------
+
+/**
+ * Directory holding the checkpoint files.
+ */
+private final File directory;
+
+/**
+ * Turns between checkpoints (0 = no turn trigger).
+ */
+private final int everyTurns;
+
+/**
+ * Milliseconds between checkpoints (0 = no time trigger).
+ */
+private final long everyMillis;
+
+/**
+ * Number of checkpoint files kept.
+ */
+private final int keep;
+
+/**
+ * Background writer thread.
+ */
+private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+	final Thread thread = new Thread(r, "checkpoint-writer");
+	thread.setDaemon(true);
+	return thread;
+});
+
+/**
+ * Whether a checkpoint is being written.
+ */
+private final AtomicBoolean busy = new AtomicBoolean();
+
+/**
+ * Turn and time of the last checkpoint taken (simulation thread only, see class notes).
+ */
+private int lastTurn;
+private long lastNanos = System.nanoTime();
+
+/**
+ * Checkpoints skipped because the previous one was still being written (simulation thread only).
+ */
+private int skipped;
+
+//----------------------------- Constructor -------------------------------
+
+/**
+ * Creates a checkpointer.
+ *
+ * @param directory   checkpoint directory (created if missing)
+ * @param everyTurns  turns between checkpoints (0 to disable)
+ * @param everyMillis milliseconds between checkpoints (0 to disable)
+ * @param keep        number of checkpoint files kept (>= 1)
+ * @throws IOException if the directory cannot be created
+ */
+public Checkpointer(final File directory, final int everyTurns, final long everyMillis, final int keep) throws IOException {
+	if (everyTurns <= 0 && everyMillis <= 0) {
+		throw new IllegalArgumentException("At least one of everyTurns or everyMillis must be positive");
+	}
+	Files.createDirectories(directory.toPath());
+	this.directory = directory;
+	this.everyTurns = Math.max(0, everyTurns);
+	this.everyMillis = Math.max(0, everyMillis);
+	this.keep = Math.max(1, keep);
+}
+
+//----------------------------- Writing -----------------------------------
+
+/**
+ * Returns whether a checkpoint is due after a completed turn.
+ *
+ * @param turn completed turn
+ * @return {@code true} if the turn or time interval has elapsed
+ */
+public boolean isDue(final int turn) {
+	return everyTurns > 0 && turn - lastTurn >= everyTurns
+		|| everyMillis > 0 && System.nanoTime() - lastNanos >= everyMillis * 1_000_000;
+}
+
+/**
+ * Captures the world and random generator state, then writes them in the background. Must be
+ * called between turns on the simulation thread.
+ *
+ * @param turn  completed turn
+ * @param world world to checkpoint
+ * @return pending write, or {@code null} if skipped because the previous write is still running
+ */
+public CompletableFuture<Result> submit(final int turn, final World world) {
+	lastTurn = turn;
+	lastNanos = System.nanoTime();
+	if (!busy.compareAndSet(false, true)) {
+		skipped++;
+		return null;
+	}
+	final long start = System.nanoTime();
+	final WorldSnapshot state = world.snapshot();
+	final byte[] random = RandomGenerator.saveState();
+	final long seed = RandomGenerator.getSeed();
+	final long captureNanos = System.nanoTime() - start;
+	return CompletableFuture.supplyAsync(() -> {
+		try {
+			final long writeStart = System.nanoTime();
+			final File file = write(turn, seed, random, state);
+			prune();
+			return new Result(turn, file, file.length(), captureNanos, System.nanoTime() - writeStart);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			busy.set(false);
+		}
+	}, writer);
+}
+
+/**
+ * Returns how many due checkpoints were skipped because a write was still running.
+ *
+ * @return skipped checkpoint count
+ */
+public int getSkipped() {
+	return skipped;
+}
+
+/**
+ * Waits for the pending write (if any) and stops the background thread.
+ */
+@Override
+public void close() {
+	writer.shutdown();
+	try {
+		writer.awaitTermination(30, TimeUnit.SECONDS);
+	} catch (InterruptedException e) {
+		Thread.currentThread().interrupt();
+	}
+}
+
+/**
+ * Encodes a checkpoint to a temporary file, forces it to disk and renames it into place.
+ */
+private File write(final int turn, final long seed, final byte[] random, final WorldSnapshot state) throws IOException {
+	final ByteArrayOutputStream cells = new ByteArrayOutputStream(state.getWidth() * state.getHeight() * 2);
+	SnapshotCodec.writeCells(cells, state);
+	final File target = new File(directory, String.format("%s%010d%s", PREFIX, turn, SUFFIX));
+	final File temp = new File(directory, target.getName() + ".tmp");
+	try (FileOutputStream file = new FileOutputStream(temp);
+	     DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+		out.writeInt(MAGIC);
+		SnapshotCodec.writeVarint(out, turn);
+		out.writeLong(seed);
+		SnapshotCodec.writeVarint(out, random.length);
+		out.write(random);
+		SnapshotCodec.writeVarint(out, state.getWidth());
+		SnapshotCodec.writeVarint(out, state.getHeight());
+		cells.writeTo(out);
+		out.flush();
+		file.getFD().sync();
+	}
+	Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	return target;
+}
+
+/**
+ * Deletes all but the newest {@link #keep} checkpoint files.
+ */
+private void prune() {
+	final File[] files = list(directory);
+	for (int i = 0; i < files.length - keep; i++) {
+		if (!files[i].delete()) files[i].deleteOnExit();
+	}
+}
+
+//----------------------------- Reading -----------------------------------
+
+/**
+ * Reads the newest readable checkpoint of a directory.
+ *
+ * @param directory checkpoint directory
+ * @return newest checkpoint, or {@code null} if none can be read
+ */
+public static Checkpoint latest(final File directory) {
+	final File[] files = list(directory);
+	for (int i = files.length - 1; i >= 0; i--) {
+		try {
+			return read(files[i]);
+		} catch (IOException | RuntimeException e) {
+			System.err.println("Error reading checkpoint, skipped: " + files[i].getName() + " (" + e.getMessage() + ")");
+		}
+	}
+	return null;
+}
+
+/**
+ * Reads one checkpoint file.
+ *
+ * @param file checkpoint file
+ * @return decoded checkpoint
+ * @throws IOException if the file cannot be read or is not a checkpoint
+ */
+public static Checkpoint read(final File file) throws IOException {
+	final byte[] bytes = Files.readAllBytes(file.toPath());
+	if (bytes.length < 4 || ((bytes[0] & 0xFF) << 24 | (bytes[1] & 0xFF) << 16 | (bytes[2] & 0xFF) << 8 | bytes[3] & 0xFF) != MAGIC) {
+		throw new IOException("Not a checkpoint: " + file.getName());
+	}
+	final int[] cursor = {4};
+	final int turn = SnapshotCodec.readVarint(bytes, cursor);
+	long seed = 0;
+	for (int i = 0; i < 8; i++) seed = seed << 8 | bytes[cursor[0]++] & 0xFF;
+	final int length = SnapshotCodec.readVarint(bytes, cursor);
+	final byte[] random = Arrays.copyOfRange(bytes, cursor[0], cursor[0] + length);
+	cursor[0] += length;
+	final int width = SnapshotCodec.readVarint(bytes, cursor);
+	final int height = SnapshotCodec.readVarint(bytes, cursor);
+	return new Checkpoint(turn, seed, random, SnapshotCodec.readCells(bytes, cursor, width, height));
+}
+
+/**
+ * Lists the checkpoint files of a directory, oldest turn first.
+ */
+private static File[] list(final File directory) {
+	final File[] files = directory.listFiles((_, name) -> name.startsWith(PREFIX) && name.endsWith(SUFFIX));
+	if (files == null) return new File[0];
+	Arrays.sort(files, Comparator.comparing(File::getName)); // zero-padded turn numbers
+	return files;
+}
+
+//----------------------------- Records -----------------------------------
+
+/**
+ * Outcome of one background checkpoint write.
+ *
+ * @param turn         checkpointed turn
+ * @param file         written file
+ * @param bytes        file size
+ * @param captureNanos time spent on the simulation thread (snapshot and generator state)
+ * @param writeNanos   time spent by the background thread (encode, write, fsync, rename)
+ */
+public record Result(int turn, File file, long bytes, long captureNanos, long writeNanos) {
+	/**
+	 * Returns the write throughput.
+	 *
+	 * @return megabytes per second
+	 */
+	public double throughputMBps() {
+		return writeNanos == 0 ? 0 : bytes / (writeNanos / 1e9) / (1 << 20);
+	}
+}
+
+/**
+ * Decoded checkpoint.
+ *
+ * @param turn        completed turn
+ * @param seed        generator seed in effect
+ * @param randomState serialized shared generator state ({@link RandomGenerator#restoreState})
+ * @param state       world occupants
+ */
+public record Checkpoint(int turn, long seed, byte[] randomState, WorldSnapshot state) {
+}
+}
@@ -7,16 +7,21 @@
  * ========================================================================== */
 package prof.utils;
 
-import student.model.core.Cell;
+import student.model.core.OccupancyLayers;
+import student.model.core.OccupancyLayers.Layer;
 import student.model.core.Position;
 import student.model.core.World;
-import student.model.organisms.Carnivore;
-import student.model.organisms.Herbivore;
 
-import java.util.ArrayList;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Supplier;
 
 //=============================================================================
 //                            RandomGenerator
@@ -38,6 +43,12 @@ public final class RandomGenerator {
  */
 private static final long DEFAULT_SEED = 42L;
 
+/**
+ * Per radius and row offset, the bit positions a row of {@code 2r+1} columns occupies in the
+ * column-major grid mask used by {@link #neighborhoodMask}.
+ */
+private static final long[][] GRID_SPREAD = buildGridSpread();
+
 //----------------------------- Fields ------------------------------------
 
 /**
@@ -45,6 +56,16 @@ private static final long DEFAULT_SEED = 42L;
  */
 private static Random random = new Random(DEFAULT_SEED);
 
+/**
+ * Seed passed to the last {@link #reseed(long)} (or {@link #DEFAULT_SEED}).
+ */
+private static long seed = DEFAULT_SEED;
+
+/**
+ * Per-thread generator overriding {@link #random} inside {@link #scoped(long, Supplier)}.
+ */
+private static final ThreadLocal<Random> SCOPED = new ThreadLocal<>();
+
 //----------------------------- Constructor -------------------------------
 
 /**
@@ -62,9 +83,97 @@ private RandomGenerator() {
  * @param seed the new seed value for deterministic random generation
  */
 public static void reseed(final long seed) {
+	RandomGenerator.seed = seed;
 	random = new Random(seed);
 }
 
+/**
+ * Returns the seed of the last {@link #reseed(long)}, so a run can be replayed from it.
+ *
+ * @return current seed value
+ */
+public static long getSeed() {
+	return seed;
+}
+
+/**
+ * Returns the exact internal state of the shared generator (not the scoped ones), so a
+ * checkpointed run resumes with the same draws it would have made.
+ *
+ * @return serialized generator state
+ */
+public static byte[] saveState() {
+	final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+	try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+		out.writeObject(random);
+	} catch (IOException e) {
+		throw new UncheckedIOException(e);
+	}
+	return bytes.toByteArray();
+}
+
+/**
+ * Restores a shared generator state saved by {@link #saveState()}.
+ *
+ * @param state serialized generator state
+ * @param seed  seed reported by {@link #getSeed()} from now on
+ * @throws IllegalArgumentException if {@code state} is not a saved generator
+ */
+public static void restoreState(final byte[] state, final long seed) {
+	try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(state))) {
+		random = (Random) in.readObject();
+		RandomGenerator.seed = seed;
+	} catch (IOException | ClassNotFoundException | ClassCastException e) {
+		throw new IllegalArgumentException("Invalid generator state", e);
+	}
+}
+
+/**
+ * Runs an action with a private generator seeded by {@code seed} on the calling thread.
+ * <p>Every method of this class called by the action draws from that generator instead of the
+ * shared one, so actions run concurrently on different threads stay reproducible: their draws
+ * depend only on their own seed, never on scheduling.</p>
+ *
+ * @param <T>    the type of the action result
+ * @param seed   seed of the private generator
+ * @param action the action to run
+ * @return the action result
+ */
+public static <T> T scoped(final long seed, final Supplier<T> action) {
+	return scoped(new Random(seed), action);
+}
+
+/**
+ * Runs an action drawing from the given private generator on the calling thread.
+ * <p>Same as {@link #scoped(long, Supplier)}, but the generator outlives the call, so one stream
+ * can be continued across several actions.</p>
+ *
+ * @param <T>       the type of the action result
+ * @param generator private generator (never {@code null})
+ * @param action    the action to run
+ * @return the action result
+ */
+public static <T> T scoped(final Random generator, final Supplier<T> action) {
+	final Random outer = SCOPED.get();
+	SCOPED.set(generator);
+	try {
+		return action.get();
+	} finally {
+		if (outer == null) SCOPED.remove();
+		else SCOPED.set(outer);
+	}
+}
+
+/**
+ * Returns the generator in effect on the calling thread.
+ *
+ * @return scoped generator if inside {@link #scoped(long, Supplier)}, shared one otherwise
+ */
+private static Random current() {
+	final Random scoped = SCOPED.get();
+	return scoped != null ? scoped : random;
+}
+
 //----------------------------- Basic Random Methods ----------------------
 
 /**
@@ -75,7 +184,16 @@ public static void reseed(final long seed) {
  * @throws IllegalArgumentException if bound is not positive
  */
 public static int nextInt(final int bound) {
-	return random.nextInt(bound);
+	return current().nextInt(bound);
+}
+
+/**
+ * Returns a random long value.
+ *
+ * @return a uniformly distributed long
+ */
+public static long nextLong() {
+	return current().nextLong();
 }
 
 /**
@@ -84,7 +202,7 @@ public static int nextInt(final int bound) {
  * @return {@code true} or {@code false} with equal probability
  */
 public static boolean nextBoolean() {
-	return random.nextBoolean();
+	return current().nextBoolean();
 }
 
 /**
@@ -93,7 +211,7 @@ public static boolean nextBoolean() {
  * @return a random double in the range [0.0, 1.0)
  */
 public static double nextDouble() {
-	return random.nextDouble();
+	return current().nextDouble();
 }
 
 /**
@@ -103,7 +221,7 @@ public static double nextDouble() {
  * @return {@code true} if a random event with the given probability occurs
  */
 public static boolean chance(final double probability) {
-	return probability > 0 && (probability >= 1 || random.nextDouble() < probability);
+	return probability > 0 && (probability >= 1 || current().nextDouble() < probability);
 }
 
 //----------------------------- Collection Utilities ----------------------
@@ -119,7 +237,7 @@ public static <T> T choose(final List<T> list) {
 	if (list == null || list.isEmpty()) {
 		return null;
 	}
-	return list.get(random.nextInt(list.size()));
+	return list.get(current().nextInt(list.size()));
 }
 
 /**
@@ -133,7 +251,7 @@ public static <T> T choose(final T[] array) {
 	if (array == null || array.length == 0) {
 		return null;
 	}
-	return array[random.nextInt(array.length)];
+	return array[current().nextInt(array.length)];
 }
 
 /**
@@ -144,7 +262,7 @@ public static <T> T choose(final T[] array) {
  */
 public static <T> void shuffleList(final List<T> list) {
 	if (list != null) {
-		Collections.shuffle(list, random);
+		Collections.shuffle(list, current());
 	}
 }
 
@@ -159,7 +277,7 @@ public static <T> void shuffleArray(final T[] array) {
 		return;
 	}
 	for (int i = array.length - 1; i > 0; i--) {
-		final int j = random.nextInt(i + 1);
+		final int j = current().nextInt(i + 1);
 		final T temp = array[i];
 		array[i] = array[j];
 		array[j] = temp;
@@ -169,7 +287,7 @@ public static <T> void shuffleArray(final T[] array) {
 //----------------------------- Neighborhood Methods ----------------------
 
 /**
- * Builds the neighboring positions according to the vision range.
+ * Builds the candidate mask of a neighborhood according to the vision range.
  *
  * <p>Vision ranges:</p>
  * <ul>
@@ -178,68 +296,140 @@ public static <T> void shuffleArray(final T[] array) {
  *   <li>3 → 5×5 grid (24 surrounding cells)</li>
  * </ul>
  *
+ * <p>Bit {@code i} of the mask is the {@code i}-th neighbor in enumeration order: N, S, W, E
+ * for the cross; column by column ({@code deltaX} outer, {@code deltaY} inner) for grids, the
+ * center bit always cleared. Rows are read from the world occupancy bitboards and spread into
+ * place with {@link Long#expand(long, long)}, so no cell is visited.</p>
+ *
  * @param position    the center position
  * @param world       the world containing the grid
  * @param visionRange the vision range (1, 2, or 3)
- * @return a list of valid neighboring positions within bounds
+ * @param filter      the filter criteria for selecting neighbors
+ * @return mask of matching in-bounds neighbors
  * @throws IllegalArgumentException if visionRange is not 1, 2, or 3
  */
-private static List<Position> buildNeighborhood(final Position position,
-                                                final World world,
-                                                final int visionRange) {
+private static long neighborhoodMask(final Position position,
+                                     final World world,
+                                     final int visionRange,
+                                     final NeighborFilter filter) {
 	if (visionRange < 1 || visionRange > 3) {
 		throw new IllegalArgumentException(
 			"visionRange must be 1 (cross), 2 (3x3), or 3 (5x5), but was: " + visionRange);
 	}
 	
-	final List<Position> neighbors = new ArrayList<>();
+	final OccupancyLayers layers = world.getOccupancy();
+	final int x = position.x();
+	final int y = position.y();
 	
 	if (visionRange == 1) {
 		// Cross pattern: only 4 adjacent cells
-		final int[][] crossDeltas = {{0, -1}, {0, 1}, {-1, 0}, {1, 0}};
-		for (final int[] delta : crossDeltas) {
-			addValidPosition(position, world, neighbors, delta[0], delta[1]);
-		}
-	} else {
-		// Grid pattern: 3x3 for vision=2, 5x5 for vision=3
-		final int radius = (visionRange == 2) ? 1 : 2;
-		for (int deltaX = -radius; deltaX <= radius; deltaX++) {
-			for (int deltaY = -radius; deltaY <= radius; deltaY++) {
-				if (deltaX == 0 && deltaY == 0) {
-					continue; // Skip center position
-				}
-				addValidPosition(position, world, neighbors, deltaX, deltaY);
+		return filterRow(layers, filter, y - 1, x, 1)
+			| filterRow(layers, filter, y + 1, x, 1) << 1
+			| filterRow(layers, filter, y, x - 1, 1) << 2
+			| filterRow(layers, filter, y, x + 1, 1) << 3;
+	}
+	
+	// Grid pattern: 3x3 for vision=2, 5x5 for vision=3
+	final int radius = visionRange - 1;
+	final int side = 2 * radius + 1;
+	final long[] spread = GRID_SPREAD[radius];
+	long mask = 0L;
+	for (int deltaY = -radius; deltaY <= radius; deltaY++) {
+		mask |= Long.expand(filterRow(layers, filter, y + deltaY, x - radius, side), spread[deltaY + radius]);
+	}
+	return mask & ~(1L << (radius * side + radius)); // Skip center position
+}
+
+/**
+ * Precomputes {@link #GRID_SPREAD} for radii 1 and 2.
+ *
+ * @return spread masks indexed by radius then row offset
+ */
+private static long[][] buildGridSpread() {
+	final long[][] spread = new long[3][];
+	for (int radius = 1; radius <= 2; radius++) {
+		final int side = 2 * radius + 1;
+		spread[radius] = new long[side];
+		for (int row = 0; row < side; row++) {
+			for (int column = 0; column < side; column++) {
+				spread[radius][row] |= 1L << (column * side + row);
 			}
 		}
 	}
-	return neighbors;
+	return spread;
 }
 
 /**
- * Adds a position to the neighbors list if it's within world bounds.
+ * Returns the bits of {@code len} columns of row {@code y}, starting at {@code x0}, that match
+ * the filter. Out-of-bounds columns never match.
  *
- * @param center    the center position
- * @param world     the world containing the grid
- * @param neighbors the list to add valid positions to
- * @param deltaX    the X offset from center
- * @param deltaY    the Y offset from center
+ * @param layers occupancy bitboards
+ * @param filter the filter criteria
+ * @param y      the row
+ * @param x0     the first column (may be negative)
+ * @param len    the number of columns
+ * @return packed matching bits (bit {@code i} is column {@code x0 + i})
  */
-private static void addValidPosition(final Position center,
-                                     final World world,
-                                     final List<Position> neighbors,
-                                     final int deltaX,
-                                     final int deltaY) {
-	final int newX = center.x() + deltaX;
-	final int newY = center.y() + deltaY;
-	
-	if (newX >= 0 && newY >= 0 && newX < world.getWidth() && newY < world.getHeight()) {
-		neighbors.add(new Position(newX, newY));
+private static long filterRow(final OccupancyLayers layers,
+                              final NeighborFilter filter,
+                              final int y,
+                              final int x0,
+                              final int len) {
+	return switch (filter) {
+		case EMPTY -> layers.boundsBits(y, x0, len)
+			& ~(layers.rowBits(Layer.PLANT, y, x0, len) | layers.rowBits(Layer.ANIMAL, y, x0, len));
+		case EMPTY_ANIMAL -> layers.boundsBits(y, x0, len) & ~layers.rowBits(Layer.ANIMAL, y, x0, len);
+		case EMPTY_PLANT -> layers.boundsBits(y, x0, len) & ~layers.rowBits(Layer.PLANT, y, x0, len);
+		case ORGANISM -> layers.rowBits(Layer.PLANT, y, x0, len) | layers.rowBits(Layer.ANIMAL, y, x0, len);
+		case PLANT -> layers.rowBits(Layer.PLANT, y, x0, len);
+		case ANIMAL -> layers.rowBits(Layer.ANIMAL, y, x0, len);
+		case HERBIVORE -> layers.rowBits(Layer.HERBIVORE, y, x0, len);
+		case CARNIVORE -> layers.rowBits(Layer.CARNIVORE, y, x0, len);
+	};
+}
+
+/**
+ * Converts a neighbor bit index back into a position (inverse of {@link #neighborhoodMask}).
+ *
+ * @param center      the center position
+ * @param visionRange the vision range (1, 2, or 3)
+ * @param bit         index of the selected neighbor bit
+ * @return the neighbor position
+ */
+private static Position neighborAt(final Position center, final int visionRange, final int bit) {
+	if (visionRange == 1) {
+		return switch (bit) {
+			case 0 -> new Position(center.x(), center.y() - 1);
+			case 1 -> new Position(center.x(), center.y() + 1);
+			case 2 -> new Position(center.x() - 1, center.y());
+			default -> new Position(center.x() + 1, center.y());
+		};
 	}
+	final int radius = visionRange - 1;
+	final int side = 2 * radius + 1;
+	return new Position(center.x() + bit / side - radius, center.y() + bit % side - radius);
+}
+
+/**
+ * Returns the index of the {@code k}-th (0-based) set bit of {@code mask}.
+ *
+ * @param mask bit set with more than {@code k} bits
+ * @param k    rank of the bit to select
+ * @return bit index
+ */
+private static int selectBit(long mask, final int k) {
+	for (int i = 0; i < k; i++) {
+		mask &= mask - 1; // clear lowest set bit
+	}
+	return Long.numberOfTrailingZeros(mask);
 }
 
 /**
  * Selects a random neighboring position based on vision range and filter criteria.
  *
+ * <p>Candidates are counted with {@link Long#bitCount(long)} and the chosen one located by bit
+ * selection, consuming exactly one {@code nextInt(count)} draw as a list-based choice would.</p>
+ *
  * @param position    the center position
  * @param world       the world containing the grid
  * @param visionRange the vision range (1, 2, or 3)
@@ -251,41 +441,29 @@ public static Position randomNeighbor(final Position position,
                                       final World world,
                                       final int visionRange,
                                       final NeighborFilter filter) {
-	final List<Position> candidates = buildNeighborhood(position, world, visionRange);
-	final List<Position> filteredCandidates = new ArrayList<>();
-	
-	for (final Position candidatePosition : candidates) {
-		final Cell cell = world.getCell(candidatePosition);
-		if (cell == null) {
-			continue;
-		}
-		
-		if (matchesFilter(cell, filter)) {
-			filteredCandidates.add(candidatePosition);
-		}
+	final long candidates = neighborhoodMask(position, world, visionRange, filter);
+	if (candidates == 0L) {
+		return null;
 	}
-	
-	return choose(filteredCandidates);
+	final int chosen = current().nextInt(Long.bitCount(candidates));
+	return neighborAt(position, visionRange, selectBit(candidates, chosen));
 }
 
 /**
- * Checks if a cell matches the specified filter criteria.
+ * Counts the neighboring positions matching the filter within the vision range.
  *
- * @param cell   the cell to check
- * @param filter the filter criteria
- * @return {@code true} if the cell matches the filter
+ * @param position    the center position
+ * @param world       the world containing the grid
+ * @param visionRange the vision range (1, 2, or 3)
+ * @param filter      the filter criteria
+ * @return number of matching neighbors
+ * @throws IllegalArgumentException if visionRange is not 1, 2, or 3
  */
-private static boolean matchesFilter(final Cell cell, final NeighborFilter filter) {
-	return switch (filter) {
-		case EMPTY -> cell.isCompletelyEmpty();
-		case EMPTY_ANIMAL -> cell.isEmptyAnimal();
-		case EMPTY_PLANT -> cell.isEmptyPlant();
-		case ORGANISM -> cell.hasPlant() || cell.hasAnimal();
-		case PLANT -> cell.hasPlant();
-		case ANIMAL -> cell.hasAnimal();
-		case HERBIVORE -> cell.getAnimal() instanceof Herbivore;
-		case CARNIVORE -> cell.getAnimal() instanceof Carnivore;
-	};
+public static int countNeighbors(final Position position,
+                                 final World world,
+                                 final int visionRange,
+                                 final NeighborFilter filter) {
+	return Long.bitCount(neighborhoodMask(position, world, visionRange, filter));
 }
 
 /**
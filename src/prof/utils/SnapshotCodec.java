@@ -0,0 +1,202 @@
+/* ============================================================================
+ * Path: src/prof/utils/SnapshotCodec.java
+ * Author: Zakary Gaillard-D.
+ * Date: 2026-10-18
+ * Description: Compact binary cell encoding shared by the turn journal and
+ *              checkpoints.
+ * ========================================================================== */
+package prof.utils;
+
+import student.model.core.WorldSnapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+//=============================================================================
+//                              SnapshotCodec
+//=============================================================================
+
+/**
+ * Varint-based encoding of {@link WorldSnapshot} cells.
+ *
+ * <p>A cell is its flags byte ({@link WorldSnapshot#PLANT}, ...) followed by the zigzag varint
+ * energy of each occupied slot (plant first), so an empty cell takes one byte. Varints are
+ * unsigned LEB128.</p>
+ */
+final class SnapshotCodec {
+
+//----------------------------- Constructor -------------------------------
+
+/**
+ * Private constructor to prevent instantiation of utility class.
+ */
+private SnapshotCodec() {
+	throw new UnsupportedOperationException("Utility class cannot be instantiated");
+}
+
+//----------------------------- Cells -------------------------------------
+
+/**
+ * Encodes every cell of a snapshot, row-major.
+ *
+ * @param target destination buffer
+ * @param state  snapshot to encode
+ */
+static void writeCells(final ByteArrayOutputStream target, final WorldSnapshot state) {
+	for (int y = 0; y < state.getHeight(); y++) {
+		for (int x = 0; x < state.getWidth(); x++) {
+			writeCell(target, state, x, y);
+		}
+	}
+}
+
+/**
+ * Encodes one cell: flags, then the energies of the occupied slots.
+ *
+ * @param target destination buffer
+ * @param state  snapshot holding the cell
+ * @param x      column
+ * @param y      row
+ */
+static void writeCell(final ByteArrayOutputStream target, final WorldSnapshot state, final int x, final int y) {
+	final byte flags = state.flagsAt(x, y);
+	target.write(flags);
+	if ((flags & WorldSnapshot.PLANT) != 0) writeVarint(target, zigzag(state.plantEnergyAt(x, y)));
+	if ((flags & (WorldSnapshot.HERBIVORE | WorldSnapshot.CARNIVORE)) != 0) {
+		writeVarint(target, zigzag(state.animalEnergyAt(x, y)));
+	}
+}
+
+/**
+ * Decodes one cell into flat row-major state arrays.
+ *
+ * @param bytes        encoded data
+ * @param cursor       read position (single-element array, advanced)
+ * @param cell         row-major cell index
+ * @param flags        cell flags (written)
+ * @param plantEnergy  plant energies (written)
+ * @param animalEnergy animal energies (written)
+ */
+static void readCell(final byte[] bytes, final int[] cursor, final int cell,
+                     final byte[] flags, final int[] plantEnergy, final int[] animalEnergy) {
+	final byte f = bytes[cursor[0]++];
+	flags[cell] = f;
+	plantEnergy[cell] = (f & WorldSnapshot.PLANT) != 0 ? unzigzag(readVarint(bytes, cursor)) : 0;
+	animalEnergy[cell] = (f & (WorldSnapshot.HERBIVORE | WorldSnapshot.CARNIVORE)) != 0
+		? unzigzag(readVarint(bytes, cursor)) : 0;
+}
+
+/**
+ * Decodes a whole row-major cell payload into a snapshot.
+ *
+ * @param bytes  encoded data
+ * @param cursor read position (single-element array, advanced)
+ * @param width  world width
+ * @param height world height
+ * @return decoded snapshot
+ */
+static WorldSnapshot readCells(final byte[] bytes, final int[] cursor, final int width, final int height) {
+	final byte[] flags = new byte[width * height];
+	final int[] plantEnergy = new int[width * height];
+	final int[] animalEnergy = new int[width * height];
+	for (int cell = 0; cell < width * height; cell++) {
+		readCell(bytes, cursor, cell, flags, plantEnergy, animalEnergy);
+	}
+	return new WorldSnapshot(width, height, flags, plantEnergy, animalEnergy);
+}
+
+//----------------------------- Varints -----------------------------------
+
+/**
+ * Writes an unsigned LEB128 varint to a byte buffer.
+ *
+ * @param target destination buffer
+ * @param value  value (read as unsigned)
+ */
+static void writeVarint(final ByteArrayOutputStream target, int value) {
+	while ((value & ~0x7F) != 0) {
+		target.write((value & 0x7F) | 0x80);
+		value >>>= 7;
+	}
+	target.write(value);
+}
+
+/**
+ * Writes an unsigned LEB128 varint to a data output.
+ *
+ * @param target destination
+ * @param value  value (read as unsigned)
+ * @throws IOException if writing fails
+ */
+static void writeVarint(final DataOutput target, int value) throws IOException {
+	while ((value & ~0x7F) != 0) {
+		target.writeByte((value & 0x7F) | 0x80);
+		value >>>= 7;
+	}
+	target.writeByte(value);
+}
+
+/**
+ * Reads an unsigned LEB128 varint from a byte buffer.
+ *
+ * @param bytes  encoded data
+ * @param cursor read position (single-element array, advanced)
+ * @return decoded value
+ */
+static int readVarint(final byte[] bytes, final int[] cursor) {
+	int value = 0;
+	for (int shift = 0; ; shift += 7) {
+		final int b = bytes[cursor[0]++] & 0xFF;
+		value |= (b & 0x7F) << shift;
+		if ((b & 0x80) == 0) return value;
+	}
+}
+
+/**
+ * Reads an unsigned LEB128 varint from a data input.
+ *
+ * @param source data input
+ * @return decoded value
+ * @throws IOException if reading fails
+ */
+static int readVarint(final DataInput source) throws IOException {
+	int value = 0;
+	for (int shift = 0; ; shift += 7) {
+		final int b = source.readUnsignedByte();
+		value |= (b & 0x7F) << shift;
+		if ((b & 0x80) == 0) return value;
+	}
+}
+
+/**
+ * Returns the number of bytes of the unsigned LEB128 encoding of a value.
+ *
+ * @param value value to encode
+ * @return encoded length (1..5)
+ */
+static int varintSize(final int value) {
+	return value == 0 ? 1 : (38 - Integer.numberOfLeadingZeros(value)) / 7;
+}
+
+/**
+ * Maps signed to unsigned so small negative energies stay short.
+ *
+ * @param value signed value
+ * @return zigzag-encoded value
+ */
+static int zigzag(final int value) {
+	return (value << 1) ^ (value >> 31);
+}
+
+/**
+ * Inverse of {@link #zigzag(int)}.
+ *
+ * @param value zigzag-encoded value
+ * @return signed value
+ */
+static int unzigzag(final int value) {
+	return (value >>> 1) ^ -(value & 1);
+}
+}
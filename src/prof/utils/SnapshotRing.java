@@ -0,0 +1,275 @@
+/* ============================================================================
+ * Path: src/prof/utils/SnapshotRing.java
+ * Author: Zakary Gaillard-D.
+ * Date: 2026-10-18
+ * Description: Memory-bounded history of turn snapshots with logarithmic
+ *              thinning, maintained on a background thread.
+ * ========================================================================== */
+package prof.utils;
+
+import student.model.core.World;
+import student.model.core.WorldSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+//=============================================================================
+//                              SnapshotRing
+//=============================================================================
+
+/**
+ * Recent history of a world, one {@link WorldSnapshot} per completed turn, kept under a memory
+ * budget.
+ *
+ * <p>Capturing is the only work done on the caller's thread: {@link World#snapshot()} copies the
+ * chunks that changed since the previous capture and shares the others. Insertion, memory
+ * accounting and eviction run on a single background thread.</p>
+ *
+ * <p>When the budget is exceeded, the entry whose removal opens the smallest gap relative to its
+ * age is dropped first. Recent turns therefore stay dense while the spacing of older ones grows
+ * in proportion to their age, so the number of kept turns grows logarithmically with the length
+ * of the run. The first entry (the state the history started from) is dropped last.</p>
+ *
+ * <p>Snapshots identify their world by an opaque token ({@link WorldSnapshot#sameWorld}), so the
+ * history never keeps a replaced world reachable.</p>
+ */
+public final class SnapshotRing {
+
+//----------------------------- Constants ---------------------------------
+
+/**
+ * Default memory budget (64 MiB).
+ */
+public static final long DEFAULT_BUDGET = 64L << 20;
+
+//----------------------------- Fields ------------------------------------
+
+/**
+ * Kept turns, oldest first (guarded by {@code this}).
+ */
+private final List<Entry> entries = new ArrayList<>();
+
+/**
+ * Background thread applying insertions and evictions in submission order.
+ */
+private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+	final Thread thread = new Thread(r, "snapshot-ring");
+	thread.setDaemon(true);
+	return thread;
+});
+
+/**
+ * Memory budget in bytes.
+ */
+private volatile long budget;
+
+/**
+ * Sum of the bytes held by the kept entries (guarded by {@code this}).
+ */
+private long usedBytes;
+
+/**
+ * Called on the background thread after each change of the kept turns.
+ */
+private volatile Runnable onChange;
+
+//----------------------------- Constructor -------------------------------
+
+/**
+ * Creates an empty history.
+ *
+ * @param budget memory budget in bytes (clamped to >= 0)
+ */
+public SnapshotRing(final long budget) {
+	this.budget = Math.max(0, budget);
+}
+
+//----------------------------- Configuration ------------------------------
+
+/**
+ * Returns the memory budget.
+ *
+ * @return budget in bytes
+ */
+public long getBudget() {
+	return budget;
+}
+
+/**
+ * Changes the memory budget; older turns are thinned out on the background thread if needed.
+ *
+ * @param bytes budget in bytes (clamped to >= 0)
+ */
+public void setBudget(final long bytes) {
+	this.budget = Math.max(0, bytes);
+	worker.execute(() -> {
+		synchronized (this) {
+			evict();
+		}
+		notifyChange();
+	});
+}
+
+/**
+ * Sets the callback run (on the background thread) after the kept turns change.
+ *
+ * @param callback callback, or {@code null}
+ */
+public void setOnChange(final Runnable callback) {
+	this.onChange = callback;
+}
+
+//----------------------------- Recording ---------------------------------
+
+/**
+ * Captures the state of a world at the end of a turn. Must be called while the world is not
+ * being modified (between turns); the rest of the work is deferred to the background thread.
+ * Capturing another world than the previous one clears the history; capturing a turn not after
+ * the newest kept one replaces the newer entries.
+ *
+ * @param turn  completed turn number
+ * @param world world to capture
+ */
+public void record(final int turn, final World world) {
+	final WorldSnapshot snapshot = world.snapshot();
+	worker.execute(() -> {
+		synchronized (this) {
+			// The newest entry is never evicted and identifies the world of the history.
+			if (!entries.isEmpty() && !snapshot.sameWorld(entries.getLast().snapshot)) {
+				entries.clear();
+				usedBytes = 0;
+			}
+			while (!entries.isEmpty() && entries.getLast().turn >= turn) {
+				usedBytes -= entries.removeLast().bytes;
+			}
+			final WorldSnapshot previous = entries.isEmpty() ? null : entries.getLast().snapshot;
+			final Entry entry = new Entry(turn, snapshot, snapshot.retainedBytes(previous));
+			entries.add(entry);
+			usedBytes += entry.bytes;
+			evict();
+		}
+		notifyChange();
+	});
+}
+
+/**
+ * Forgets every kept turn.
+ */
+public void clear() {
+	worker.execute(() -> {
+		synchronized (this) {
+			entries.clear();
+			usedBytes = 0;
+		}
+		notifyChange();
+	});
+}
+
+/**
+ * Stops the background thread; pending captures are discarded.
+ */
+public void dispose() {
+	worker.shutdownNow();
+}
+
+//----------------------------- Queries -----------------------------------
+
+/**
+ * Returns the kept turns, oldest first.
+ *
+ * @return kept turn numbers (possibly empty)
+ */
+public synchronized int[] turns() {
+	final int[] turns = new int[entries.size()];
+	for (int i = 0; i < turns.length; i++) turns[i] = entries.get(i).turn;
+	return turns;
+}
+
+/**
+ * Returns the newest kept snapshot taken at or before a turn.
+ *
+ * @param turn requested turn
+ * @return snapshot, or {@code null} if no kept turn is that old
+ */
+public synchronized WorldSnapshot snapshotAt(final int turn) {
+	int lo = 0;
+	int hi = entries.size() - 1;
+	WorldSnapshot found = null;
+	while (lo <= hi) {
+		final int mid = (lo + hi) >>> 1;
+		if (entries.get(mid).turn <= turn) {
+			found = entries.get(mid).snapshot;
+			lo = mid + 1;
+		} else {
+			hi = mid - 1;
+		}
+	}
+	return found;
+}
+
+/**
+ * Returns the memory currently held by the kept turns.
+ *
+ * @return bytes in use
+ */
+public synchronized long getUsedBytes() {
+	return usedBytes;
+}
+
+//----------------------------- Eviction ----------------------------------
+
+/**
+ * Drops entries until the budget is met (the newest entry is always kept).
+ */
+private void evict() {
+	while (usedBytes > budget && entries.size() > 1) {
+		final int victim = entries.size() == 2 ? 0 : thinnest();
+		final Entry removed = entries.remove(victim);
+		usedBytes -= removed.bytes;
+		if (victim < entries.size()) {
+			// The successor now owns the chunks it shared with the removed entry only.
+			final Entry next = entries.get(victim);
+			final WorldSnapshot previous = victim == 0 ? null : entries.get(victim - 1).snapshot;
+			final long bytes = next.snapshot.retainedBytes(previous);
+			usedBytes += bytes - next.bytes;
+			entries.set(victim, new Entry(next.turn, next.snapshot, bytes));
+		}
+	}
+}
+
+/**
+ * Returns the interior entry whose removal opens the smallest gap relative to its age.
+ */
+private int thinnest() {
+	final int newest = entries.getLast().turn;
+	int best = 1;
+	double bestCost = Double.MAX_VALUE;
+	for (int i = 1; i < entries.size() - 1; i++) {
+		final int gap = entries.get(i + 1).turn - entries.get(i - 1).turn;
+		final double cost = gap / (double) (newest - entries.get(i).turn);
+		if (cost < bestCost) {
+			bestCost = cost;
+			best = i;
+		}
+	}
+	return best;
+}
+
+/**
+ * Runs the change callback, if any.
+ */
+private void notifyChange() {
+	final Runnable callback = onChange;
+	if (callback != null) callback.run();
+}
+
+//----------------------------- Entry -------------------------------------
+
+/**
+ * One kept turn and the bytes it alone holds.
+ */
+private record Entry(int turn, WorldSnapshot snapshot, long bytes) {
+}
+}
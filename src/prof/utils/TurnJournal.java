@@ -0,0 +1,381 @@
+/* ============================================================================
+ * Path: src/prof/utils/TurnJournal.java
+ * Author: Zakary Gaillard-D.
+ * Date: 2026-10-18
+ * Description: Append-only, delta-encoded turn journal with periodic keyframes
+ *              and a seeking reader for replay.
+ * ========================================================================== */
+package prof.utils;
+
+import student.model.core.ActivityMap;
+import student.model.core.World;
+import student.model.core.WorldSnapshot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+//=============================================================================
+//                              TurnJournal
+//=============================================================================
+
+/**
+ * Records the state of a world after each turn into an append-only binary file.
+ *
+ * <p>File layout (all integers are unsigned LEB128 varints unless noted):</p>
+ * <pre>{@code
+ * header : int magic "TPJ1" (4 bytes, big-endian), width, height, keyframeInterval
+ * record : type ('K' keyframe | 'D' delta, 1 byte), turn, payloadLength, payload
+ * keyframe payload : every cell, row-major
+ * delta payload    : changedCount, then per changed cell: indexGap, cell
+ * cell             : flags (1 byte, see WorldSnapshot), [zigzag plantEnergy], [zigzag animalEnergy]
+ * }</pre>
+ *
+ * <p>Deltas come from {@link World#snapshot()}: chunks shared with the previous recorded
+ * snapshot are skipped without comparison, so a turn costs O(changed chunks) to record.
+ * A keyframe every {@code keyframeInterval} records bounds replay to that many deltas.</p>
+ *
+ * <p>Every record is flushed as it is written, so an interrupted run loses at most the record
+ * being written. Recorded turns must increase (the controller closes the journal whenever its
+ * world is replaced), which lets the {@link Reader} binary-search them.</p>
+ */
+public final class TurnJournal implements Closeable {
+
+//----------------------------- Constants ---------------------------------
+
+/**
+ * File magic number ("TPJ1").
+ */
+private static final int MAGIC = 0x54504A31;
+
+/**
+ * Record type of a full keyframe.
+ */
+private static final byte KEYFRAME = 'K';
+
+/**
+ * Record type of a delta against the previous record.
+ */
+private static final byte DELTA = 'D';
+
+//----------------------------- Fields ------------------------------------
+
+/**
+ * Buffered output appending to the journal file.
+ */
+private final DataOutputStream out;
+
+/**
+ * Journaled world size.
+ */
+private final int width;
+private final int height;
+
+/**
+ * Records between two keyframes.
+ */
+private final int keyframeInterval;
+
+/**
+ * Reusable payload buffer.
+ */
+private final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+
+/**
+ * Last recorded state (base of the next delta).
+ */
+private WorldSnapshot previous;
+
+/**
+ * Records written since the last keyframe.
+ */
+private int sinceKeyframe;
+
+//----------------------------- Constructor -------------------------------
+
+/**
+ * Creates (or truncates) a journal file and records the initial keyframe.
+ *
+ * @param file             journal file
+ * @param world            world to journal
+ * @param turn             turn number of the initial state
+ * @param keyframeInterval records between keyframes (>= 1)
+ * @throws IOException if the file cannot be written
+ */
+public TurnJournal(final File file, final World world, final int turn, final int keyframeInterval) throws IOException {
+	if (keyframeInterval < 1) {
+		throw new IllegalArgumentException("keyframeInterval must be >= 1, but was: " + keyframeInterval);
+	}
+	this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, false), 1 << 16));
+	this.width = world.getWidth();
+	this.height = world.getHeight();
+	this.keyframeInterval = keyframeInterval;
+	try {
+		out.writeInt(MAGIC);
+		SnapshotCodec.writeVarint(out, width);
+		SnapshotCodec.writeVarint(out, height);
+		SnapshotCodec.writeVarint(out, keyframeInterval);
+		previous = world.snapshot();
+		writeRecord(KEYFRAME, turn, keyframe(previous));
+	} catch (IOException | RuntimeException e) {
+		try {
+			out.close();
+		} catch (IOException suppressed) {
+			e.addSuppressed(suppressed);
+		}
+		throw e;
+	}
+}
+
+//----------------------------- Recording ---------------------------------
+
+/**
+ * Appends the state of the world after a turn (delta, or keyframe every interval).
+ *
+ * @param world journaled world
+ * @param turn  turn number just completed
+ * @throws IOException if the file cannot be written
+ */
+public void record(final World world, final int turn) throws IOException {
+	final WorldSnapshot current = world.snapshot();
+	if (++sinceKeyframe >= keyframeInterval) {
+		writeRecord(KEYFRAME, turn, keyframe(current));
+		sinceKeyframe = 0;
+	} else {
+		writeRecord(DELTA, turn, delta(previous, current));
+	}
+	previous = current;
+}
+
+/**
+ * Flushes and closes the journal file.
+ *
+ * @throws IOException if the file cannot be written
+ */
+@Override
+public void close() throws IOException {
+	out.close();
+}
+
+/**
+ * Writes and flushes one record header and payload.
+ */
+private void writeRecord(final byte type, final int turn, final ByteArrayOutputStream body) throws IOException {
+	out.writeByte(type);
+	SnapshotCodec.writeVarint(out, turn);
+	SnapshotCodec.writeVarint(out, body.size());
+	body.writeTo(out);
+	out.flush();
+}
+
+/**
+ * Encodes every cell of a snapshot, row-major.
+ */
+private ByteArrayOutputStream keyframe(final WorldSnapshot state) {
+	payload.reset();
+	SnapshotCodec.writeCells(payload, state);
+	return payload;
+}
+
+/**
+ * Encodes the cells that differ between two snapshots, skipping shared chunks.
+ */
+private ByteArrayOutputStream delta(final WorldSnapshot before, final WorldSnapshot after) {
+	final int size = ActivityMap.CHUNK_SIZE;
+	int[] changed = new int[64];
+	int count = 0;
+	for (int cy = 0; cy * size < height; cy++) {
+		for (int cx = 0; cx * size < width; cx++) {
+			if (after.sharesChunk(before, cx, cy)) continue;
+			for (int y = cy * size; y < Math.min(height, (cy + 1) * size); y++) {
+				for (int x = cx * size; x < Math.min(width, (cx + 1) * size); x++) {
+					if (sameCell(before, after, x, y)) continue;
+					if (count == changed.length) changed = Arrays.copyOf(changed, count * 2);
+					changed[count++] = y * width + x;
+				}
+			}
+		}
+	}
+	Arrays.sort(changed, 0, count);
+	payload.reset();
+	SnapshotCodec.writeVarint(payload, count);
+	int last = 0;
+	for (int k = 0; k < count; k++) {
+		SnapshotCodec.writeVarint(payload, changed[k] - last);
+		last = changed[k];
+		SnapshotCodec.writeCell(payload, after, changed[k] % width, changed[k] / width);
+	}
+	return payload;
+}
+
+/**
+ * Returns whether a cell has the same flags and relevant energies in both snapshots.
+ */
+private static boolean sameCell(final WorldSnapshot a, final WorldSnapshot b, final int x, final int y) {
+	final byte flags = a.flagsAt(x, y);
+	if (flags != b.flagsAt(x, y)) return false;
+	if ((flags & WorldSnapshot.PLANT) != 0 && a.plantEnergyAt(x, y) != b.plantEnergyAt(x, y)) return false;
+	return (flags & (WorldSnapshot.HERBIVORE | WorldSnapshot.CARNIVORE)) == 0
+		|| a.animalEnergyAt(x, y) == b.animalEnergyAt(x, y);
+}
+
+//=============================================================================
+//                                 Reader
+//=============================================================================
+
+/**
+ * Random-access reader of a journal file.
+ * <p>Opening indexes every record header through a buffered stream (payloads are skipped by
+ * length). Seeking to a turn binary-searches the index, then reads the closest keyframe and the
+ * following deltas in one contiguous read and decodes at most {@code keyframeInterval - 1}
+ * deltas. A truncated trailing record (interrupted run) is ignored.</p>
+ */
+public static final class Reader implements Closeable {
+	private final RandomAccessFile file;
+	private final int width;
+	private final int height;
+	private final List<long[]> records = new ArrayList<>(); // {turn, type, payloadOffset, payloadLength}
+
+	/**
+	 * Opens and indexes a journal file.
+	 *
+	 * @param journal journal file
+	 * @throws IOException if the file cannot be read or is not a journal
+	 */
+	public Reader(final File journal) throws IOException {
+		final long end = journal.length();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(journal), 1 << 16))) {
+			if (in.readInt() != MAGIC) throw new IOException("Not a turn journal: " + journal.getName());
+			this.width = SnapshotCodec.readVarint(in);
+			this.height = SnapshotCodec.readVarint(in);
+			final int interval = SnapshotCodec.readVarint(in); // implied by the record types
+			long position = 4 + SnapshotCodec.varintSize(width) + SnapshotCodec.varintSize(height)
+				+ SnapshotCodec.varintSize(interval);
+			while (position < end) {
+				try {
+					final long type = in.readByte();
+					final int turn = SnapshotCodec.readVarint(in);
+					final int length = SnapshotCodec.readVarint(in);
+					final long offset = position + 1 + SnapshotCodec.varintSize(turn) + SnapshotCodec.varintSize(length);
+					if (offset + length > end) break;
+					records.add(new long[]{turn, type, offset, length});
+					in.skipNBytes(length);
+					position = offset + length;
+				} catch (IOException e) {
+					break; // truncated header
+				}
+			}
+		}
+		this.file = new RandomAccessFile(journal, "r");
+	}
+
+	/**
+	 * Returns the journaled world width.
+	 *
+	 * @return number of columns
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Returns the journaled world height.
+	 *
+	 * @return number of rows
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * Returns the turns recorded, in file order.
+	 *
+	 * @return recorded turn numbers
+	 */
+	public int[] turns() {
+		final int[] turns = new int[records.size()];
+		for (int i = 0; i < turns.length; i++) turns[i] = (int) records.get(i)[0];
+		return turns;
+	}
+
+	/**
+	 * Rebuilds the state recorded for a turn: the closest keyframe at or before it, then the
+	 * following deltas up to the turn.
+	 *
+	 * @param turn recorded turn number
+	 * @return snapshot of that turn ({@code restore()} it to get a live world)
+	 * @throws IOException if the file cannot be read
+	 * @throws IllegalArgumentException if the turn was not recorded
+	 */
+	public WorldSnapshot snapshotAt(final int turn) throws IOException {
+		final int target = indexOf(turn);
+		if (target < 0) throw new IllegalArgumentException("Turn not recorded: " + turn);
+		int start = target;
+		while (records.get(start)[1] != KEYFRAME) start--;
+
+		// Records start..target are contiguous in the file: read them in one go.
+		final long first = records.get(start)[2];
+		final byte[] bytes = new byte[(int) (records.get(target)[2] + records.get(target)[3] - first)];
+		file.seek(first);
+		file.readFully(bytes);
+
+		final byte[] flags = new byte[width * height];
+		final int[] plantEnergy = new int[width * height];
+		final int[] animalEnergy = new int[width * height];
+		for (int i = start; i <= target; i++) {
+			final long[] record = records.get(i);
+			final int[] cursor = {(int) (record[2] - first)};
+			if (record[1] == KEYFRAME) {
+				for (int cell = 0; cell < width * height; cell++) {
+					SnapshotCodec.readCell(bytes, cursor, cell, flags, plantEnergy, animalEnergy);
+				}
+			} else {
+				final int count = SnapshotCodec.readVarint(bytes, cursor);
+				int cell = 0;
+				for (int k = 0; k < count; k++) {
+					cell += SnapshotCodec.readVarint(bytes, cursor);
+					SnapshotCodec.readCell(bytes, cursor, cell, flags, plantEnergy, animalEnergy);
+				}
+			}
+		}
+		return new WorldSnapshot(width, height, flags, plantEnergy, animalEnergy);
+	}
+
+	/**
+	 * Returns the index of the record of a turn (turns increase through the file), or -1.
+	 */
+	private int indexOf(final int turn) {
+		int lo = 0;
+		int hi = records.size() - 1;
+		while (lo <= hi) {
+			final int mid = (lo + hi) >>> 1;
+			final long found = records.get(mid)[0];
+			if (found < turn) lo = mid + 1;
+			else if (found > turn) hi = mid - 1;
+			else return mid;
+		}
+		return -1;
+	}
+
+	/**
+	 * Closes the journal file.
+	 *
+	 * @throws IOException if closing fails
+	 */
+	@Override
+	public void close() throws IOException {
+		file.close();
+	}
+}
+}
@@ -0,0 +1,360 @@
+/* ============================================================================
+ * Path: src/prof/utils/WorldGenerator.java
+ * Author: Zakary Gaillard-D.
+ * Date: 2026-10-18
+ * Description: Seeded procedural world generator (densities, energy ranges,
+ *              noise-based clustering) with a command-line front end.
+ * ========================================================================== */
+package prof.utils;
+
+import student.model.core.Cell;
+import student.model.core.Position;
+import student.model.core.World;
+import student.model.organisms.Animal;
+import student.model.organisms.Carnivore;
+import student.model.organisms.Herbivore;
+import student.model.organisms.Plant;
+import student.model.organisms.Species;
+
+import java.io.IOException;
+import java.util.stream.IntStream;
+
+//=============================================================================
+//                              WorldGenerator
+//=============================================================================
+
+/**
+ * Builds worlds of any size directly in memory from a {@link Settings} description.
+ *
+ * <p>Every random decision is a hash of (seed, species, cell), never a draw from a shared
+ * generator, so rows are filled in parallel and the result depends only on the settings, not on
+ * the thread count. Plants and animals are drawn independently (they use separate slots); a cell's
+ * animal slot holds a herbivore, a carnivore or nothing.</p>
+ *
+ * <p>Clustering modulates each species' density by its own value-noise field (smoothly
+ * interpolated random lattice, one lattice point every {@code patchSize} cells): with clustering
+ * 0 organisms are spread uniformly, with clustering 1 they gather in patches while the average
+ * density stays about the same.</p>
+ */
+public final class WorldGenerator {
+
+//----------------------------- Constructor -------------------------------
+
+/**
+ * Private constructor to prevent instantiation of utility class.
+ */
+private WorldGenerator() {
+	throw new UnsupportedOperationException("Utility class cannot be instantiated");
+}
+
+//----------------------------- Generation --------------------------------
+
+/**
+ * Generates a world, filling rows in parallel.
+ *
+ * @param settings generation settings
+ * @return generated world
+ */
+public static World generate(final Settings settings) {
+	final World world = new World(settings.width(), settings.height());
+	IntStream.range(0, settings.height()).parallel().forEach(y -> fillRow(world, settings, y));
+	return world;
+}
+
+/**
+ * Fills one row; touches no other row, so rows may run concurrently.
+ */
+private static void fillRow(final World world, final Settings settings, final int y) {
+	for (int x = 0; x < settings.width(); x++) {
+		final Position pos = new Position(x, y);
+		final Cell cell = world.getCell(pos);
+		if (uniform(settings.seed(), Species.PLANT, 0, x, y) < density(settings, Species.PLANT, x, y)) {
+			final Plant plant = new Plant(energy(settings, Species.PLANT, x, y));
+			cell.setPlant(plant);
+			plant.setPosition(pos);
+		}
+		final double herbivores = density(settings, Species.HERBIVORE, x, y);
+		final double draw = uniform(settings.seed(), Species.HERBIVORE, 0, x, y);
+		Animal animal = null;
+		if (draw < herbivores) {
+			animal = new Herbivore(energy(settings, Species.HERBIVORE, x, y));
+		} else if (draw < herbivores + density(settings, Species.CARNIVORE, x, y)) {
+			animal = new Carnivore(energy(settings, Species.CARNIVORE, x, y));
+		}
+		if (animal != null) {
+			cell.setAnimal(animal);
+			animal.setPosition(pos);
+		}
+	}
+}
+
+/**
+ * Returns the local density of a species: base density scaled by its noise field.
+ */
+private static double density(final Settings settings, final Species species, final int x, final int y) {
+	final double base = settings.density(species);
+	if (settings.clustering() == 0) return base;
+	final double noise = valueNoise(settings.seed(), species, x, y, settings.patchSize());
+	return Math.min(1, base * (1 - settings.clustering() + settings.clustering() * 2 * noise));
+}
+
+/**
+ * Returns an energy drawn uniformly in the species' configured range.
+ */
+private static int energy(final Settings settings, final Species species, final int x, final int y) {
+	final int min = settings.minEnergy(species);
+	final int span = settings.maxEnergy(species) - min + 1;
+	return min + (int) (uniform(settings.seed(), species, 1, x, y) * span);
+}
+
+/**
+ * Returns smooth value noise in [0, 1]: bilinear (smoothstep) interpolation of lattice values
+ * placed every {@code scale} cells.
+ */
+private static double valueNoise(final long seed, final Species species, final int x, final int y, final int scale) {
+	final int gx = Math.floorDiv(x, scale);
+	final int gy = Math.floorDiv(y, scale);
+	final double fx = smoothstep((x - gx * (double) scale) / scale);
+	final double fy = smoothstep((y - gy * (double) scale) / scale);
+	final double top = lerp(uniform(seed, species, 2, gx, gy), uniform(seed, species, 2, gx + 1, gy), fx);
+	final double bottom = lerp(uniform(seed, species, 2, gx, gy + 1), uniform(seed, species, 2, gx + 1, gy + 1), fx);
+	return lerp(top, bottom, fy);
+}
+
+/**
+ * Returns a uniform double in [0, 1) hashed from (seed, species, purpose, x, y).
+ */
+private static double uniform(final long seed, final Species species, final int purpose, final int x, final int y) {
+	long z = seed ^ ((long) species.ordinal() << 60 | (long) purpose << 56) ^ ((long) y << 28 ^ x) * 0x9E3779B97F4A7C15L;
+	z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+	z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+	z ^= z >>> 31;
+	return (z >>> 11) * 0x1.0p-53;
+}
+
+/**
+ * Linear interpolation between {@code a} and {@code b}.
+ */
+private static double lerp(final double a, final double b, final double t) {
+	return a + (b - a) * t;
+}
+
+/**
+ * Smoothstep easing of {@code t} in [0, 1].
+ */
+private static double smoothstep(final double t) {
+	return t * t * (3 - 2 * t);
+}
+
+//----------------------------- Command Line ------------------------------
+
+/**
+ * Generates a world and writes it to a file ({@code .rle} or JSON, see
+ * {@link WorldLoader#save(World, String)}).
+ *
+ * <p>Options ({@code --name value}): {@code width}, {@code height}, {@code seed},
+ * {@code plants}, {@code herbivores}, {@code carnivores} (densities in [0, 1]),
+ * {@code clustering} ([0, 1]), {@code patch} (cells), {@code out} (required).</p>
+ *
+ * @param args command-line options
+ */
+public static void main(final String[] args) {
+	Settings settings = Settings.of(100, 100, 42L);
+	String out = null;
+	try {
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			final String value = args[i + 1];
+			switch (args[i]) {
+				case "--width" -> settings = settings.withSize(Integer.parseInt(value), settings.height());
+				case "--height" -> settings = settings.withSize(settings.width(), Integer.parseInt(value));
+				case "--seed" -> settings = settings.withSeed(Long.parseLong(value));
+				case "--plants" -> settings = settings.withDensities(Double.parseDouble(value), settings.herbivoreDensity(), settings.carnivoreDensity());
+				case "--herbivores" -> settings = settings.withDensities(settings.plantDensity(), Double.parseDouble(value), settings.carnivoreDensity());
+				case "--carnivores" -> settings = settings.withDensities(settings.plantDensity(), settings.herbivoreDensity(), Double.parseDouble(value));
+				case "--clustering" -> settings = settings.withClustering(Double.parseDouble(value), settings.patchSize());
+				case "--patch" -> settings = settings.withClustering(settings.clustering(), Integer.parseInt(value));
+				case "--out" -> out = value;
+				default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+			}
+		}
+		if (out == null) throw new IllegalArgumentException("Missing --out <file.rle|file.json>");
+	} catch (IllegalArgumentException e) {
+		System.err.println(e.getMessage());
+		System.err.println("Usage: --width W --height H [--seed S] [--plants D] [--herbivores D] [--carnivores D]"
+			+ " [--clustering C] [--patch P] --out FILE");
+		return;
+	}
+
+	final long start = System.nanoTime();
+	final World world = generate(settings);
+	final long generated = System.nanoTime();
+	try {
+		WorldLoader.save(world, out);
+	} catch (IOException e) {
+		System.err.println("Error writing file: " + e.getMessage());
+		return;
+	}
+	System.out.printf("Generated %dx%d in %d ms, written to %s in %d ms%n", settings.width(), settings.height(),
+		(generated - start) / 1_000_000, out, (System.nanoTime() - generated) / 1_000_000);
+}
+
+//=============================================================================
+//                                 Settings
+//=============================================================================
+
+/**
+ * Immutable generation settings; start from {@link #of(int, int, long)} and adjust with the
+ * {@code with...} methods.
+ *
+ * @param width            world width
+ * @param height           world height
+ * @param seed             generation seed
+ * @param plantDensity     probability of a plant per cell, in [0, 1]
+ * @param herbivoreDensity probability of a herbivore per cell, in [0, 1]
+ * @param carnivoreDensity probability of a carnivore per cell, in [0, 1]
+ * @param energyRanges     {min, max} energy per species, indexed by {@link Species#ordinal()}
+ * @param clustering       patchiness in [0, 1] (0 = uniform)
+ * @param patchSize        noise lattice spacing in cells (>= 1)
+ */
+public record Settings(int width, int height, long seed,
+                       double plantDensity, double herbivoreDensity, double carnivoreDensity,
+                       int[][] energyRanges, double clustering, int patchSize) {
+	/**
+	 * Validates the settings.
+	 *
+	 * @throws IllegalArgumentException if a value is out of range
+	 */
+	public Settings {
+		if (width <= 0 || height <= 0) {
+			throw new IllegalArgumentException("Invalid dimensions: " + width + "x" + height);
+		}
+		if (!inUnit(plantDensity) || !inUnit(herbivoreDensity) || !inUnit(carnivoreDensity)
+			|| herbivoreDensity + carnivoreDensity > 1) {
+			throw new IllegalArgumentException("Densities must be in [0, 1] (herbivores + carnivores <= 1)");
+		}
+		if (!inUnit(clustering) || patchSize < 1) {
+			throw new IllegalArgumentException("Clustering must be in [0, 1] and patch size >= 1");
+		}
+		for (Species species : Species.values()) {
+			final int[] range = energyRanges[species.ordinal()];
+			if (range[0] < 1 || range[1] < range[0] || range[1] > species.maxEnergy()) {
+				throw new IllegalArgumentException("Invalid energy range for " + species + ": " + range[0] + ".." + range[1]);
+			}
+		}
+	}
+
+	/**
+	 * Returns default settings: 30% plants, 5% herbivores, 1% carnivores, energies 1..max,
+	 * moderate clustering with 16-cell patches.
+	 *
+	 * @param width  world width
+	 * @param height world height
+	 * @param seed   generation seed
+	 * @return settings
+	 */
+	public static Settings of(final int width, final int height, final long seed) {
+		final int[][] ranges = new int[Species.values().length][];
+		for (Species species : Species.values()) ranges[species.ordinal()] = new int[]{1, species.maxEnergy()};
+		return new Settings(width, height, seed, 0.30, 0.05, 0.01, ranges, 0.5, 16);
+	}
+
+	/**
+	 * Returns a copy with other dimensions.
+	 *
+	 * @param width  world width
+	 * @param height world height
+	 * @return settings
+	 */
+	public Settings withSize(final int width, final int height) {
+		return new Settings(width, height, seed, plantDensity, herbivoreDensity, carnivoreDensity, energyRanges, clustering, patchSize);
+	}
+
+	/**
+	 * Returns a copy with another seed.
+	 *
+	 * @param seed generation seed
+	 * @return settings
+	 */
+	public Settings withSeed(final long seed) {
+		return new Settings(width, height, seed, plantDensity, herbivoreDensity, carnivoreDensity, energyRanges, clustering, patchSize);
+	}
+
+	/**
+	 * Returns a copy with other densities.
+	 *
+	 * @param plants     plant probability per cell
+	 * @param herbivores herbivore probability per cell
+	 * @param carnivores carnivore probability per cell
+	 * @return settings
+	 */
+	public Settings withDensities(final double plants, final double herbivores, final double carnivores) {
+		return new Settings(width, height, seed, plants, herbivores, carnivores, energyRanges, clustering, patchSize);
+	}
+
+	/**
+	 * Returns a copy with another energy range for one species.
+	 *
+	 * @param species species
+	 * @param min     minimum energy (>= 1)
+	 * @param max     maximum energy (<= species maximum)
+	 * @return settings
+	 */
+	public Settings withEnergies(final Species species, final int min, final int max) {
+		final int[][] ranges = energyRanges.clone();
+		ranges[species.ordinal()] = new int[]{min, max};
+		return new Settings(width, height, seed, plantDensity, herbivoreDensity, carnivoreDensity, ranges, clustering, patchSize);
+	}
+
+	/**
+	 * Returns a copy with other clustering parameters.
+	 *
+	 * @param clustering patchiness in [0, 1]
+	 * @param patchSize  noise lattice spacing in cells
+	 * @return settings
+	 */
+	public Settings withClustering(final double clustering, final int patchSize) {
+		return new Settings(width, height, seed, plantDensity, herbivoreDensity, carnivoreDensity, energyRanges, clustering, patchSize);
+	}
+
+	/**
+	 * Returns the base density of a species.
+	 *
+	 * @param species species
+	 * @return probability per cell
+	 */
+	public double density(final Species species) {
+		return switch (species) {
+			case PLANT -> plantDensity;
+			case HERBIVORE -> herbivoreDensity;
+			case CARNIVORE -> carnivoreDensity;
+		};
+	}
+
+	/**
+	 * Returns the minimum generated energy of a species.
+	 *
+	 * @param species species
+	 * @return minimum energy
+	 */
+	public int minEnergy(final Species species) {
+		return energyRanges[species.ordinal()][0];
+	}
+
+	/**
+	 * Returns the maximum generated energy of a species.
+	 *
+	 * @param species species
+	 * @return maximum energy
+	 */
+	public int maxEnergy(final Species species) {
+		return energyRanges[species.ordinal()][1];
+	}
+
+	/**
+	 * Returns whether a value lies in [0, 1].
+	 */
+	private static boolean inUnit(final double value) {
+		return value >= 0 && value <= 1;
+	}
+}
+}
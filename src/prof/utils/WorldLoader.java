@@ -8,18 +8,45 @@
 package prof.utils;
 
 import student.model.core.Cell;
+import student.model.core.OccupancyLayers;
 import student.model.core.Position;
+import student.model.core.RowBands;
 import student.model.core.World;
 import student.model.organisms.Animal;
 import student.model.organisms.Carnivore;
 import student.model.organisms.Herbivore;
+import student.model.organisms.Organism;
 import student.model.organisms.Plant;
+import student.model.organisms.Species;
 
 import java.io.BufferedReader;
-import java.io.FileReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 //=============================================================================
 //                              WorldLoader
@@ -42,9 +69,58 @@ import java.util.regex.Pattern;
  *
  * <p><strong>Warning:</strong> This is NOT a generic JSON parser.
  * Use only for simple configuration files.</p>
+ *
+ * <p>Dense worlds can also be stored as run-length encoded grids ({@code .rle}, in the spirit of
+ * Life RLE), read and written as streams. {@link #load(String)} and {@link #save(World, String)}
+ * pick the format from the file extension:</p>
+ * <pre>{@code
+ * #S A p3          <- palette: symbol, then slot codes (p/h/c + energy, comma separated)
+ * #S B p2,h7
+ * x = 10, y = 8, rule = ecosim
+ * 3.2A.B$$4A!      <- [count]symbol runs, '.' empty, '$' end of row, '!' end of grid
+ * }</pre>
+ * <p>Symbols are one uppercase letter {@code A}-{@code X}, prefixed by lowercase letters beyond
+ * the first 24 palette entries. Trailing empty cells of a row are omitted and whitespace is
+ * ignored.</p>
+ *
+ * <p>Every loader can report its {@link Progress} (bytes read, organisms placed) and be cancelled
+ * through it, so callers can load off the UI thread.</p>
  */
 public final class WorldLoader {
 
+//----------------------------- Constants ---------------------------------
+
+/**
+ * File size from which {@link #loadFromJson(String)} memory-maps the file and parses the
+ * organism arrays in parallel (smaller files go through the regex parser).
+ */
+public static final long PARALLEL_THRESHOLD_BYTES = 8L << 20;
+
+/**
+ * File extension of the run-length encoded grid format.
+ */
+public static final String RLE_EXTENSION = ".rle";
+
+/**
+ * Maximum RLE body line length (tokens are never split).
+ */
+private static final int RLE_LINE_LENGTH = 70;
+
+/**
+ * Minimum bytes of array content per parallel parsing segment.
+ */
+private static final int MIN_SEGMENT_BYTES = 1 << 16;
+
+/**
+ * Bytes read between two progress reports.
+ */
+private static final int REPORT_BYTES = 1 << 16;
+
+/**
+ * Organisms placed between two progress reports.
+ */
+private static final int REPORT_ORGANISMS = 1 << 12;
+
 //----------------------------- Constructor -------------------------------
 
 /**
@@ -56,6 +132,53 @@ private WorldLoader() {
 
 //----------------------------- Public API --------------------------------
 
+/**
+ * Loads a world, choosing the format from the extension ({@value #RLE_EXTENSION} for the
+ * run-length grid format, JSON otherwise).
+ *
+ * @param filePath the path to the world file
+ * @return the loaded world instance, or {@code null} if loading fails
+ */
+public static World load(final String filePath) {
+	return load(filePath, Progress.NONE);
+}
+
+/**
+ * Loads a world like {@link #load(String)}, reporting progress from the calling thread and the
+ * parsing workers.
+ *
+ * @param filePath the path to the world file
+ * @param progress progress sink, polled for cancellation
+ * @return the loaded world instance, or {@code null} if loading fails
+ * @throws CancellationException if {@link Progress#isCancelled()} turned true (the partial world
+ *                               is discarded)
+ */
+public static World load(final String filePath, final Progress progress) {
+	return isRle(filePath) ? loadFromRle(filePath, progress) : loadFromJson(filePath, progress);
+}
+
+/**
+ * Saves a world, choosing the format from the extension ({@value #RLE_EXTENSION} for the
+ * run-length grid format, JSON otherwise).
+ *
+ * @param world    the world to save
+ * @param filePath the destination path
+ * @throws IOException if the file cannot be written
+ */
+public static void save(final World world, final String filePath) throws IOException {
+	try (Writer out = Files.newBufferedWriter(Path.of(filePath), StandardCharsets.UTF_8)) {
+		if (isRle(filePath)) writeRle(world, out);
+		else writeJson(world, out);
+	}
+}
+
+/**
+ * Returns whether a path names a run-length grid file.
+ */
+private static boolean isRle(final String filePath) {
+	return filePath.toLowerCase().endsWith(RLE_EXTENSION);
+}
+
 /**
  * Loads a world from a minimal JSON configuration file.
  *
@@ -63,13 +186,32 @@ private WorldLoader() {
  * @return the loaded world instance, or {@code null} if loading fails
  */
 public static World loadFromJson(final String filePath) {
-	try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
+	return loadFromJson(filePath, Progress.NONE);
+}
+
+/**
+ * Loads a world from a minimal JSON configuration file, reporting progress.
+ *
+ * @param filePath the path to the JSON configuration file
+ * @param progress progress sink, polled for cancellation
+ * @return the loaded world instance, or {@code null} if loading fails
+ * @throws CancellationException if loading was cancelled
+ */
+private static World loadFromJson(final String filePath, final Progress progress) {
+	if (new File(filePath).length() >= PARALLEL_THRESHOLD_BYTES) {
+		return loadMapped(filePath, progress);
+	}
+	try (BufferedReader reader = openReader(filePath, progress)) {
 		final StringBuilder jsonContent = new StringBuilder();
 		String line;
 		while ((line = reader.readLine()) != null) {
 			jsonContent.append(line.trim());
 		}
-		return parseSimpleJson(jsonContent.toString());
+		final World world = parseSimpleJson(jsonContent.toString());
+		if (world != null) reportPlaced(world, progress);
+		return world;
+	} catch (CancellationException e) {
+		throw e;
 	} catch (IOException e) {
 		System.err.println("Error loading file: " + e.getMessage());
 		return null;
@@ -335,4 +477,615 @@ private static void parseCarnivoresSimple(final String content, final World worl
 		placeAnimalIfPossible(world, carnivore, posx, posy, "carnivore");
 	}
 }
+
+//----------------------------- Parallel Parsing --------------------------
+
+/**
+ * Loads a large configuration by memory-mapping it and parsing the organism arrays in parallel.
+ *
+ * <p>Each array is cut into segments at object boundaries (an object belongs to the segment
+ * where its opening brace lies); segments are parsed concurrently into organisms, then
+ * concatenated back in file order. Placement then runs over parallel row bands
+ * ({@link RowBands}): the stable row bucketing keeps file order within each row, and two
+ * organisms competing for a slot always share a row, so the first one in file order wins exactly
+ * as with {@link #parseSimpleJson(String)}. On well-formed files both paths build the same world;
+ * only the interleaving of error messages may differ.</p>
+ *
+ * @param filePath the path to the JSON configuration file
+ * @param progress progress sink (bytes parsed, organisms placed), polled for cancellation
+ * @return the loaded world instance, or {@code null} if loading fails
+ * @throws CancellationException if loading was cancelled
+ */
+private static World loadMapped(final String filePath, final Progress progress) {
+	try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+		if (channel.size() > Integer.MAX_VALUE) {
+			System.err.println("Error loading file: too large to map (" + channel.size() + " bytes)");
+			return null;
+		}
+		final ByteBuffer json = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		final int width = findNumber(json, 0, json.limit(), "width");
+		final int height = findNumber(json, 0, json.limit(), "height");
+		if (width <= 0 || height <= 0) {
+			System.err.println("Invalid dimensions: " + width + "x" + height);
+			return null;
+		}
+		
+		final World world = new World(width, height);
+		final AtomicLong parsed = new AtomicLong();
+		final List<Organism> organisms = new ArrayList<>();
+		organisms.addAll(parseArrayParallel(json, "plants", Species.PLANT, progress, parsed));
+		organisms.addAll(parseArrayParallel(json, "herbivores", Species.HERBIVORE, progress, parsed));
+		organisms.addAll(parseArrayParallel(json, "carnivores", Species.CARNIVORE, progress, parsed));
+		progress.bytesRead(json.limit(), json.limit());
+		
+		placeAll(world, organisms, progress);
+		return world;
+	} catch (CancellationException e) {
+		throw e;
+	} catch (IOException e) {
+		System.err.println("Error loading file: " + e.getMessage());
+		return null;
+	} catch (Exception e) {
+		System.err.println("Error parsing JSON: " + e.getMessage());
+		return null;
+	}
+}
+
+/**
+ * Places parsed organisms (positions set by the parser) over parallel row bands. Row bucketing
+ * is stable and competing organisms always share a row, so slot conflicts resolve in list order.
+ *
+ * @param world     the world to place the organisms in
+ * @param organisms organisms in file order
+ * @param progress  progress sink (organisms handled so far), polled for cancellation
+ * @throws CancellationException if loading was cancelled
+ */
+private static void placeAll(final World world, final List<Organism> organisms, final Progress progress) {
+	// Out-of-grid entries are reported (in file order) and dropped before row bucketing.
+	final List<Organism> placeable = new ArrayList<>(organisms.size());
+	for (Organism organism : organisms) {
+		if (world.isValidPosition(organism.getPosition())) placeable.add(organism);
+		else place(world, organism);
+	}
+	final int total = organisms.size();
+	final AtomicInteger placed = new AtomicInteger(total - placeable.size());
+	RowBands.forEach(world, placeable, RowBands.DEFAULT_THRESHOLD, organism -> {
+		place(world, organism);
+		final int count = placed.incrementAndGet();
+		if (count % REPORT_ORGANISMS == 0) {
+			checkCancelled(progress);
+			progress.organismsPlaced(count, total);
+		}
+	});
+	progress.organismsPlaced(total, total);
+}
+
+/**
+ * Places a parsed organism (position set by the parser) through the regular placement rules.
+ *
+ * @param world    the world to place the organism in
+ * @param organism the organism to place
+ */
+private static void place(final World world, final Organism organism) {
+	final Position pos = organism.getPosition();
+	switch (organism.getSpecies()) {
+		case PLANT -> placePlantIfPossible(world, (Plant) organism, pos.x(), pos.y());
+		case HERBIVORE -> placeAnimalIfPossible(world, (Animal) organism, pos.x(), pos.y(), "herbivore");
+		case CARNIVORE -> placeAnimalIfPossible(world, (Animal) organism, pos.x(), pos.y(), "carnivore");
+	}
+}
+
+/**
+ * Parses one organism array of a mapped file, segments in parallel, results in file order.
+ *
+ * @param json    mapped file
+ * @param name    array name
+ * @param species species of the array entries
+ * @param progress progress sink (array bytes parsed so far), polled for cancellation
+ * @param parsed   array bytes parsed so far, shared by the arrays of one file (advanced)
+ * @return parsed organisms with their position set (empty if the array is absent)
+ * @throws CancellationException if loading was cancelled
+ */
+private static List<Organism> parseArrayParallel(final ByteBuffer json, final String name, final Species species,
+                                                 final Progress progress, final AtomicLong parsed) {
+	final int[] range = findArray(json, name);
+	if (range == null) return List.of();
+	final int from = range[0];
+	final int to = range[1];
+	final int segments = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, (to - from) / MIN_SEGMENT_BYTES));
+	final int[] starts = new int[segments + 1];
+	for (int k = 0; k < segments; k++) {
+		starts[k] = indexOf(json, (byte) '{', from + (int) ((long) (to - from) * k / segments), to);
+	}
+	starts[segments] = to;
+	
+	final List<List<Organism>> segmentsParsed = new ArrayList<>(Collections.nCopies(segments, List.of()));
+	IntStream.range(0, segments).parallel().forEach(k -> {
+		checkCancelled(progress);
+		final List<Organism> out = new ArrayList<>();
+		for (int open = starts[k]; open < starts[k + 1]; open = indexOf(json, (byte) '{', open + 1, to)) {
+			final int close = indexOf(json, (byte) '}', open, to);
+			out.add(createOrganism(species,
+				findNumber(json, open, close, "energy"),
+				findNumber(json, open, close, "posx"),
+				findNumber(json, open, close, "posy")));
+		}
+		segmentsParsed.set(k, out);
+		progress.bytesRead(parsed.addAndGet(starts[k + 1] - starts[k]), json.limit());
+	});
+	
+	final List<Organism> organisms = new ArrayList<>();
+	for (List<Organism> segment : segmentsParsed) organisms.addAll(segment);
+	return organisms;
+}
+
+/**
+ * Creates an organism with the same energy rules as the regex parsers.
+ */
+private static Organism createOrganism(final Species species, final int energy, final int x, final int y) {
+	final Organism organism = switch (species) {
+		case PLANT -> new Plant(energy <= 0 ? 1 : energy);
+		case HERBIVORE -> new Herbivore(energy);
+		case CARNIVORE -> new Carnivore(energy);
+	};
+	organism.setPosition(new Position(x, y));
+	return organism;
+}
+
+/**
+ * Locates the content of array {@code "name": [ ... ]} (up to the first {@code ]}), like
+ * {@link #extractArray(String, String)}.
+ *
+ * @return {start, end} byte offsets of the content, or {@code null} if not found
+ */
+private static int[] findArray(final ByteBuffer json, final String name) {
+	final byte[] key = ('"' + name + '"').getBytes(StandardCharsets.UTF_8);
+	for (int at = indexOf(json, key, 0, json.limit()); at < json.limit(); at = indexOf(json, key, at + 1, json.limit())) {
+		int i = skipSpaces(json, at + key.length, json.limit());
+		if (i >= json.limit() || json.get(i) != ':') continue;
+		i = skipSpaces(json, i + 1, json.limit());
+		if (i >= json.limit() || json.get(i) != '[') continue;
+		final int end = indexOf(json, (byte) ']', i + 1, json.limit());
+		if (end < json.limit()) return new int[]{i + 1, end};
+	}
+	return null;
+}
+
+/**
+ * Returns the first {@code "key": <digits>} value within {@code [from, to)}, like
+ * {@link #extractNumberFromObject(String, String)}.
+ *
+ * @return the number, or 0 if not found or out of {@code int} range
+ */
+private static int findNumber(final ByteBuffer json, final int from, final int to, final String name) {
+	final byte[] key = ('"' + name + '"').getBytes(StandardCharsets.UTF_8);
+	for (int at = indexOf(json, key, from, to); at < to; at = indexOf(json, key, at + 1, to)) {
+		int i = skipSpaces(json, at + key.length, to);
+		if (i >= to || json.get(i) != ':') continue;
+		i = skipSpaces(json, i + 1, to);
+		long value = 0;
+		final int digits = i;
+		while (i < to && json.get(i) >= '0' && json.get(i) <= '9') {
+			value = Math.min(value * 10 + (json.get(i++) - '0'), (long) Integer.MAX_VALUE + 1);
+		}
+		if (i == digits) continue;
+		if (value > Integer.MAX_VALUE) {
+			System.err.println("Format error for '" + name + "'");
+			return 0;
+		}
+		return (int) value;
+	}
+	return 0;
+}
+
+/**
+ * Returns the index of the first {@code b} in {@code [from, to)}, or {@code to}.
+ */
+private static int indexOf(final ByteBuffer json, final byte b, final int from, final int to) {
+	for (int i = from; i < to; i++) {
+		if (json.get(i) == b) return i;
+	}
+	return to;
+}
+
+/**
+ * Returns the index of the first occurrence of {@code key} starting in {@code [from, to)} and
+ * ending before {@code to}, or {@code to}.
+ */
+private static int indexOf(final ByteBuffer json, final byte[] key, final int from, final int to) {
+	outer:
+	for (int i = from; i <= to - key.length; i++) {
+		for (int j = 0; j < key.length; j++) {
+			if (json.get(i + j) != key[j]) continue outer;
+		}
+		return i;
+	}
+	return to;
+}
+
+/**
+ * Returns the index of the first non-whitespace byte ({@code \s} in regex terms) at or after
+ * {@code from}, or {@code to}.
+ */
+private static int skipSpaces(final ByteBuffer json, int from, final int to) {
+	while (from < to) {
+		final byte b = json.get(from);
+		if (b != ' ' && b != '\t' && b != '\n' && b != '\r' && b != '\f' && b != 0x0B) break;
+		from++;
+	}
+	return from;
+}
+
+//----------------------------- JSON Writing ------------------------------
+
+/**
+ * Streams a world in the JSON configuration format, one organism per line (dead occupants
+ * awaiting cleanup are skipped, as the format cannot express them).
+ *
+ * @param world the world to write
+ * @param out   destination
+ * @throws IOException if writing fails
+ */
+public static void writeJson(final World world, final Writer out) throws IOException {
+	out.write("{\n  \"world\": {\n    \"width\": " + world.getWidth() + ",\n    \"height\": " + world.getHeight() + "\n  },\n");
+	writeJsonArray(world, out, "plants", Species.PLANT);
+	out.write(",\n");
+	writeJsonArray(world, out, "herbivores", Species.HERBIVORE);
+	out.write(",\n");
+	writeJsonArray(world, out, "carnivores", Species.CARNIVORE);
+	out.write("\n}\n");
+}
+
+/**
+ * Writes the living organisms of one species as a JSON array, row-major.
+ */
+private static void writeJsonArray(final World world, final Writer out, final String name, final Species species) throws IOException {
+	out.write("  \"" + name + "\": [");
+	boolean first = true;
+	for (int y = 0; y < world.getHeight(); y++) {
+		for (int x = 0; x < world.getWidth(); x++) {
+			final Cell cell = world.getCell(new Position(x, y));
+			final Organism organism = species == Species.PLANT ? cell.getPlant() : cell.getAnimal();
+			if (organism == null || organism.getSpecies() != species || !organism.isAlive()) continue;
+			out.write(first ? "\n" : ",\n");
+			out.write("    {\"energy\": " + organism.getEnergy() + ", \"posx\": " + x + ", \"posy\": " + y + "}");
+			first = false;
+		}
+	}
+	out.write(first ? "]" : "\n  ]");
+}
+
+//----------------------------- RLE Format --------------------------------
+
+/**
+ * Loads a world from a run-length encoded grid file.
+ *
+ * @param filePath the path to the {@value #RLE_EXTENSION} file
+ * @return the loaded world instance, or {@code null} if loading fails
+ */
+public static World loadFromRle(final String filePath) {
+	return loadFromRle(filePath, Progress.NONE);
+}
+
+/**
+ * Loads a world from a run-length encoded grid file, reporting progress.
+ *
+ * @param filePath the path to the {@value #RLE_EXTENSION} file
+ * @param progress progress sink, polled for cancellation
+ * @return the loaded world instance, or {@code null} if loading fails
+ * @throws CancellationException if loading was cancelled
+ */
+private static World loadFromRle(final String filePath, final Progress progress) {
+	try (BufferedReader reader = openReader(filePath, progress)) {
+		final World world = readRle(reader, progress);
+		// The body ends at '!', possibly before the reader reached end of file.
+		final long size = new File(filePath).length();
+		progress.bytesRead(size, size);
+		return world;
+	} catch (CancellationException e) {
+		throw e;
+	} catch (IOException e) {
+		System.err.println("Error loading file: " + e.getMessage());
+		return null;
+	} catch (Exception e) {
+		System.err.println("Error parsing RLE: " + e.getMessage());
+		return null;
+	}
+}
+
+/**
+ * Streams a world from run-length encoded grid text: runs are decoded as they are read, then the
+ * organisms are placed over parallel row bands.
+ *
+ * @param reader source (palette and header lines, then the body)
+ * @return the loaded world instance, or {@code null} if the dimensions are invalid
+ * @throws IOException              if reading fails
+ * @throws IllegalArgumentException if the text is malformed
+ */
+public static World readRle(final BufferedReader reader) throws IOException {
+	return readRle(reader, Progress.NONE);
+}
+
+/**
+ * Streams a world from run-length encoded grid text, reporting placement progress.
+ */
+private static World readRle(final BufferedReader reader, final Progress progress) throws IOException {
+	final Map<String, String[]> palette = new HashMap<>();
+	String line;
+	while ((line = reader.readLine()) != null) {
+		line = line.trim();
+		if (line.startsWith("#S")) {
+			final String[] parts = line.substring(2).trim().split("\\s+", 2);
+			palette.put(parts[0], parts.length > 1 ? parts[1].split(",") : new String[0]);
+		} else if (!line.isEmpty() && !line.startsWith("#")) {
+			break; // header line
+		}
+	}
+	if (line == null) throw new IllegalArgumentException("Missing RLE header");
+	final Matcher header = Pattern.compile("x\\s*=\\s*(\\d+)\\s*,\\s*y\\s*=\\s*(\\d+)").matcher(line);
+	if (!header.find()) throw new IllegalArgumentException("Invalid RLE header: " + line);
+	final int width = Integer.parseInt(header.group(1));
+	final int height = Integer.parseInt(header.group(2));
+	if (width <= 0 || height <= 0) {
+		System.err.println("Invalid dimensions: " + width + "x" + height);
+		return null;
+	}
+	
+	final World world = new World(width, height);
+	final List<Organism> organisms = new ArrayList<>();
+	final StringBuilder symbol = new StringBuilder();
+	int x = 0;
+	int y = 0;
+	int count = 0;
+	int c;
+	while ((c = reader.read()) != -1 && c != '!') {
+		if (Character.isWhitespace(c)) continue;
+		if (c >= '0' && c <= '9') {
+			count = count * 10 + (c - '0');
+			continue;
+		}
+		final int run = Math.max(1, count);
+		count = 0;
+		if (c == '$') {
+			y += run;
+			x = 0;
+		} else if (c == '.') {
+			x += run;
+		} else if (c >= 'a' && c <= 'z') {
+			symbol.append((char) c);
+			count = run == 1 ? 0 : run; // prefix letter: the count applies to the whole symbol
+		} else if (c >= 'A' && c <= 'Z') {
+			symbol.append((char) c);
+			final String[] codes = palette.get(symbol.toString());
+			if (codes == null) throw new IllegalArgumentException("Unknown RLE symbol: " + symbol);
+			for (int i = 0; i < run; i++) addCodes(organisms, codes, x++, y);
+			symbol.setLength(0);
+		} else {
+			throw new IllegalArgumentException("Unexpected RLE character: " + (char) c);
+		}
+	}
+	placeAll(world, organisms, progress);
+	return world;
+}
+
+/**
+ * Creates the organisms described by palette codes ({@code p3}, {@code h7}, {@code c12}) for a
+ * cell.
+ */
+private static void addCodes(final List<Organism> organisms, final String[] codes, final int x, final int y) {
+	for (String code : codes) {
+		final Species species = switch (code.charAt(0)) {
+			case 'p' -> Species.PLANT;
+			case 'h' -> Species.HERBIVORE;
+			case 'c' -> Species.CARNIVORE;
+			default -> throw new IllegalArgumentException("Unknown RLE cell code: " + code);
+		};
+		organisms.add(createOrganism(species, Integer.parseInt(code.substring(1)), x, y));
+	}
+}
+
+/**
+ * Streams a world as run-length encoded grid text: palette, header, then one run list per row
+ * (dead occupants awaiting cleanup are skipped, as in {@link #writeJson(World, Writer)}).
+ *
+ * @param world the world to write
+ * @param out   destination
+ * @throws IOException if writing fails
+ */
+public static void writeRle(final World world, final Writer out) throws IOException {
+	// Palette: one symbol per distinct cell content, in order of first appearance.
+	final Map<String, String> symbols = new LinkedHashMap<>();
+	for (int y = 0; y < world.getHeight(); y++) {
+		for (int x = 0; x < world.getWidth(); x++) {
+			final String codes = cellCodes(world.getCell(new Position(x, y)));
+			if (codes != null && !symbols.containsKey(codes)) symbols.put(codes, rleSymbol(symbols.size()));
+		}
+	}
+	for (Map.Entry<String, String> entry : symbols.entrySet()) {
+		out.write("#S " + entry.getValue() + " " + entry.getKey() + "\n");
+	}
+	out.write("x = " + world.getWidth() + ", y = " + world.getHeight() + ", rule = ecosim\n");
+	
+	final int[] column = {0};
+	int lastRow = 0;
+	for (int y = 0; y < world.getHeight(); y++) {
+		final String[] row = new String[world.getWidth()];
+		for (int x = 0; x < row.length; x++) row[x] = cellCodes(world.getCell(new Position(x, y)));
+		boolean rowStarted = false;
+		int x = 0;
+		while (x < row.length) {
+			final String codes = row[x];
+			int run = 1;
+			while (x + run < row.length && Objects.equals(codes, row[x + run])) run++;
+			x += run;
+			if (codes == null && x == row.length) break; // trailing empties dropped
+			if (!rowStarted && y > lastRow) emitRle(out, column, (y - lastRow > 1 ? y - lastRow : "") + "$");
+			rowStarted = true;
+			emitRle(out, column, (run > 1 ? run : "") + (codes == null ? "." : symbols.get(codes)));
+		}
+		if (rowStarted) lastRow = y;
+	}
+	out.write("!\n");
+}
+
+/**
+ * Appends an RLE token, wrapping lines at {@link #RLE_LINE_LENGTH} characters.
+ */
+private static void emitRle(final Writer out, final int[] column, final String token) throws IOException {
+	if (column[0] + token.length() > RLE_LINE_LENGTH) {
+		out.write('\n');
+		column[0] = 0;
+	}
+	out.write(token);
+	column[0] += token.length();
+}
+
+/**
+ * Returns the palette codes of a cell's living occupants ({@code "p3,h7"}), or {@code null} if
+ * it has none.
+ */
+private static String cellCodes(final Cell cell) {
+	final Plant plant = cell.getPlant();
+	final Animal animal = cell.getAnimal();
+	final boolean hasPlant = plant != null && plant.isAlive();
+	final boolean hasAnimal = animal != null && animal.isAlive();
+	if (!hasPlant && !hasAnimal) return null;
+	final StringBuilder codes = new StringBuilder();
+	if (hasPlant) codes.append('p').append(plant.getEnergy());
+	if (hasAnimal) {
+		if (hasPlant) codes.append(',');
+		codes.append(animal.getSpecies() == Species.HERBIVORE ? 'h' : 'c').append(animal.getEnergy());
+	}
+	return codes.toString();
+}
+
+/**
+ * Returns the RLE symbol of palette entry {@code index}: {@code A}-{@code X}, then lowercase
+ * prefixes (bijective base 26) in front of them.
+ */
+private static String rleSymbol(final int index) {
+	final StringBuilder prefix = new StringBuilder();
+	for (int q = index / 24; q > 0; q = (q - 1) / 26) prefix.insert(0, (char) ('a' + (q - 1) % 26));
+	return prefix.toString() + (char) ('A' + index % 24);
+}
+
+//----------------------------- Progress ----------------------------------
+
+/**
+ * Opens a UTF-8 reader on a file that reports the bytes read and polls for cancellation.
+ */
+private static BufferedReader openReader(final String filePath, final Progress progress) throws IOException {
+	final File file = new File(filePath);
+	final InputStream in = new ProgressInputStream(new FileInputStream(file), file.length(), progress);
+	return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+}
+
+/**
+ * Reports the organisms of a world placed by a serial parser in one step.
+ */
+private static void reportPlaced(final World world, final Progress progress) {
+	final OccupancyLayers occupancy = world.getOccupancy();
+	final int placed = occupancy.count(OccupancyLayers.Layer.PLANT)
+		+ occupancy.count(OccupancyLayers.Layer.HERBIVORE)
+		+ occupancy.count(OccupancyLayers.Layer.CARNIVORE);
+	progress.organismsPlaced(placed, placed);
+}
+
+/**
+ * Throws if the load was cancelled.
+ *
+ * @throws CancellationException if {@link Progress#isCancelled()} is true
+ */
+private static void checkCancelled(final Progress progress) {
+	if (progress.isCancelled()) throw new CancellationException("Loading cancelled");
+}
+
+/**
+ * Input stream counting the bytes read for {@link Progress#bytesRead(long, long)} and failing
+ * with {@link CancellationException} once the load is cancelled.
+ */
+private static final class ProgressInputStream extends FilterInputStream {
+	private final long total;
+	private final Progress progress;
+	private long read;
+	private long lastReport;
+	
+	ProgressInputStream(final InputStream in, final long total, final Progress progress) {
+		super(in);
+		this.total = total;
+		this.progress = progress;
+	}
+	
+	@Override
+	public int read() throws IOException {
+		final int b = super.read();
+		if (b >= 0) advance(1);
+		return b;
+	}
+	
+	@Override
+	public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+		final int n = super.read(buffer, offset, length);
+		if (n > 0) advance(n);
+		else if (n < 0) progress.bytesRead(read, total);
+		return n;
+	}
+	
+	private void advance(final int n) {
+		read += n;
+		if (read - lastReport >= REPORT_BYTES) {
+			lastReport = read;
+			checkCancelled(progress);
+			progress.bytesRead(read, total);
+		}
+	}
+}
+
+//=============================================================================
+//                                 Progress
+//=============================================================================
+
+/**
+ * Receives loading progress. Methods may be called concurrently from parsing worker threads, at
+ * most every few thousand organisms or tens of kilobytes, and must be thread-safe.
+ */
+public interface Progress {
+	/**
+	 * Progress sink that ignores reports and never cancels.
+	 */
+	Progress NONE = new Progress() {
+		@Override
+		public void bytesRead(final long bytes, final long total) {
+		}
+		
+		@Override
+		public void organismsPlaced(final int placed, final int total) {
+		}
+	};
+	
+	/**
+	 * Reports the bytes read (or parsed) so far.
+	 *
+	 * @param bytes bytes read
+	 * @param total file size
+	 */
+	void bytesRead(long bytes, long total);
+	
+	/**
+	 * Reports the organisms handled by placement so far (placed or rejected).
+	 *
+	 * @param placed organisms handled
+	 * @param total  organisms to place
+	 */
+	void organismsPlaced(int placed, int total);
+	
+	/**
+	 * Returns whether the load should stop; polled between reports.
+	 *
+	 * @return {@code true} to abort with a {@link CancellationException}
+	 */
+	default boolean isCancelled() {
+		return false;
+	}
+}
 }
@@ -32,14 +32,22 @@ private JButton phase3Button;
 private JButton phase4Button;
 private JButton phase5Button;
 
+// Composants de l'historique (ligne du temps)
+private JSlider timelineSlider;
+private JLabel timelineLabel;
+private JButton liveButton;
+
 private JPanel filePanel;
 private JPanel centerPanel;
 private JPanel controlsPanel;
 private JPanel phasesPanel;
+private JPanel timelinePanel;
 
 // État
 private boolean simulationRunning = false;
+private boolean loading = false; // vrai pendant un chargement en arrière-plan
 private String loadedFileName = "Aucun fichier chargé";
+private boolean updatingTimeline = false; // vrai pendant une mise à jour programmatique du slider
 
 // Listeners
 private ActionListener fileLoadListener;
@@ -56,6 +64,9 @@ private ActionListener phase3Listener;
 private ActionListener phase4Listener;
 private ActionListener phase5Listener;
 
+// Listener de la ligne du temps (tour demandé; le maximum signifie "direct")
+private IntConsumer timelineListener;
+
 // Échelle pour le redimensionnement dynamique
 private double lastScale = 1.0;
 
@@ -87,6 +98,12 @@ private void initializeComponents() {
 	tickSpinner = new JSpinner(new SpinnerNumberModel(600, 50, 5000, 50));
 	tickLabel = new JLabel("Tick (ms)");
 	
+	// Ligne du temps (désactivée tant qu'aucun historique)
+	timelineSlider = new JSlider(0, 0, 0);
+	timelineSlider.setEnabled(false);
+	timelineLabel = new JLabel("Historique: direct");
+	liveButton = new JButton("Direct");
+	
 	// Configuration initiale
 	updateButtonStates();
 }
@@ -133,8 +150,20 @@ private void setupLayout() {
 	phasesPanel.add(phase4Button);
 	phasesPanel.add(phase5Button);
 	
+	// Ligne du temps (à gauche des phases)
+	timelinePanel = new JPanel(new BorderLayout(8, 0));
+	timelinePanel.setOpaque(false);
+	timelinePanel.add(timelineLabel, BorderLayout.WEST);
+	timelinePanel.add(timelineSlider, BorderLayout.CENTER);
+	timelinePanel.add(liveButton, BorderLayout.EAST);
+	
+	JPanel bottomRow = new JPanel(new BorderLayout(12, 0));
+	bottomRow.setOpaque(false);
+	bottomRow.add(timelinePanel, BorderLayout.CENTER);
+	bottomRow.add(phasesPanel, BorderLayout.EAST);
+	
 	add(topRow, BorderLayout.NORTH);
-	add(phasesPanel, BorderLayout.SOUTH);
+	add(bottomRow, BorderLayout.SOUTH);
 }
 
 private void setupStyling() {
@@ -156,11 +185,14 @@ private void styleAll() {
 	stylePhaseButton(phase3Button, new Color(230, 126, 34));
 	stylePhaseButton(phase4Button, new Color(155, 89, 182));
 	stylePhaseButton(phase5Button, new Color(149, 165, 166));
+	stylePhaseButton(liveButton, new Color(52, 73, 94));
 	
 	fileLabel.setFont(scaledFont(Font.ITALIC, 12));
 	phaseLabel.setFont(scaledFont(Font.BOLD, 13));
 	phaseLabel.setForeground(new Color(41, 128, 185));
 	tickLabel.setFont(scaledFont(Font.PLAIN, 12));
+	timelineLabel.setFont(scaledFont(Font.PLAIN, 12));
+	timelineSlider.setOpaque(false);
 	tickSpinner.setFont(scaledFont(Font.PLAIN, 13));
 	
 	int spinnerW = (int) Math.round(100 * lastScale);
@@ -256,17 +288,27 @@ private void setupEventHandlers() {
 	phase5Button.addActionListener(e -> {
 		if (phase5Listener != null) phase5Listener.actionPerformed(e);
 	});
+	
+	// Ligne du temps
+	timelineSlider.addChangeListener(_ -> {
+		updateTimelineLabel();
+		if (!updatingTimeline && timelineListener != null) timelineListener.accept(timelineSlider.getValue());
+	});
+	liveButton.addActionListener(_ -> timelineSlider.setValue(timelineSlider.getMaximum()));
 }
 
 private void updateButtonStates() {
-	stepButton.setEnabled(!simulationRunning);
-	nextPhaseButton.setEnabled(!simulationRunning);
-	phase1Button.setEnabled(!simulationRunning);
-	phase2Button.setEnabled(!simulationRunning);
-	phase3Button.setEnabled(!simulationRunning);
-	phase4Button.setEnabled(!simulationRunning);
-	phase5Button.setEnabled(!simulationRunning);
-	resetButton.setEnabled(true);
+	boolean idle = !simulationRunning && !loading;
+	loadButton.setEnabled(!loading);
+	playPauseButton.setEnabled(!loading);
+	stepButton.setEnabled(idle);
+	nextPhaseButton.setEnabled(idle);
+	phase1Button.setEnabled(idle);
+	phase2Button.setEnabled(idle);
+	phase3Button.setEnabled(idle);
+	phase4Button.setEnabled(idle);
+	phase5Button.setEnabled(idle);
+	resetButton.setEnabled(!loading);
 }
 
 // === Setters pour les listeners ===
@@ -316,6 +358,10 @@ public void setPhase5Listener(ActionListener listener) {
 	this.phase5Listener = listener;
 }
 
+public void setTimelineListener(IntConsumer listener) {
+	this.timelineListener = listener;
+}
+
 // === Méthodes publiques pour mise à jour ===
 
 public void setSimulationRunning(boolean running) {
@@ -324,6 +370,14 @@ public void setSimulationRunning(boolean running) {
 	updateButtonStates();
 }
 
+/**
+ * Désactive les commandes de simulation et de chargement pendant un chargement en arrière-plan.
+ */
+public void setLoading(boolean loading) {
+	this.loading = loading;
+	updateButtonStates();
+}
+
 public void setLoadedFileName(String fileName) {
 	this.loadedFileName = fileName;
 	fileLabel.setText(fileName);
@@ -337,6 +391,34 @@ public void setCurrentPhase(String phaseName) {
 	}
 }
 
+/**
+ * Met à jour les bornes de la ligne du temps (tours conservés). Si le curseur était en direct,
+ * il suit le nouveau maximum; sinon il reste sur le tour consulté. N'appelle pas le listener.
+ */
+public void setTimelineRange(int oldestTurn, int newestTurn) {
+	boolean live = isTimelineLive();
+	int value = timelineSlider.getValue();
+	updatingTimeline = true;
+	timelineSlider.setMinimum(oldestTurn);
+	timelineSlider.setMaximum(Math.max(oldestTurn, newestTurn));
+	timelineSlider.setValue(live ? timelineSlider.getMaximum() : Math.max(oldestTurn, value));
+	timelineSlider.setEnabled(newestTurn > oldestTurn);
+	updatingTimeline = false;
+	updateTimelineLabel();
+}
+
+public int getTimelineTurn() {
+	return timelineSlider.getValue();
+}
+
+public boolean isTimelineLive() {
+	return timelineSlider.getValue() >= timelineSlider.getMaximum();
+}
+
+private void updateTimelineLabel() {
+	timelineLabel.setText(isTimelineLive() ? "Historique: direct" : "Historique: tour " + timelineSlider.getValue());
+}
+
 public void applyScale(double scale) {
 	this.lastScale = scale;
 	styleAll();
@@ -1,14 +1,18 @@
 package prof.view;
 
+import prof.utils.SnapshotRing;
+import prof.utils.WorldLoader;
 import student.controller.SimulationController;
+import student.model.core.OccupancyLayers;
 import student.model.core.World;
-import student.model.organisms.Carnivore;
-import student.model.organisms.Herbivore;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.io.File;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Interface graphique principale de la simulation d'écosystème.
@@ -28,6 +32,10 @@ private GridPanel gridPanel;
 private LoggerPanel loggerPanel;
 private ControlPanel controlPanel;
 private StatusBar statusBar;
+// Historique des tours pour la ligne du temps (capture à chaque fin de tour)
+private final SnapshotRing history = new SnapshotRing(SnapshotRing.DEFAULT_BUDGET);
+// Chargement de fichier en cours (null sinon)
+private LoadTask loadTask;
 // Données
 private double uiScale = 1.0;
 
@@ -38,6 +46,7 @@ public GUI() {
 	// Branchement tick_ms (valeur initiale + écoute des changements)
 	controlPanel.setTickMs(controller.getTickIntervalMs());
 	controlPanel.setTickChangeListener(controller::setTickIntervalMs);
+	history.setOnChange(() -> SwingUtilities.invokeLater(this::updateTimeline));
 	setupLayout();
 	setupStyling();
 	setupEventHandlers();
@@ -85,6 +94,10 @@ private void attachControllerListeners() {
 	controller.addListener(new SimulationController.SimulationListener() {
 		@Override
 		public void onWorldChanged(student.model.core.World world) {
+			// Capture sur le fil du contrôleur, entre deux tours (monde cohérent).
+			if (world != null && controller.getCurrentPhase() == null) {
+				history.record(controller.getTurn(), world);
+			}
 			SwingUtilities.invokeLater(() -> {
 				gridPanel.setWorld(world);
 				updateWorldStatistics();
@@ -166,35 +179,143 @@ private void setupEventHandlers() {
 	controlPanel.setPhase3Listener(_ -> controller.executePhase(SimulationController.Phase.CARNIVORES));
 	controlPanel.setPhase4Listener(_ -> controller.executePhase(SimulationController.Phase.REPRODUCTION));
 	controlPanel.setPhase5Listener(_ -> controller.executePhase(SimulationController.Phase.CLEANUP));
+	
+	// Ligne du temps : affiche un tour passé sans re-simuler
+	controlPanel.setTimelineListener(this::showTurn);
+	
+	// Annulation du chargement en arrière-plan
+	statusBar.setCancelLoadListener(_ -> {
+		if (loadTask != null) loadTask.cancel(false);
+	});
 }
 
 private void onFileLoad() {
 	JFileChooser fileChooser = new JFileChooser("world_config");
 	fileChooser.setAcceptAllFileFilterUsed(true);
 	int result = fileChooser.showOpenDialog(this);
-	if (result == JFileChooser.APPROVE_OPTION) {
-		File loadedConfigFile = fileChooser.getSelectedFile();
-		controlPanel.setLoadedFileName(loadedConfigFile.getName());
-		controller.loadWorld(loadedConfigFile); // déclenche les callbacks
+	if (result == JFileChooser.APPROVE_OPTION && loadTask == null) {
+		// Lecture hors EDT; le minuteur reste arrêté et les commandes bloquées jusqu'à la fin.
+		controller.pause();
+		controlPanel.setLoading(true);
+		loadTask = new LoadTask(fileChooser.getSelectedFile());
+		statusBar.showLoadProgress("Lecture...", 0);
+		loadTask.execute();
+	}
+}
+
+/**
+ * Lit un fichier de monde en arrière-plan en publiant sa progression dans la barre de statut.
+ * Le monde lu est installé d'un bloc sur l'EDT ({@link #done()}); rien n'est installé si le
+ * chargement est annulé ou échoue.
+ */
+private final class LoadTask extends SwingWorker<World, Void> implements WorldLoader.Progress {
+	private final File file;
+	// Dernières valeurs rapportées (écrites par les fils du chargeur, lues sur l'EDT)
+	private volatile long bytes;
+	private volatile long totalBytes;
+	private volatile int placed;
+	private volatile int totalOrganisms;
+	// Une seule mise à jour de l'affichage en attente sur l'EDT à la fois
+	private final AtomicBoolean refreshPending = new AtomicBoolean();
+	
+	LoadTask(File file) {
+		this.file = file;
+	}
+	
+	@Override
+	protected World doInBackground() {
+		return WorldLoader.load(file.getAbsolutePath(), this);
+	}
+	
+	@Override
+	public void bytesRead(long bytes, long total) {
+		this.bytes = bytes;
+		this.totalBytes = total;
+		refresh();
+	}
+	
+	@Override
+	public void organismsPlaced(int placed, int total) {
+		this.placed = placed;
+		this.totalOrganisms = total;
+		refresh();
+	}
+	
+	// isCancelled() de SwingWorker sert aussi de signal d'annulation au chargeur.
+	
+	private void refresh() {
+		if (!refreshPending.compareAndSet(false, true)) return;
+		SwingUtilities.invokeLater(() -> {
+			refreshPending.set(false);
+			if (loadTask != this) return;
+			// Lecture : première moitié de la barre, placement : seconde moitié.
+			double read = totalBytes == 0 ? 0 : bytes / (double) totalBytes;
+			double done = totalOrganisms == 0 ? 0 : placed / (double) totalOrganisms;
+			String text = totalOrganisms == 0
+				? String.format("Lecture: %.1f / %.1f Mo", bytes / 1e6, totalBytes / 1e6)
+				: String.format("Placement: %d / %d organismes", placed, totalOrganisms);
+			statusBar.showLoadProgress(text, (int) Math.round(50 * read + 50 * done));
+		});
+	}
+	
+	@Override
+	protected void done() {
+		loadTask = null;
+		controlPanel.setLoading(false);
+		if (isCancelled()) {
+			statusBar.hideLoadProgress("Chargement annulé");
+			loggerPanel.log("Chargement annulé: " + file.getName());
+			return;
+		}
+		World loaded;
+		try {
+			loaded = get();
+		} catch (InterruptedException | ExecutionException | CancellationException e) {
+			loaded = null;
+		}
+		if (controller.installWorld(file, loaded)) { // déclenche les callbacks
+			controlPanel.setLoadedFileName(file.getName());
+			statusBar.hideLoadProgress("Prêt");
+		} else {
+			statusBar.hideLoadProgress("Échec du chargement");
+		}
 	}
 }
 
 private void updateWorldStatistics() {
 	var w = controller.getWorld();
 	if (w == null) return;
-	int plants = 0, herbivores = 0, carnivores = 0;
-	for (int y = 0; y < w.getHeight(); y++) {
-		for (int x = 0; x < w.getWidth(); x++) {
-			var cell = w.getCell(new student.model.core.Position(x, y));
-			if (cell == null) continue;
-			if (cell.hasPlant()) plants++;
-			if (cell.hasAnimal()) {
-				if (cell.getAnimal() instanceof Herbivore) herbivores++;
-				else if (cell.getAnimal() instanceof Carnivore) carnivores++;
-			}
-		}
+	// Popcount of the occupancy bitboards: no per-cell scan after each turn.
+	var occupancy = w.getOccupancy();
+	statusBar.updatePopulations(occupancy.count(OccupancyLayers.Layer.PLANT),
+		occupancy.count(OccupancyLayers.Layer.HERBIVORE),
+		occupancy.count(OccupancyLayers.Layer.CARNIVORE));
+}
+
+private void showTurn(int turn) {
+	if (controlPanel.isTimelineLive()) {
+		gridPanel.setSnapshot(null);
+	} else {
+		gridPanel.setSnapshot(history.snapshotAt(turn));
+	}
+}
+
+private void updateTimeline() {
+	int[] turns = history.turns();
+	if (turns.length == 0) {
+		controlPanel.setTimelineRange(0, 0);
+		gridPanel.setSnapshot(null);
+		return;
 	}
-	statusBar.updatePopulations(plants, herbivores, carnivores);
+	controlPanel.setTimelineRange(turns[0], turns[turns.length - 1]);
+	showTurn(controlPanel.getTimelineTurn());
+}
+
+/**
+ * Modifie le budget mémoire de l'historique (les tours anciens sont éclaircis au besoin).
+ */
+public void setHistoryBudget(long bytes) {
+	history.setBudget(bytes);
 }
 
 public void setWorld(World world) { // conserve méthode mais délègue
@@ -204,7 +325,9 @@ public void setWorld(World world) { // conserve méthode mais délègue
 @Override
 public void dispose() {
 	super.dispose();
+	if (loadTask != null) loadTask.cancel(false);
 	if (controller != null) controller.dispose();
+	history.dispose();
 }
 
 private void recomputeScale() {
@@ -3,10 +3,10 @@ package prof.view;
 import student.model.core.Cell;
 import student.model.core.Position;
 import student.model.core.World;
+import student.model.core.WorldSnapshot;
 import student.model.organisms.Animal;
-import student.model.organisms.Carnivore;
-import student.model.organisms.Herbivore;
 import student.model.organisms.Plant;
+import student.model.organisms.Species;
 
 import javax.swing.*;
 import java.awt.*;
@@ -28,6 +28,7 @@ private static final Color PLANT_COLOR = new Color(56, 180, 50);      // Vert
 private static final Color HERBIVORE_COLOR = new Color(25, 118, 210); // Bleu
 private static final Color CARNIVORE_COLOR = new Color(198, 40, 40);  // Rouge
 private World world;
+private WorldSnapshot snapshot; // tour passé affiché à la place du monde (null = direct)
 private int gridWidth = 20;
 private int gridHeight = 20;
 private int currentCellSize = 30; // recalculé dynamiquement
@@ -48,13 +49,30 @@ public GridPanel() {
 
 public void setWorld(World world) {
 	this.world = world;
-	if (world != null) {
+	if (world != null && snapshot == null) {
 		this.gridWidth = world.getWidth();
 		this.gridHeight = world.getHeight();
 		updateSize();
 	}
 }
 
+/**
+ * Affiche un tour passé (capturé par l'historique) au lieu du monde courant, sans le
+ * re-simuler; {@code null} revient à l'affichage en direct.
+ */
+public void setSnapshot(WorldSnapshot snapshot) {
+	this.snapshot = snapshot;
+	if (snapshot != null) {
+		this.gridWidth = snapshot.getWidth();
+		this.gridHeight = snapshot.getHeight();
+	} else if (world != null) {
+		this.gridWidth = world.getWidth();
+		this.gridHeight = world.getHeight();
+	}
+	updateSize();
+	repaint();
+}
+
 private void updateSize() {
 	// Ne plus forcer preferred size -> layout flex
 	revalidate();
@@ -102,6 +120,15 @@ private void drawGrid(Graphics2D g2d) {
 }
 
 private void drawCell(Graphics2D g2d, Cell cell, int gridX, int gridY) {
+	Animal animal = cell.getAnimal();
+	Plant plant = cell.getPlant();
+	drawCell(g2d, gridX, gridY,
+		animal != null ? animal.getSpecies() : null, animal != null ? animal.getEnergy() : 0,
+		plant != null, plant != null ? plant.getEnergy() : 0);
+}
+
+private void drawCell(Graphics2D g2d, int gridX, int gridY, Species animalSpecies, int animalEnergy,
+                      boolean hasPlant, int plantEnergy) {
 	int totalW = currentCellSize * gridWidth;
 	int totalH = currentCellSize * gridHeight;
 	int offsetX = (getWidth() - totalW) / 2;
@@ -109,8 +136,7 @@ private void drawCell(Graphics2D g2d, Cell cell, int gridX, int gridY) {
 	int pixelX = offsetX + gridX * currentCellSize;
 	int pixelY = offsetY + gridY * currentCellSize;
 	
-	boolean hasAnimal = cell.hasAnimal();
-	boolean hasPlant = cell.hasPlant();
+	boolean hasAnimal = animalSpecies != null;
 	
 	// Aucun organisme
 	if (!hasAnimal && !hasPlant) {
@@ -123,9 +149,9 @@ private void drawCell(Graphics2D g2d, Cell cell, int gridX, int gridY) {
 	if (hasAnimal ^ hasPlant) { // XOR => exactement un présent
 		Rectangle full = new Rectangle(pixelX + 1, pixelY + 1, currentCellSize - 2, currentCellSize - 2);
 		if (hasAnimal) {
-			drawAnimal(g2d, cell.getAnimal(), full);
+			drawAnimal(g2d, animalSpecies, animalEnergy, full);
 		} else {
-			drawPlant(g2d, cell.getPlant(), full);
+			drawPlant(g2d, plantEnergy, full);
 		}
 		return;
 	}
@@ -136,8 +162,8 @@ private void drawCell(Graphics2D g2d, Cell cell, int gridX, int gridY) {
 	int plantHeight = currentCellSize - animalHeight;
 	Rectangle plantZone = new Rectangle(pixelX + 1, pixelY + animalHeight, currentCellSize - 2, plantHeight - 1);
 	
-	drawAnimal(g2d, cell.getAnimal(), animalZone);
-	drawPlant(g2d, cell.getPlant(), plantZone);
+	drawAnimal(g2d, animalSpecies, animalEnergy, animalZone);
+	drawPlant(g2d, plantEnergy, plantZone);
 	
 	// Ligne de séparation interne
 	g2d.setColor(SUBDIV_LINE_COLOR);
@@ -149,6 +175,10 @@ private void drawCell(Graphics2D g2d, Cell cell, int gridX, int gridY) {
 }
 
 private void drawOrganisms(Graphics2D g2d) {
+	if (snapshot != null) {
+		drawSnapshot(g2d);
+		return;
+	}
 	if (world == null) return;
 	for (int x = 0; x < gridWidth; x++) {
 		for (int y = 0; y < gridHeight; y++) {
@@ -161,13 +191,25 @@ private void drawOrganisms(Graphics2D g2d) {
 	}
 }
 
-private void drawAnimal(Graphics2D g2d, Animal animal, Rectangle zone) {
-	Color color = getAnimalColor(animal);
+private void drawSnapshot(Graphics2D g2d) {
+	for (int x = 0; x < gridWidth; x++) {
+		for (int y = 0; y < gridHeight; y++) {
+			byte flags = snapshot.flagsAt(x, y);
+			Species species = (flags & WorldSnapshot.HERBIVORE) != 0 ? Species.HERBIVORE
+				: (flags & WorldSnapshot.CARNIVORE) != 0 ? Species.CARNIVORE : null;
+			drawCell(g2d, x, y, species, snapshot.animalEnergyAt(x, y),
+				(flags & WorldSnapshot.PLANT) != 0, snapshot.plantEnergyAt(x, y));
+		}
+	}
+}
+
+private void drawAnimal(Graphics2D g2d, Species species, int energy, Rectangle zone) {
+	Color color = getAnimalColor(species);
 	g2d.setColor(color);
 	g2d.fill(zone);
 	
 	// Dessiner l'énergie au centre
-	drawEnergyText(g2d, animal.getEnergy(), zone);
+	drawEnergyText(g2d, energy, zone);
 	
 	// Bordure plus foncée
 	g2d.setColor(color.darker());
@@ -175,13 +217,13 @@ private void drawAnimal(Graphics2D g2d, Animal animal, Rectangle zone) {
 	g2d.draw(zone);
 }
 
-private void drawPlant(Graphics2D g2d, Plant plant, Rectangle zone) {
+private void drawPlant(Graphics2D g2d, int energy, Rectangle zone) {
 	Color color = getPlantColor();
 	g2d.setColor(color);
 	g2d.fill(zone);
 	
 	// Dessiner l'énergie au centre
-	drawEnergyText(g2d, plant.getEnergy(), zone);
+	drawEnergyText(g2d, energy, zone);
 	
 	// Bordure plus foncée
 	g2d.setColor(color.darker());
@@ -205,13 +247,12 @@ private void drawEnergyText(Graphics2D g2d, int energy, Rectangle zone) {
 	g2d.drawString(energyStr, x, y);
 }
 
-private Color getAnimalColor(Animal animal) {
-	if (animal instanceof Herbivore) {
-		return HERBIVORE_COLOR;
-	} else if (animal instanceof Carnivore) {
-		return CARNIVORE_COLOR;
-	}
-	return new Color(128, 128, 128); // fallback neutre
+private Color getAnimalColor(Species species) {
+	return switch (species) {
+		case HERBIVORE -> HERBIVORE_COLOR;
+		case CARNIVORE -> CARNIVORE_COLOR;
+		default -> new Color(128, 128, 128); // fallback neutre
+	};
 }
 
 private Color getPlantColor() {
@@ -219,7 +260,7 @@ private Color getPlantColor() {
 }
 
 private void showCellInfo(int mouseX, int mouseY) {
-	if (world == null) return;
+	if (world == null || snapshot != null) return; // pas d'inspection d'un tour passé
 	int totalW = currentCellSize * gridWidth;
 	int totalH = currentCellSize * gridHeight;
 	int offsetX = (getWidth() - totalW) / 2;
@@ -240,7 +281,7 @@ private void showCellInfo(int mouseX, int mouseY) {
 			
 			if (cell.hasAnimal()) {
 				Animal animal = cell.getAnimal();
-				String type = animal instanceof Herbivore ? "Herbivore" : "Carnivore";
+				String type = animal.getSpecies() == Species.HERBIVORE ? "Herbivore" : "Carnivore";
 				info.append("Animal: ").append(type).append(" (Énergie: ").append(animal.getEnergy()).append(")\n");
 			}
 			
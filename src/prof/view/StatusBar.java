@@ -2,6 +2,7 @@ package prof.view;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.ActionListener;
 
 /**
  * Barre de statut affichant les informations de la simulation.
@@ -16,6 +17,9 @@ private JLabel plantsLabel;
 private JLabel herbivoresLabel;
 private JLabel carnivoresLabel;
 private JLabel simulationStateLabel;
+// Chargement en arrière-plan (masqués hors chargement)
+private JProgressBar loadProgressBar;
+private JButton cancelLoadButton;
 
 private JPanel leftPanel;
 private JPanel centerPanel;
@@ -38,6 +42,11 @@ private void initializeComponents() {
 	herbivoresLabel = new JLabel("Herbivores: 0");
 	carnivoresLabel = new JLabel("Carnivores: 0");
 	simulationStateLabel = new JLabel("Arrêtée");
+	loadProgressBar = new JProgressBar(0, 100);
+	loadProgressBar.setStringPainted(true);
+	loadProgressBar.setVisible(false);
+	cancelLoadButton = new JButton("Annuler");
+	cancelLoadButton.setVisible(false);
 }
 
 private void setupLayout() {
@@ -62,6 +71,8 @@ private void setupLayout() {
 	// Panel droit : état simulation
 	rightPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 5));
 	rightPanel.setOpaque(false);
+	rightPanel.add(loadProgressBar);
+	rightPanel.add(cancelLoadButton);
 	rightPanel.add(simulationStateLabel);
 	
 	add(leftPanel, BorderLayout.WEST);
@@ -89,6 +100,9 @@ private void restyle() {
 	herbivoresLabel.setFont(statusFont);
 	carnivoresLabel.setFont(statusFont);
 	simulationStateLabel.setFont(boldFont);
+	loadProgressBar.setFont(statusFont);
+	loadProgressBar.setPreferredSize(new Dimension((int) Math.round(320 * lastScale), (int) Math.round(18 * lastScale)));
+	cancelLoadButton.setFont(statusFont);
 	
 	// Ajuster les espacements des panels en fonction de l'échelle
 	int hgap = (int) Math.round(10 * lastScale);
@@ -164,4 +178,41 @@ public void updatePopulations(int plants, int herbivores, int carnivores) {
 	});
 }
 
+/**
+ * Affiche la progression d'un chargement (texte dans la barre, pourcentage de 0 à 100).
+ */
+public void showLoadProgress(String text, int percent) {
+	SwingUtilities.invokeLater(() -> {
+		statusLabel.setText("Chargement...");
+		loadProgressBar.setValue(Math.max(0, Math.min(100, percent)));
+		loadProgressBar.setString(text);
+		loadProgressBar.setVisible(true);
+		cancelLoadButton.setEnabled(true);
+		cancelLoadButton.setVisible(true);
+		revalidate();
+	});
+}
+
+/**
+ * Masque la progression du chargement et affiche le statut final.
+ */
+public void hideLoadProgress(String status) {
+	SwingUtilities.invokeLater(() -> {
+		statusLabel.setText(status);
+		loadProgressBar.setVisible(false);
+		cancelLoadButton.setVisible(false);
+		revalidate();
+	});
+}
+
+/**
+ * Branche l'action du bouton « Annuler » du chargement.
+ */
+public void setCancelLoadListener(ActionListener listener) {
+	cancelLoadButton.addActionListener(e -> {
+		cancelLoadButton.setEnabled(false);
+		listener.actionPerformed(e);
+	});
+}
+
 }
@@ -0,0 +1,191 @@
+/* ============================================================================
+ * Path: src/student/controller/MovementEngine.java
+ * Author: Zakary Gaillard-D.
+ * Date: 2026-10-18
+ * Description: Opt-in two-phase (intent / commit) movement engine for deterministic parallel moves.
+ * ========================================================================== */
+package student.controller;
+
+import prof.utils.RandomGenerator;
+import student.model.core.Cell;
+import student.model.core.Position;
+import student.model.core.World;
+import student.model.organisms.Animal;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Moves a batch of animals in two passes instead of one {@code transferAnimal} at a time.
+ * <ol>
+ *   <li><b>Intent</b>: every animal calls {@link Animal#chooseMove(World, Position)} against the
+ *   unchanged world, in parallel. Each call runs inside
+ *   {@link RandomGenerator#scoped(long, java.util.function.Supplier)} with a seed derived from the
+ *   batch seed and the animal's cell, so its draws do not depend on thread scheduling.</li>
+ *   <li><b>Commit</b>: claims on the same destination are resolved by the {@link TieBreak} rule,
+ *   then winners are applied serially in batch order. A winner whose destination is no longer
+ *   free stays in place.</li>
+ * </ol>
+ * <p>Results are identical for any thread count. This is a rule variant: animals no longer see
+ * moves made earlier in the same phase, unlike the sequential rule.</p>
+ */
+public final class MovementEngine {
+//=============================================================================
+//                                   Constants
+//=============================================================================
+/**
+ * Batch size below which intents are computed on the calling thread.
+ */
+public static final int PARALLEL_THRESHOLD = 256;
+
+//=============================================================================
+//                                   Fields
+//=============================================================================
+private final TieBreak tieBreak;
+
+//=============================================================================
+//                               Construction
+//=============================================================================
+
+/**
+ * Create an engine resolving contested destinations with the given rule.
+ *
+ * @param tieBreak collision rule (never {@code null})
+ */
+public MovementEngine(final TieBreak tieBreak) {
+	this.tieBreak = tieBreak;
+}
+
+/**
+ * Return the collision rule of this engine.
+ *
+ * @return tie-break rule
+ */
+public TieBreak getTieBreak() {
+	return tieBreak;
+}
+
+//=============================================================================
+//                               Movement
+//=============================================================================
+
+/**
+ * Plan and commit the moves of a batch of animals.
+ *
+ * @param world  world the animals live in
+ * @param movers animals to move, in priority order (typically row-major)
+ * @param seed   batch seed (e.g. one {@link RandomGenerator#nextLong()} draw per phase)
+ * @return number of animals that moved
+ */
+public int run(final World world, final List<? extends Animal> movers, final long seed) {
+	return commit(world, movers, plan(world, movers, seed), seed);
+}
+
+/**
+ * Compute every animal's intended destination against the current (unchanged) world.
+ * <p>{@code chooseMove} must only read the world; lazily built shared views ({@link
+ * World#preyField(int)}, {@link World#threatField(int)}) are safe to request concurrently.</p>
+ *
+ * @param world  world the animals live in
+ * @param movers animals to plan for
+ * @param seed   batch seed
+ * @return destination per mover ({@code null} = stay), aligned with {@code movers}
+ */
+public Position[] plan(final World world, final List<? extends Animal> movers, final long seed) {
+	final Position[] targets = new Position[movers.size()];
+	IntStream range = IntStream.range(0, movers.size());
+	if (movers.size() >= PARALLEL_THRESHOLD) range = range.parallel();
+	range.forEach(i -> {
+		final Animal animal = movers.get(i);
+		final Position from = animal.getPosition();
+		if (from == null || !animal.isAlive()) return;
+		final Cell to = RandomGenerator.scoped(mix(seed, cellKey(world, from)),
+			() -> animal.chooseMove(world, from));
+		if (to != null && !to.getPosition().equals(from)) targets[i] = to.getPosition();
+	});
+	return targets;
+}
+
+/**
+ * Resolve contested destinations and apply the winning moves in batch order.
+ *
+ * @param world   world the animals live in
+ * @param movers  animals planned by {@link #plan}
+ * @param targets destinations returned by {@link #plan}
+ * @param seed    batch seed (used by {@link TieBreak#SEEDED})
+ * @return number of animals that moved
+ */
+public int commit(final World world, final List<? extends Animal> movers, final Position[] targets, final long seed) {
+	// One winner per destination cell.
+	final Map<Integer, Integer> winners = new HashMap<>();
+	for (int i = 0; i < targets.length; i++) {
+		if (targets[i] == null) continue;
+		final int key = cellKey(world, targets[i]);
+		final Integer current = winners.get(key);
+		if (current == null || beats(world, movers, i, current, seed)) winners.put(key, i);
+	}
+
+	int moved = 0;
+	for (int i = 0; i < targets.length; i++) {
+		if (targets[i] == null || winners.get(cellKey(world, targets[i])) != i) continue;
+		final Cell from = world.getCell(movers.get(i).getPosition());
+		final Cell to = world.getCell(targets[i]);
+		if (from == null || to == null || from.getAnimal() != movers.get(i) || !to.isEmptyAnimal()) continue;
+		world.transferAnimal(from, to);
+		moved++;
+	}
+	return moved;
+}
+
+/**
+ * Return whether mover {@code a} wins a destination over mover {@code b} ({@code a > b} in batch
+ * order).
+ */
+private boolean beats(final World world, final List<? extends Animal> movers, final int a, final int b, final long seed) {
+	if (tieBreak == TieBreak.PRIORITY) return false;
+	final long ra = mix(seed, cellKey(world, movers.get(a).getPosition()));
+	final long rb = mix(seed, cellKey(world, movers.get(b).getPosition()));
+	return ra < rb;
+}
+
+/**
+ * Return the row-major index of a position.
+ */
+private static int cellKey(final World world, final Position pos) {
+	return pos.y() * world.getWidth() + pos.x();
+}
+
+/**
+ * Mix a seed with a key (SplitMix64 finalizer), giving well-spread independent streams.
+ *
+ * @param seed batch seed
+ * @param key  per-item key
+ * @return mixed value
+ */
+static long mix(final long seed, final long key) {
+	long z = seed + (key + 1) * 0x9E3779B97F4A7C15L;
+	z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+	z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+	return z ^ (z >>> 31);
+}
+
+//=============================================================================
+//                                 TieBreak Enum
+//=============================================================================
+
+/**
+ * Rule deciding which claimant gets a destination several animals intend to enter.
+ */
+public enum TieBreak {
+	/**
+	 * The first claimant in batch order wins.
+	 */
+	PRIORITY,
+	/**
+	 * The claimant with the smallest seeded hash of its origin cell wins (order-independent).
+	 */
+	SEEDED
+}
+}
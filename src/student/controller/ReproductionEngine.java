@@ -0,0 +1,219 @@
+/* ============================================================================
+ * Path: src/student/controller/ReproductionEngine.java
+ * Author: Zakary Gaillard-D.
+ * Date: 2026-10-18
+ * Description: Opt-in deterministic parallel reproduction with prefix-sum birth ordering.
+ * ========================================================================== */
+package student.controller;
+
+import prof.utils.RandomGenerator;
+import prof.utils.RandomGenerator.NeighborFilter;
+import student.model.behaviors.Reproducible;
+import student.model.core.ActivityMap;
+import student.model.core.Cell;
+import student.model.core.Position;
+import student.model.core.World;
+import student.model.organisms.Animal;
+import student.model.organisms.Organism;
+import student.model.organisms.Plant;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Runs a whole reproduction phase as a parallel plan followed by a serial commit, with births
+ * identical for any thread count.
+ * <p>Following the README order, every plant reproduces before any animal: the steps below run
+ * once over the plant candidates, then again over the animal candidates against the world left
+ * by the plant births.</p>
+ * <ol>
+ *   <li><b>Order</b>: candidates from {@link World#reproductionCandidates()} are bucketed by
+ *   {@link ActivityMap#CHUNK_SIZE} tile; an exclusive prefix sum over tile counts gives every
+ *   parent a fixed birth slot (tile-major, candidate order inside a tile).</li>
+ *   <li><b>Plan</b>: parents are planned in parallel; each confirms {@code canReproduce} and picks
+ *   a free cardinal neighbor (plant slot for plants, animal slot for animals) with a generator
+ *   seeded by the pass seed and its own cell.</li>
+ *   <li><b>Resolve</b>: a spawn cell claimed by several parents goes to the claimant with the
+ *   smallest seeded hash of (parent cell, target cell), a rule that ignores claim order. Losers
+ *   keep their energy for the next turn.</li>
+ *   <li><b>Commit</b>: winners place their {@link Reproducible#reproduce()} offspring serially in
+ *   birth-slot order and pay the README cost: a plant drops to energy 1, an animal keeps
+ *   {@code energy / 2} (rounded down).</li>
+ * </ol>
+ * <p>Within a pass every parent reads the world as it was at the start of that pass. This is a
+ * rule variant of the sequential phase, where each birth changes the free cells the next parent
+ * sees.</p>
+ */
+public final class ReproductionEngine {
+//=============================================================================
+//                                   Constants
+//=============================================================================
+/**
+ * Candidate count below which parents are planned on the calling thread.
+ */
+public static final int PARALLEL_THRESHOLD = 256;
+
+//=============================================================================
+//                               Reproduction
+//=============================================================================
+
+/**
+ * Plan, resolve and commit the births of one reproduction phase: plants first, then animals.
+ *
+ * @param world world to reproduce in
+ * @param seed  phase seed (e.g. one {@link RandomGenerator#nextLong()} draw per phase)
+ * @return number of offspring placed
+ */
+public int run(final World world, final long seed) {
+	final List<Organism> candidates = world.reproductionCandidates();
+	final List<Organism> plants = new ArrayList<>();
+	final List<Organism> animals = new ArrayList<>();
+	for (Organism candidate : candidates) {
+		(candidate.getSpecies().isAnimal() ? animals : plants).add(candidate);
+	}
+	int born = 0;
+	for (List<Organism> group : List.of(plants, animals)) {
+		final long passSeed = MovementEngine.mix(seed, group == plants ? 0 : 1);
+		final List<Organism> parents = birthOrder(world, group);
+		born += commit(world, parents, plan(world, parents, passSeed), passSeed);
+	}
+	return born;
+}
+
+/**
+ * Return parents in birth-slot order: bucketed by tile with a counting sort and an exclusive
+ * prefix sum over tile counts, candidate order kept inside a tile.
+ *
+ * @param world      world the parents live in
+ * @param candidates parents in candidate order
+ * @return parents in tile-major order
+ */
+static List<Organism> birthOrder(final World world, final List<Organism> candidates) {
+	final int tilesX = (world.getWidth() + ActivityMap.CHUNK_SIZE - 1) / ActivityMap.CHUNK_SIZE;
+	final int tilesY = (world.getHeight() + ActivityMap.CHUNK_SIZE - 1) / ActivityMap.CHUNK_SIZE;
+	final int[] start = new int[tilesX * tilesY + 1];
+	for (Organism parent : candidates) start[tileOf(parent.getPosition(), tilesX) + 1]++;
+	for (int t = 0; t < tilesX * tilesY; t++) start[t + 1] += start[t];
+	final Organism[] parents = new Organism[candidates.size()];
+	for (Organism parent : candidates) parents[start[tileOf(parent.getPosition(), tilesX)]++] = parent;
+	return Arrays.asList(parents);
+}
+
+/**
+ * Pick every parent's spawn cell against the current (unchanged) world.
+ *
+ * @param world   world the parents live in
+ * @param parents parents in birth-slot order
+ * @param seed    pass seed
+ * @return spawn cell per parent ({@code null} = no birth), aligned with {@code parents}
+ */
+public Position[] plan(final World world, final List<Organism> parents, final long seed) {
+	final Position[] targets = new Position[parents.size()];
+	IntStream range = IntStream.range(0, parents.size());
+	if (parents.size() >= PARALLEL_THRESHOLD) range = range.parallel();
+	range.forEach(slot -> {
+		final Organism parent = parents.get(slot);
+		final Position from = parent.getPosition();
+		targets[slot] = RandomGenerator.scoped(MovementEngine.mix(seed, cellKey(world, from)), () -> {
+			if (!((Reproducible) parent).canReproduce(world)) return null;
+			final NeighborFilter filter = parent.getSpecies().isAnimal()
+				? NeighborFilter.EMPTY_ANIMAL : NeighborFilter.EMPTY_PLANT;
+			return RandomGenerator.randomNeighbor(from, world, 1, filter);
+		});
+	});
+	return targets;
+}
+
+/**
+ * Resolve contested spawn cells and place the winners' offspring in birth-slot order.
+ *
+ * @param world   world the parents live in
+ * @param parents parents planned by {@link #plan}
+ * @param targets spawn cells returned by {@link #plan}
+ * @param seed    pass seed
+ * @return number of offspring placed
+ */
+public int commit(final World world, final List<Organism> parents, final Position[] targets, final long seed) {
+	// Resolve contested cells (plants and animals compete in separate slots).
+	final Map<Long, Integer> winners = new HashMap<>();
+	for (int slot = 0; slot < targets.length; slot++) {
+		if (targets[slot] == null) continue;
+		final long key = claimKey(world, parents.get(slot), targets[slot]);
+		final Integer current = winners.get(key);
+		if (current == null || rank(world, parents, targets, slot, seed) < rank(world, parents, targets, current, seed)) {
+			winners.put(key, slot);
+		}
+	}
+
+	// Commit in birth-slot order.
+	final List<Integer> births = new ArrayList<>(winners.values());
+	births.sort(null);
+	int born = 0;
+	for (int slot : births) {
+		if (place(world, parents.get(slot), world.getCell(targets[slot]))) born++;
+	}
+	return born;
+}
+
+/**
+ * Place a parent's offspring in the matching slot of a cell and pay the parent's cost.
+ *
+ * @param world  world the parent lives in
+ * @param parent parent organism
+ * @param target spawn cell
+ * @return {@code true} if the offspring was placed
+ */
+private static boolean place(final World world, final Organism parent, final Cell target) {
+	if (target == null || !parent.isAlive()) return false;
+	final Organism child = ((Reproducible) parent).reproduce();
+	child.setPosition(target.getPosition());
+	switch (parent) {
+		case Plant _ -> {
+			if (!target.isEmptyPlant()) return false;
+			target.setPlant((Plant) child);
+			parent.setEnergy(1);
+		}
+		case Animal _ -> {
+			if (!target.isEmptyAnimal()) return false;
+			target.setAnimal((Animal) child);
+			parent.setEnergy(parent.getEnergy() / 2);
+		}
+	}
+	return true;
+}
+
+/**
+ * Return the tile index of a position.
+ */
+private static int tileOf(final Position pos, final int tilesX) {
+	return (pos.y() / ActivityMap.CHUNK_SIZE) * tilesX + pos.x() / ActivityMap.CHUNK_SIZE;
+}
+
+/**
+ * Return the row-major index of a position.
+ */
+private static int cellKey(final World world, final Position pos) {
+	return pos.y() * world.getWidth() + pos.x();
+}
+
+/**
+ * Return the key of the slot a parent claims: target cell plus plant/animal layer.
+ */
+private static long claimKey(final World world, final Organism parent, final Position target) {
+	return (long) cellKey(world, target) << 1 | (parent.getSpecies().isAnimal() ? 1 : 0);
+}
+
+/**
+ * Return the order-independent priority of a claim (smaller wins).
+ */
+private static long rank(final World world, final List<Organism> parents, final Position[] targets,
+                         final int slot, final long seed) {
+	final long pair = (long) cellKey(world, parents.get(slot).getPosition()) * world.getWidth() * world.getHeight()
+		+ cellKey(world, targets[slot]);
+	return MovementEngine.mix(seed, pair);
+}
+}
@@ -7,15 +7,26 @@
  * ========================================================================== */
 package student.controller;
 
+import prof.utils.Checkpointer;
+import prof.utils.RandomGenerator;
+import prof.utils.TurnJournal;
 import prof.utils.WorldLoader;
 import student.model.core.Cell;
 import student.model.core.Position;
+import student.model.core.RowBands;
 import student.model.core.World;
+import student.model.core.WorldSnapshot;
 
 import javax.swing.*;
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
 //=============================================================================
 //                              SimulationController
@@ -45,6 +56,16 @@ public class SimulationController {
  */
 public static final int DEFAULT_TICK_MS = 600; // Public constant (documented)
 
+/**
+ * Number of checkpoint files kept on disk.
+ */
+private static final int CHECKPOINTS_KEPT = 3;
+
+/**
+ * Number of distinct recent states remembered for repeat detection.
+ */
+private static final int FINGERPRINT_WINDOW = 4096;
+
 /**
  * Registered listeners receiving simulation event callbacks.
  */
@@ -84,6 +105,62 @@ private int tickIntervalMs = DEFAULT_TICK_MS;
  */
 private File configFile = null;
 
+/**
+ * Occupants of the last loaded world as loaded, restored by {@link #reset()}.
+ */
+private WorldSnapshot pristine = null;
+
+/**
+ * Random seed in effect when the pristine world was loaded.
+ */
+private long pristineSeed;
+
+/**
+ * Random generator state when the pristine world was loaded.
+ */
+private byte[] pristineRandom;
+
+/**
+ * Opt-in intent/commit movement engine; {@code null} keeps the sequential movement rule.
+ */
+private MovementEngine movementEngine = null;
+
+/**
+ * Opt-in parallel reproduction engine; {@code null} keeps the sequential reproduction rule.
+ */
+private ReproductionEngine reproductionEngine = null;
+
+/**
+ * Row stages of the fused turn loop; {@code null} runs the five phase methods one after another.
+ */
+private List<? extends Wavefront.RowStage> fusedStages = null;
+
+/**
+ * Open turn journal recording every completed turn; {@code null} when not recording.
+ */
+private TurnJournal journal = null;
+
+/**
+ * First turn at which each fingerprint was seen since the world was set (state repeat detection),
+ * limited to the {@link #FINGERPRINT_WINDOW} most recently first-seen states.
+ */
+private final Map<Long, Integer> fingerprints = new LinkedHashMap<>() {
+	@Override
+	protected boolean removeEldestEntry(final Map.Entry<Long, Integer> eldest) {
+		return size() > FINGERPRINT_WINDOW;
+	}
+};
+
+/**
+ * Earlier turn whose state the last completed turn repeats exactly, or -1.
+ */
+private int repeatedTurn = -1;
+
+/**
+ * Background checkpoint writer; {@code null} when not checkpointing.
+ */
+private Checkpointer checkpointer = null;
+
 //=============================================================================
 //                               Construction
 //=============================================================================
@@ -172,8 +249,12 @@ public World getWorld() {
  * @param world new world (may be {@code null})
  */
 public void setWorld(final World world) {
+	stopJournal(); // a journal follows a single world
 	this.world = world;
 	this.turn = 0;
+	this.fingerprints.clear();
+	this.repeatedTurn = -1;
+	if (world != null) fingerprints.put(world.fingerprint(), 0);
 	this.currentPhase = null;
 	fireWorldChanged();
 	fireTurnAdvanced();
@@ -181,6 +262,46 @@ public void setWorld(final World world) {
 	log("Nouveau monde chargé: " + (world != null ? world.getWidth() + "x" + world.getHeight() : "<null>"));
 }
 
+/**
+ * Returns the current turn counter.
+ *
+ * @return turn number (0 before the first turn)
+ */
+public int getTurn() {
+	return turn;
+}
+
+/**
+ * Returns the phase in progress.
+ *
+ * @return current phase, or {@code null} between turns
+ */
+public Phase getCurrentPhase() {
+	return currentPhase;
+}
+
+/**
+ * Returns the Zobrist fingerprint of the current world state (see {@link World#fingerprint()}).
+ * Read between turns, two runs are identical at a turn iff their fingerprints match there (up to
+ * 2<sup>-64</sup> collisions).
+ *
+ * @return fingerprint, or 0 if no world
+ */
+public long getFingerprint() {
+	return world != null ? world.fingerprint() : 0;
+}
+
+/**
+ * Returns the earlier turn whose state the last completed turn repeats exactly (stalled or
+ * cyclic run). Only the last {@value #FINGERPRINT_WINDOW} distinct states are remembered, so
+ * longer cycles go unnoticed.
+ *
+ * @return earlier turn number, or -1 if the last turn reached a new state
+ */
+public int getRepeatedTurn() {
+	return repeatedTurn;
+}
+
 /**
  * Returns current tick interval in milliseconds.
  *
@@ -202,22 +323,108 @@ public void setTickIntervalMs(final int ms) {
 
 /**
  * Loads a world from the given JSON configuration file.
+ * <p>Keeps a {@link WorldSnapshot} of the loaded world and the random generator state, so
+ * {@link #reset()} can replay the same run without touching the file. The generator itself is
+ * left as is.</p>
  *
  * @param file JSON file
  * @return {@code true} if loaded successfully
  */
 public boolean loadWorld(final File file) {
 	if (file == null) return false;
-	final World loaded = WorldLoader.loadFromJson(file.getAbsolutePath());
+	return installWorld(file, WorldLoader.load(file.getAbsolutePath()));
+}
+
+/**
+ * Installs a world read from a file, as {@link #loadWorld(File)} does once the file is parsed.
+ * <p>Lets callers parse off the controller thread (for example with
+ * {@link WorldLoader#load(String, WorldLoader.Progress)} on a background executor) and swap the
+ * result in on the controller thread in one step.</p>
+ *
+ * @param file   file the world was read from (used by {@link #reset()}, may be {@code null})
+ * @param loaded parsed world, or {@code null} if parsing failed
+ * @return {@code true} if the world was installed
+ */
+public boolean installWorld(final File file, final World loaded) {
 	if (loaded == null) {
-		log("Échec chargement: " + file.getName());
+		log("Échec chargement: " + (file != null ? file.getName() : "fichier inconnu"));
 		return false;
 	}
+	this.pristine = new WorldSnapshot(loaded);
+	this.pristineSeed = RandomGenerator.getSeed();
+	this.pristineRandom = RandomGenerator.saveState();
 	setWorld(loaded);
 	this.configFile = file;
 	return true;
 }
 
+/**
+ * Returns the intent/commit movement engine, or {@code null} when moves are sequential.
+ *
+ * @return movement engine or {@code null}
+ */
+public MovementEngine getMovementEngine() {
+	return movementEngine;
+}
+
+/**
+ * Selects the movement rule of the animal phases: {@code null} for the sequential rule (each move
+ * is seen by the next animal), or an engine planning all moves from the same frozen view.
+ *
+ * @param engine movement engine (may be {@code null})
+ */
+public void setMovementEngine(final MovementEngine engine) {
+	this.movementEngine = engine;
+	log("Mouvement: " + (engine != null ? "parallèle (" + engine.getTieBreak() + ")" : "séquentiel"));
+}
+
+/**
+ * Returns the parallel reproduction engine, or {@code null} when births are sequential.
+ *
+ * @return reproduction engine or {@code null}
+ */
+public ReproductionEngine getReproductionEngine() {
+	return reproductionEngine;
+}
+
+/**
+ * Selects the reproduction rule: {@code null} for the sequential rule (each birth is seen by the
+ * next parent), or an engine planning every birth from the phase-start world.
+ *
+ * @param engine reproduction engine (may be {@code null})
+ */
+public void setReproductionEngine(final ReproductionEngine engine) {
+	this.reproductionEngine = engine;
+	log("Reproduction: " + (engine != null ? "parallèle" : "séquentielle"));
+}
+
+/**
+ * Returns the row stages of the fused turn loop, or {@code null} when phases run one by one.
+ *
+ * @return fused stages or {@code null}
+ */
+public List<? extends Wavefront.RowStage> getFusedStages() {
+	return fusedStages;
+}
+
+/**
+ * Enables the fused turn loop for {@link #step()}: the given stages (one per phase, in phase
+ * order) run as a single {@link Wavefront} sweep with the same observable results as running
+ * the stages one after another ({@link Wavefront#runPhased}); each stage draws from its own
+ * generator seeded from the run seed, the turn and the stage. Partial phase stepping is
+ * unaffected. Pass {@code null} to disable.
+ * <p>Fused mode is not a drop-in replacement for the phase methods: those draw from the shared
+ * {@link RandomGenerator} stream, the stages from their private generators, so the same seed
+ * gives a different (but equally reproducible) run once fused mode is on. The fused turn leaves
+ * the shared generator untouched.</p>
+ *
+ * @param stages row stages in phase order (may be {@code null})
+ */
+public void setFusedStages(final List<? extends Wavefront.RowStage> stages) {
+	this.fusedStages = stages;
+	log("Tour fusionné: " + (stages != null ? "activé (" + stages.size() + " étapes)" : "désactivé"));
+}
+
 //=============================================================================
 //                               Turn Control
 //=============================================================================
@@ -225,6 +432,8 @@ public boolean loadWorld(final File file) {
 /**
  * Advances the simulation by a full turn executing all phases in order.
  * If already mid-turn (partial phase stepping), completes remaining phases.
+ * <p>With fused stages set, the turn runs as one {@link Wavefront} sweep on per-stage generators
+ * instead of the shared stream (see {@link #setFusedStages(List)}).</p>
  */
 public void step() {
 	if (world == null) {
@@ -239,18 +448,22 @@ public void step() {
 	}
 	
 	// Start a brand new turn.
-	turn++;
-	log("Step: " + turn);
+	beginTurn();
 	currentPhase = Phase.PLANT_GROWTH;
 	firePhaseChanged();
 	
-	phasePlantGrowth();
-	phaseHerbivores();
-	phaseCarnivores();
-	phaseReproduction();
-	phaseCleanup();
+	if (fusedStages != null) {
+		Wavefront.run(world, fusedStages, RandomGenerator.getSeed(), turn);
+	} else {
+		phasePlantGrowth();
+		phaseHerbivores();
+		phaseCarnivores();
+		phaseReproduction();
+		phaseCleanup();
+	}
 	
 	currentPhase = null;
+	endTurn();
 	firePhaseChanged();
 	fireTurnAdvanced();
 	fireWorldChanged();
@@ -267,8 +480,7 @@ public void stepNextPhase() {
 	
 	// Initialize a new turn if none in progress.
 	if (currentPhase == null) {
-		turn++;
-		log("Step: " + turn);
+		beginTurn();
 		currentPhase = Phase.PLANT_GROWTH;
 		firePhaseChanged();
 		fireTurnAdvanced();
@@ -283,6 +495,7 @@ public void stepNextPhase() {
 	
 	if (currentPhase == null) {
 		log("Tour " + turn + " terminé");
+		endTurn();
 	}
 	
 	fireWorldChanged();
@@ -305,9 +518,62 @@ public void stepRemainingPhases() {
 	}
 	
 	log("Tour " + turn + " terminé");
+	endTurn();
 	fireWorldChanged();
 }
 
+/**
+ * Advances the turn counter and resets per-turn world snapshots (density tables).
+ */
+private void beginTurn() {
+	turn++;
+	log("Step: " + turn);
+	world.invalidateDensity();
+}
+
+/**
+ * Records the fingerprint of the completed turn (logging an exact repeat of an earlier state),
+ * appends it to the journal, if one is open, and hands a checkpoint to the background writer
+ * when one is due. A journal write failure closes the journal rather than interrupting the
+ * simulation.
+ */
+private void endTurn() {
+	final Integer first = fingerprints.putIfAbsent(world.fingerprint(), turn);
+	repeatedTurn = first != null ? first : -1;
+	if (first != null) log("Tour " + turn + ": état identique au tour " + first);
+	if (journal != null) {
+		try {
+			journal.record(world, turn);
+		} catch (IOException e) {
+			log("Journal interrompu: " + e.getMessage());
+			stopJournal();
+		}
+	}
+	if (checkpointer != null && checkpointer.isDue(turn)) checkpoint();
+}
+
+/**
+ * Captures a checkpoint of the completed turn and logs its latency once written. The outcome is
+ * handed back to the Swing event thread, which owns the listeners, rather than logged from the
+ * writer thread.
+ */
+private void checkpoint() {
+	final CompletableFuture<Checkpointer.Result> pending = checkpointer.submit(turn, world);
+	if (pending == null) {
+		log("Point de reprise du tour " + turn + " sauté (écriture précédente en cours)");
+		return;
+	}
+	pending.whenCompleteAsync((result, error) -> {
+		if (error != null) {
+			log("Échec point de reprise: " + error.getMessage());
+		} else {
+			log(String.format("Point de reprise tour %d: %d Ko, capture %.2f ms, écriture %.1f ms (%.1f Mo/s)",
+				result.turn(), result.bytes() / 1024, result.captureNanos() / 1e6, result.writeNanos() / 1e6,
+				result.throughputMBps()));
+		}
+	}, SwingUtilities::invokeLater);
+}
+
 /**
  * Executes whatever phase is currently active (no advancement after execution).
  */
@@ -334,8 +600,7 @@ public void executePhase(final Phase phase) {
 	
 	// Start a new turn if idle.
 	if (currentPhase == null) {
-		turn++;
-		log("Step: " + turn);
+		beginTurn();
 		fireTurnAdvanced();
 	}
 	
@@ -355,6 +620,12 @@ public void executePhase(final Phase phase) {
 
 /**
  * Plant growth phase: each plant performs its growth behavior.
+ * <p>Saturated plants cannot change, so {@link World#growingPlants()} is enough to visit (each
+ * listed plant still grows by one {@code grow} call per turn). Growth only touches each plant's
+ * own energy, so the visit can run as
+ * {@code RowBands.forEach(world, world.growingPlants(), RowBands.DEFAULT_THRESHOLD, p -> p.grow(world))}:
+ * bands are chunk-aligned, and the chunk versions and death queue written by energy changes are
+ * concurrent.</p>
  */
 public void phasePlantGrowth() {
 	// TODO : Implement plant growth phase logic.
@@ -365,6 +636,10 @@ public void phasePlantGrowth() {
 
 /**
  * Herbivore movement, fleeing, and eating phase.
+ * <p>When a {@link MovementEngine} is set, moves are planned and committed in one call with
+ * {@code movementEngine.run(world, herbivores, RandomGenerator.nextLong())} (herbivores listed in
+ * row-major order, the engine's priority order) before eating, instead of moving animals one by
+ * one.</p>
  */
 public void phaseHerbivores() {
 	// TODO : Implement herbivore movement, fleeing, and eating phase logic.
@@ -375,6 +650,8 @@ public void phaseHerbivores() {
 
 /**
  * Carnivore movement, hunting, and eating phase.
+ * <p>Same opt-in {@link MovementEngine} path as {@link #phaseHerbivores()}, with the carnivores
+ * in row-major order.</p>
  */
 public void phaseCarnivores() {
 	// TODO : Implement carnivore movement, hunting, and eating phase logic.
@@ -385,6 +662,10 @@ public void phaseCarnivores() {
 
 /**
  * Reproduction phase for all organism types.
+ * <p>{@link World#reproductionCandidates()} lists only organisms at or above their species
+ * threshold (plants first, then animals, row-major), so the phase need not visit the whole
+ * population. When a {@link ReproductionEngine} is set, the whole phase is
+ * {@code reproductionEngine.run(world, RandomGenerator.nextLong())}.</p>
  */
 public void phaseReproduction() {
 	// TODO : Implement reproduction phase logic.
@@ -395,6 +676,10 @@ public void phaseReproduction() {
 
 /**
  * Cleanup phase: removes dead plants and animals from their cells.
+ * <p>Organisms are queued by the {@link World} as they die, so {@link World#drainDeaths()}
+ * performs the removal in O(deaths) without scanning every cell;
+ * {@code world.drainDeaths(RowBands.DEFAULT_THRESHOLD)} splits dead plants over parallel
+ * {@link RowBands} on large worlds.</p>
  */
 public void phaseCleanup() {
 	// TODO : Implement cleanup phase logic.
@@ -403,6 +688,158 @@ public void phaseCleanup() {
 	fireWorldChanged();
 }
 
+//=============================================================================
+//                                   Forks
+//=============================================================================
+
+/**
+ * Branches the current world into one fork per seed and advances every fork by {@code turns}
+ * full turns, forks running in parallel. The current world and turn counter are untouched.
+ * <p>Each fork gets its own controller sharing this controller's rule settings (movement and
+ * reproduction engines, fused stages) and its own generator seeded with its seed, installed with
+ * {@link RandomGenerator#scoped(java.util.Random, java.util.function.Supplier)} around every turn,
+ * so its outcome depends only on the fork point and the seed. That scope only covers the fork's
+ * thread: work a fork hands to pool workers must not draw from the shared generator (the engines
+ * seed a private generator per item, growth and cleanup draw nothing). Fused stages shared with
+ * forks must not keep per-turn state.</p>
+ *
+ * @param seeds one seed per fork
+ * @param turns number of turns to advance each fork
+ * @return forked worlds after {@code turns} turns, in seed order (empty if no world)
+ */
+public List<World> runForks(final long[] seeds, final int turns) {
+	final List<World> forks = new ArrayList<>();
+	if (world == null) return forks;
+	for (int i = 0; i < seeds.length; i++) forks.add(world.fork());
+	log("Branches: " + seeds.length + " x " + turns + " tours depuis le tour " + turn);
+	IntStream.range(0, seeds.length).parallel().forEach(i -> {
+		final Random generator = new Random(seeds[i]);
+		final SimulationController branch = new SimulationController(forks.get(i));
+		branch.movementEngine = movementEngine;
+		branch.reproductionEngine = reproductionEngine;
+		branch.fusedStages = fusedStages;
+		for (int t = 0; t < turns; t++) {
+			RandomGenerator.scoped(generator, () -> {
+				branch.step();
+				return null;
+			});
+		}
+	});
+	return forks;
+}
+
+//=============================================================================
+//                                  Journal
+//=============================================================================
+
+/**
+ * Starts recording every completed turn into an append-only journal file (see
+ * {@link TurnJournal}), beginning with a keyframe of the current state. Replaces any journal
+ * already open. Use {@link TurnJournal.Reader} to seek back to a recorded turn.
+ *
+ * @param file             journal file (created or truncated)
+ * @param keyframeInterval turns between full keyframes (replay cost is at most this many deltas)
+ * @return {@code true} if recording started
+ */
+public boolean startJournal(final File file, final int keyframeInterval) {
+	stopJournal();
+	if (world == null) {
+		log("Aucun monde à journaliser");
+		return false;
+	}
+	try {
+		journal = new TurnJournal(file, world, turn, keyframeInterval);
+		log("Journal: " + file.getName() + " (image complète tous les " + keyframeInterval + " tours)");
+		return true;
+	} catch (IOException | IllegalArgumentException e) {
+		log("Échec ouverture journal: " + e.getMessage());
+		return false;
+	}
+}
+
+/**
+ * Stops recording and closes the journal file (no-op if not recording).
+ */
+public void stopJournal() {
+	if (journal == null) return;
+	try {
+		journal.close();
+	} catch (IOException e) {
+		log("Échec fermeture journal: " + e.getMessage());
+	}
+	journal = null;
+}
+
+/**
+ * Returns whether completed turns are being journaled.
+ *
+ * @return {@code true} if a journal is open
+ */
+public boolean isJournaling() {
+	return journal != null;
+}
+
+//=============================================================================
+//                                Checkpoints
+//=============================================================================
+
+/**
+ * Starts writing checkpoints of completed turns in the background (see {@link Checkpointer}):
+ * every {@code everyTurns} turns and/or every {@code everyMillis} milliseconds. The simulation
+ * thread only pays for a copy-on-write snapshot. Replaces any checkpointer already running.
+ *
+ * @param directory   checkpoint directory (created if missing)
+ * @param everyTurns  turns between checkpoints (0 to disable)
+ * @param everyMillis milliseconds between checkpoints (0 to disable)
+ * @return {@code true} if checkpointing started
+ */
+public boolean startCheckpoints(final File directory, final int everyTurns, final long everyMillis) {
+	stopCheckpoints();
+	try {
+		checkpointer = new Checkpointer(directory, everyTurns, everyMillis, CHECKPOINTS_KEPT);
+		log("Points de reprise: " + directory.getName() + " (tous les " + everyTurns + " tours / " + everyMillis + " ms)");
+		return true;
+	} catch (IOException | IllegalArgumentException e) {
+		log("Échec activation points de reprise: " + e.getMessage());
+		return false;
+	}
+}
+
+/**
+ * Stops checkpointing after the pending write, if any, completes (no-op if not running).
+ */
+public void stopCheckpoints() {
+	if (checkpointer == null) return;
+	checkpointer.close();
+	checkpointer = null;
+}
+
+/**
+ * Resumes from the newest readable checkpoint of a directory: world, turn counter and random
+ * generator state, so the run continues with the draws it would have made. Checkpointing, if
+ * active, continues into the same directory.
+ *
+ * @param directory checkpoint directory
+ * @return {@code true} if a checkpoint was restored
+ */
+public boolean resumeFromCheckpoint(final File directory) {
+	final Checkpointer.Checkpoint checkpoint = Checkpointer.latest(directory);
+	if (checkpoint == null) {
+		log("Aucun point de reprise dans: " + directory.getName());
+		return false;
+	}
+	pause();
+	final World restored = checkpoint.state().restore();
+	RandomGenerator.restoreState(checkpoint.randomState(), checkpoint.seed());
+	setWorld(restored);
+	turn = checkpoint.turn();
+	fingerprints.clear();
+	fingerprints.put(restored.fingerprint(), turn);
+	log("Reprise au tour " + turn + " depuis: " + directory.getName());
+	fireTurnAdvanced();
+	return true;
+}
+
 //=============================================================================
 //                               Run Control
 //=============================================================================
@@ -450,12 +887,18 @@ public void toggle() {
 }
 
 /**
- * Resets the world to its original configuration file if available; otherwise creates
- * an empty world of current dimensions. Turn and phase tracking are cleared.
+ * Resets the world to its state when loaded (in-memory snapshot and random generator state, no
+ * file I/O);
+ * otherwise reloads the original configuration file if available, or creates an empty world of
+ * current dimensions. Turn and phase tracking are cleared.
  */
 public void reset() {
 	pause();
-	if (configFile != null) {
+	if (pristine != null) {
+		RandomGenerator.restoreState(pristineRandom, pristineSeed);
+		setWorld(pristine.restore());
+		log("Monde réinitialisé depuis l'instantané initial");
+	} else if (configFile != null) {
 		final boolean ok = loadWorld(configFile);
 		if (ok) {
 			log("Monde réinitialisé depuis: " + configFile.getName());
@@ -498,6 +941,8 @@ private Iterable<Cell> allCells() {
  */
 public void dispose() {
 	pause();
+	stopJournal();
+	stopCheckpoints();
 	if (timer != null) {
 		timer.stop();
 		timer = null;
@@ -0,0 +1,170 @@
+/* ============================================================================
+ * Path: src/student/controller/Wavefront.java
+ * Author: Zakary Gaillard-D.
+ * Date: 2026-10-18
+ * Description: Fused single-pass turn loop running row stages as a lagged wavefront.
+ * ========================================================================== */
+package student.controller;
+
+import prof.utils.RandomGenerator;
+import student.model.core.World;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Runs the phases of a turn as row stages in one top-to-bottom sweep instead of one sweep each.
+ * <p>At sweep step {@code t}, stage {@code k} processes row {@code t - lag(k)}. Consecutive
+ * stages are separated by {@code reach(k-1) + reach(k) + 1} rows, where {@code reach} is the
+ * farthest row (above or below) a stage reads or writes. So when stage {@code k} works on row
+ * {@code y}:</p>
+ * <ul>
+ *   <li>stage {@code k-1} has already finished every row whose window overlaps rows
+ *   {@code y - reach(k) .. y + reach(k)};</li>
+ *   <li>no row stage {@code k-1} has still to process can read or write what stage {@code k}
+ *   touches.</li>
+ * </ul>
+ * <p>Each stage therefore observes exactly what it would after the previous phase finished on the
+ * whole grid, in the same row-major order, while every row is brought into cache about once per
+ * turn rather than once per phase.</p>
+ * <p>Interleaving stages would also interleave their random draws. Each stage therefore draws
+ * from its own generator, seeded from (seed, turn, stage) and installed with
+ * {@link RandomGenerator#scoped(Random, java.util.function.Supplier)} around its rows, so a sweep
+ * draws exactly what {@link #runPhased} draws running the stages one after another. These are
+ * not the draws the controller's phase methods make from the shared stream: a fused turn
+ * reproduces the same stages run phase by phase, not the unfused turn of the same seed.</p>
+ */
+public final class Wavefront {
+//=============================================================================
+//                               Construction
+//=============================================================================
+
+/**
+ * Private constructor to prevent instantiation of utility class.
+ */
+private Wavefront() {
+	throw new UnsupportedOperationException("Utility class cannot be instantiated");
+}
+
+//=============================================================================
+//                                 Execution
+//=============================================================================
+
+/**
+ * Return the row lag of each stage behind the first one.
+ *
+ * @param stages stages in phase order
+ * @return lag per stage ({@code lags[0] == 0})
+ */
+public static int[] lags(final List<? extends RowStage> stages) {
+	final int[] lags = new int[stages.size()];
+	for (int k = 1; k < stages.size(); k++) {
+		lags[k] = lags[k - 1] + stages.get(k - 1).reach() + stages.get(k).reach() + 1;
+	}
+	return lags;
+}
+
+/**
+ * Run every stage over every row of the world as a single lagged sweep.
+ *
+ * @param world  world to process
+ * @param stages stages in phase order
+ * @param seed   run seed (e.g. {@link RandomGenerator#getSeed()})
+ * @param turn   turn number
+ */
+public static void run(final World world, final List<? extends RowStage> stages, final long seed, final int turn) {
+	if (stages.isEmpty()) return;
+	final Random[] generators = generators(stages.size(), seed, turn);
+	final int[] lags = lags(stages);
+	final int height = world.getHeight();
+	final int steps = height + lags[lags.length - 1];
+	for (int t = 0; t < steps; t++) {
+		for (int k = 0; k < stages.size(); k++) {
+			final int y = t - lags[k];
+			if (y >= 0 && y < height) runRow(stages.get(k), generators[k], world, y);
+		}
+	}
+	for (int k = 0; k < stages.size(); k++) finish(stages.get(k), generators[k], world);
+}
+
+/**
+ * Run the stages one after another, each over every row (the reference order of {@link #run}).
+ *
+ * @param world  world to process
+ * @param stages stages in phase order
+ * @param seed   run seed
+ * @param turn   turn number
+ */
+public static void runPhased(final World world, final List<? extends RowStage> stages, final long seed, final int turn) {
+	final Random[] generators = generators(stages.size(), seed, turn);
+	for (int k = 0; k < stages.size(); k++) {
+		for (int y = 0; y < world.getHeight(); y++) runRow(stages.get(k), generators[k], world, y);
+	}
+	for (int k = 0; k < stages.size(); k++) finish(stages.get(k), generators[k], world);
+}
+
+/**
+ * Return one generator per stage, seeded from (seed, turn, stage).
+ */
+private static Random[] generators(final int stages, final long seed, final int turn) {
+	final Random[] generators = new Random[stages];
+	for (int k = 0; k < stages; k++) {
+		generators[k] = new Random(MovementEngine.mix(MovementEngine.mix(seed, turn), k));
+	}
+	return generators;
+}
+
+/**
+ * Process one row of a stage with the stage's generator in scope.
+ */
+private static void runRow(final RowStage stage, final Random generator, final World world, final int y) {
+	RandomGenerator.scoped(generator, () -> {
+		stage.runRow(world, y);
+		return null;
+	});
+}
+
+/**
+ * Finish a stage with the stage's generator in scope.
+ */
+private static void finish(final RowStage stage, final Random generator, final World world) {
+	RandomGenerator.scoped(generator, () -> {
+		stage.finish(world);
+		return null;
+	});
+}
+
+//=============================================================================
+//                                 Row Stage
+//=============================================================================
+
+/**
+ * One phase of a turn, split into rows processed top to bottom.
+ */
+public interface RowStage {
+	/**
+	 * Return the farthest row distance (above or below) this stage reads or writes while
+	 * processing a row: 0 for growth and cleanup, 1 for cross-neighbor spawning, the larger of
+	 * vision radius and move distance for animals.
+	 *
+	 * @return row reach (>= 0)
+	 */
+	int reach();
+
+	/**
+	 * Process every cell of row {@code y}, left to right.
+	 *
+	 * @param world world being processed
+	 * @param y     row index
+	 */
+	void runRow(World world, int y);
+
+	/**
+	 * Called once after the sweep (e.g. to drain queues); does nothing by default.
+	 *
+	 * @param world world being processed
+	 */
+	default void finish(final World world) {
+	}
+}
+}
@@ -8,11 +8,15 @@ package student.model.behaviors;
 
 import student.model.core.Cell;
 import student.model.core.World;
+import student.model.organisms.Carnivore;
+import student.model.organisms.Herbivore;
 
 /**
  * Defines an organism that can consume other edible entities present in a {@link Cell}.
  * <p>This interface provides helper default methods to consume plants or animals while
- * transferring nutritional energy to the current energetic organism when applicable.</p>
+ * transferring nutritional energy to the current energetic organism when applicable. Edibility
+ * is read from the occupant's {@link student.model.organisms.Species} tag for plants and from the
+ * sealed animal hierarchy for animals, rather than probed with {@code instanceof}.</p>
  */
 public interface Eater {
 //=============================================================================
@@ -50,10 +54,10 @@ void eat(Cell cell, World world);
 default void consumePlant(Cell cell, World world) { // DONOTTOUCH[behavior] (MAINTAINER, 2025-10-06): Logic must stay side-effect equivalent.
 	if (cell.hasPlant()) {
 		var plant = cell.getPlant();
-		if (plant instanceof Edible edible) {
+		if (plant.getSpecies().isEdible()) {
 			// Gain nutritional energy if this eater stores energy.
 			if (this instanceof Energetic energetic) {
-				energetic.addEnergy(edible.nutrition());
+				energetic.addEnergy(plant.nutrition());
 			}
 			// Remove the consumed plant from the cell.
 			cell.removePlant();
@@ -70,14 +74,18 @@ default void consumePlant(Cell cell, World world) { // DONOTTOUCH[behavior] (MAI
  */
 default void consumeAnimal(Cell cell, World world) { // DONOTTOUCH[behavior] (MAINTAINER, 2025-10-06): Logic must stay side-effect equivalent.
 	if (cell.hasAnimal()) {
-		var animal = cell.getAnimal();
-		if (animal instanceof Edible edible) {
-			// Gain nutritional energy if this eater stores energy.
-			if (this instanceof Energetic energetic) {
-				energetic.addEnergy(edible.nutrition());
+		// The animal hierarchy is sealed: only herbivores are edible.
+		switch (cell.getAnimal()) {
+			case Herbivore prey -> {
+				// Gain nutritional energy if this eater stores energy.
+				if (this instanceof Energetic energetic) {
+					energetic.addEnergy(prey.nutrition());
+				}
+				// Remove the consumed animal from the cell.
+				cell.removeAnimal();
+			}
+			case Carnivore _ -> {
 			}
-			// Remove the consumed animal from the cell.
-			cell.removeAnimal();
 		}
 	}
 }
@@ -19,6 +19,11 @@ import java.util.List;
  *   <li>Level 2: full 3x3 square – 8 surrounding cells.</li>
  *   <li>Level 3: full 5x5 square – 24 surrounding cells.</li>
  * </ul>
+ * <p>Wider square radii (studies with vision up to 50) should not enumerate positions cell by
+ * cell: {@link student.model.core.OccupancyLayers#rowBits} reads up to 64 columns of a window row
+ * in one call, so a window costs O(r) word reads that always reflect the current occupancy.
+ * {@link World#densityTables()} is a start-of-turn view and does not see moves made during a
+ * phase, so it is not suited to perception.</p>
  */
 public interface Perceptive {
 //=============================================================================
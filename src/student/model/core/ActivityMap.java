@@ -0,0 +1,104 @@
+/* ============================================================================
+ * Path: src/student/model/core/ActivityMap.java
+ * Author: Zakary Gaillard-D.
+ * Date: 2026-10-18
+ * Description: Per-chunk modification stamps telling which regions of the world changed.
+ * ========================================================================== */
+package student.model.core;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tracks, for each square chunk of a {@link World}, a version stamp bumped on every slot or energy
+ * change inside it (a spawn landed, an animal entered or left, an organism died or ate).
+ * <p>Snapshots and the turn journal compare stamps to reuse or skip chunks that did not change
+ * since a previous capture, so their cost follows the changed chunks rather than the map area.</p>
+ */
+public final class ActivityMap {
+//=============================================================================
+//                                   Constants
+//=============================================================================
+/**
+ * Side length of a chunk in cells.
+ */
+public static final int CHUNK_SIZE = 16;
+
+//=============================================================================
+//                                   Fields
+//=============================================================================
+private final int width;
+private final int height;
+private final int chunksX;
+private final int chunksY;
+private final AtomicLongArray versions;
+
+//=============================================================================
+//                               Construction
+//=============================================================================
+
+/**
+ * Create a version map for a grid of the given size; every chunk starts at version 0.
+ *
+ * @param width  grid width
+ * @param height grid height
+ */
+ActivityMap(final int width, final int height) {
+	this.width = width;
+	this.height = height;
+	this.chunksX = (width + CHUNK_SIZE - 1) / CHUNK_SIZE;
+	this.chunksY = (height + CHUNK_SIZE - 1) / CHUNK_SIZE;
+	this.versions = new AtomicLongArray(chunksX * chunksY);
+}
+
+//=============================================================================
+//                               Accessors
+//=============================================================================
+
+/**
+ * Return the number of chunk columns.
+ *
+ * @return chunk count along x
+ */
+public int getChunksX() {
+	return chunksX;
+}
+
+/**
+ * Return the number of chunk rows.
+ *
+ * @return chunk count along y
+ */
+public int getChunksY() {
+	return chunksY;
+}
+
+/**
+ * Return the modification stamp of chunk {@code (cx, cy)}: it changes whenever a slot or an
+ * energy inside the chunk changes, and never otherwise, so snapshots can tell which chunks
+ * changed since they were taken.
+ *
+ * @param cx chunk column
+ * @param cy chunk row
+ * @return chunk version
+ */
+public long version(final int cx, final int cy) {
+	return versions.get(cy * chunksX + cx);
+}
+
+//=============================================================================
+//                               Updates
+//=============================================================================
+
+/**
+ * Bump the version of the chunk containing cell {@code (x, y)}.
+ * <p>May be called concurrently by {@link RowBands} workers; versions are bumped atomically, so
+ * no increment is lost.</p>
+ *
+ * @param x cell column
+ * @param y cell row
+ */
+void markDirty(final int x, final int y) {
+	if (x < 0 || y < 0 || x >= width || y >= height) return;
+	versions.incrementAndGet((y / CHUNK_SIZE) * chunksX + x / CHUNK_SIZE);
+}
+}
@@ -9,6 +9,7 @@ package student.model.core;
 import student.model.organisms.Animal;
 import student.model.organisms.Organism;
 import student.model.organisms.Plant;
+import student.model.organisms.Species;
 
 /**
  * Represents a single grid cell that may contain one {@link Animal} and one {@link Plant}.
@@ -19,6 +20,7 @@ public class Cell {
 //=============================================================================
 //                                   Fields
 //=============================================================================
+private final World world;
 private final Position position;
 private Animal animal;
 private Plant plant;
@@ -33,6 +35,17 @@ private Plant plant;
  * @param position non-null grid coordinates reference
  */
 public Cell(final Position position) {
+	this(null, position);
+}
+
+/**
+ * Construct a cell owned by a {@link World}; occupants placed here are attached to that world.
+ *
+ * @param world    owning world (may be {@code null} for detached cells)
+ * @param position non-null grid coordinates reference
+ */
+Cell(final World world, final Position position) {
+	this.world = world;
 	this.position = position; // DONOTTOUCH[core] (MAINTAINER, 2025-10-06): Positional reference only.
 }
 
@@ -77,14 +90,19 @@ public Animal getAnimal() {
  * @param animal animal to store (may be {@code null})
  */
 public void setAnimal(final Animal animal) {
+	final Animal previous = this.animal;
 	this.animal = animal;
+	attach(animal);
+	if (world != null) world.animalSlotChanged(this, previous, animal);
 }
 
 /**
  * Remove the resident animal (if any).
  */
 public void removeAnimal() {
+	final Animal previous = this.animal;
 	this.animal = null;
+	if (world != null) world.animalSlotChanged(this, previous, null);
 }
 
 /**
@@ -96,6 +114,33 @@ public boolean isEmptyAnimal() {
 	return animal == null;
 }
 
+/**
+ * Return the species of the resident animal or {@code null} if the slot is empty.
+ *
+ * @return animal species tag or {@code null}
+ */
+public Species getAnimalSpecies() {
+	return animal != null ? animal.getSpecies() : null;
+}
+
+/**
+ * Return whether the animal slot holds a herbivore.
+ *
+ * @return {@code true} if a herbivore is present
+ */
+public boolean hasHerbivore() {
+	return animal != null && animal.getSpecies() == Species.HERBIVORE;
+}
+
+/**
+ * Return whether the animal slot holds a carnivore.
+ *
+ * @return {@code true} if a carnivore is present
+ */
+public boolean hasCarnivore() {
+	return animal != null && animal.getSpecies() == Species.CARNIVORE;
+}
+
 //=============================================================================
 //                                  Plants
 //=============================================================================
@@ -124,14 +169,19 @@ public Plant getPlant() {
  * @param plant plant to store (may be {@code null})
  */
 public void setPlant(final Plant plant) {
+	final Plant previous = this.plant;
 	this.plant = plant;
+	attach(plant);
+	if (world != null) world.plantSlotChanged(this, previous, plant);
 }
 
 /**
  * Remove the resident plant (if any).
  */
 public void removePlant() {
+	final Plant previous = this.plant;
 	this.plant = null;
+	if (world != null) world.plantSlotChanged(this, previous, null);
 }
 
 /**
@@ -176,4 +226,17 @@ public Organism getOrganism() {
 	if (plant != null) return plant;
 	return null;
 }
+
+/**
+ * Attach a newly placed occupant to the owning world; occupants placed already dead are queued
+ * for cleanup right away, others are offered to the reproduction candidate index.
+ *
+ * @param organism placed occupant (may be {@code null})
+ */
+private void attach(final Organism organism) {
+	if (world == null || organism == null) return;
+	organism.setWorld(world);
+	if (!organism.isAlive()) world.enqueueDeath(organism);
+	else world.energyChanged(organism, organism.getEnergy()); // placement is not an energy change
+}
 }
@@ -0,0 +1,264 @@
+/* ============================================================================
+ * Path: src/student/model/core/DensityTables.java
+ * Author: Zakary Gaillard-D.
+ * Date: 2026-10-18
+ * Description: Summed-area tables of occupancy layers for O(1) window counts at any radius.
+ * ========================================================================== */
+package student.model.core;
+
+import student.model.core.OccupancyLayers.Layer;
+
+/**
+ * Summed-area (integral image) tables of the plant, herbivore and carnivore layers of a world.
+ * <p>Built in O(cells) from the occupancy bitboards, after which the population of any
+ * rectangle is four table reads: counting organisms within {@code r}, picking the densest
+ * quadrant, or locating a target by bisection are all O(1) or O(log r) whatever the radius.</p>
+ *
+ * <p>Tables are a snapshot: later slot changes are not reflected until a new build. The world
+ * builds them once per turn ({@link World#densityTables()}), so they describe the start of the
+ * turn and suit turn-level queries, not perception during movement phases.</p>
+ */
+public final class DensityTables {
+//=============================================================================
+//                                   Fields
+//=============================================================================
+private final int width;
+private final int height;
+private final int[][] sums;
+
+//=============================================================================
+//                               Construction
+//=============================================================================
+
+/**
+ * Build tables from the current occupancy of a world.
+ *
+ * @param world world to snapshot
+ */
+public DensityTables(final World world) {
+	this.width = world.getWidth();
+	this.height = world.getHeight();
+	this.sums = new int[Layer.values().length][];
+	final OccupancyLayers layers = world.getOccupancy();
+	final int stride = width + 1;
+	for (Layer layer : new Layer[]{Layer.PLANT, Layer.HERBIVORE, Layer.CARNIVORE}) {
+		final int[] sat = new int[stride * (height + 1)];
+		for (int y = 0; y < height; y++) {
+			final int above = y * stride + 1;
+			final int row = (y + 1) * stride + 1;
+			int rowSum = 0;
+			// One bitboard word per 64 columns; the prefix count of column x0 + i is a popcount.
+			for (int x0 = 0; x0 < width; x0 += 64) {
+				final int len = Math.min(64, width - x0);
+				final long bits = layers.rowBits(layer, y, x0, len);
+				if (bits == 0) {
+					for (int i = 0; i < len; i++) sat[row + x0 + i] = sat[above + x0 + i] + rowSum;
+					continue;
+				}
+				for (int i = 0; i < len; i++) {
+					sat[row + x0 + i] = sat[above + x0 + i] + rowSum + Long.bitCount(bits << (63 - i));
+				}
+				rowSum += Long.bitCount(bits);
+			}
+		}
+		sums[layer.ordinal()] = sat;
+	}
+}
+
+//=============================================================================
+//                               Queries
+//=============================================================================
+
+/**
+ * Count occupied cells of a layer in the inclusive rectangle {@code [x0..x1] × [y0..y1]},
+ * clipped to the grid.
+ *
+ * @param layer PLANT, HERBIVORE or CARNIVORE
+ * @param x0    left column
+ * @param y0    top row
+ * @param x1    right column
+ * @param y1    bottom row
+ * @return population of the rectangle (0 if empty after clipping)
+ * @throws IllegalArgumentException if the layer has no table
+ */
+public int count(final Layer layer, int x0, int y0, int x1, int y1) {
+	final int[] sat = sums[layer.ordinal()];
+	if (sat == null) throw new IllegalArgumentException("No density table for layer: " + layer);
+	x0 = Math.max(0, x0);
+	y0 = Math.max(0, y0);
+	x1 = Math.min(width - 1, x1);
+	y1 = Math.min(height - 1, y1);
+	if (x0 > x1 || y0 > y1) return 0;
+	final int stride = width + 1;
+	return sat[(y1 + 1) * stride + x1 + 1] - sat[y0 * stride + x1 + 1]
+		- sat[(y1 + 1) * stride + x0] + sat[y0 * stride + x0];
+}
+
+/**
+ * Count occupied cells of a layer in the square of the given radius around a center, excluding
+ * the center itself.
+ *
+ * @param layer  PLANT, HERBIVORE or CARNIVORE
+ * @param center window center
+ * @param radius square radius (>= 0)
+ * @return population of the window minus the center
+ */
+public int countWithin(final Layer layer, final Position center, final int radius) {
+	final int x = center.x();
+	final int y = center.y();
+	return count(layer, x - radius, y - radius, x + radius, y + radius) - count(layer, x, y, x, y);
+}
+
+/**
+ * Return the smallest radius {@code r <= maxRadius} whose window (center excluded) holds an
+ * occupied cell, found by bisection on {@link #countWithin}.
+ *
+ * @param layer     PLANT, HERBIVORE or CARNIVORE
+ * @param center    window center
+ * @param maxRadius largest radius searched
+ * @return nearest occupied radius, or -1 if none within {@code maxRadius}
+ */
+public int nearestRadius(final Layer layer, final Position center, final int maxRadius) {
+	if (maxRadius < 1 || countWithin(layer, center, maxRadius) == 0) return -1;
+	int lo = 1;
+	int hi = maxRadius;
+	while (lo < hi) {
+		final int mid = (lo + hi) >>> 1;
+		if (countWithin(layer, center, mid) > 0) hi = mid;
+		else lo = mid + 1;
+	}
+	return lo;
+}
+
+/**
+ * Locate the first occupied cell (row-major) of the square window around a center, center
+ * excluded, by bisecting first on rows then on columns: O(log r) table reads.
+ *
+ * @param layer  PLANT, HERBIVORE or CARNIVORE
+ * @param center window center
+ * @param radius square radius (>= 1)
+ * @return position of the first occupied cell, or {@code null} if the window is empty
+ */
+public Position locate(final Layer layer, final Position center, final int radius) {
+	final int cx = center.x();
+	final int cy = center.y();
+	final int x0 = Math.max(0, cx - radius);
+	final int x1 = Math.min(width - 1, cx + radius);
+	final int y0 = Math.max(0, cy - radius);
+	final int y1 = Math.min(height - 1, cy + radius);
+	if (x0 > x1 || y0 > y1) return null;
+	final int centerHit = count(layer, cx, cy, cx, cy);
+	if (count(layer, x0, y0, x1, y1) - centerHit == 0) return null;
+
+	// First row band [y0..row] holding a non-center cell.
+	int lo = y0;
+	int hi = y1;
+	while (lo < hi) {
+		final int mid = (lo + hi) >>> 1;
+		final int found = count(layer, x0, y0, x1, mid) - (mid >= cy ? centerHit : 0);
+		if (found > 0) hi = mid;
+		else lo = mid + 1;
+	}
+	final int row = lo;
+
+	// First column of that row, skipping the center.
+	lo = x0;
+	hi = x1;
+	while (lo < hi) {
+		final int mid = (lo + hi) >>> 1;
+		final int found = count(layer, x0, row, mid, row) - (row == cy && mid >= cx ? centerHit : 0);
+		if (found > 0) hi = mid;
+		else lo = mid + 1;
+	}
+	return new Position(lo, row);
+}
+
+/**
+ * Return the quadrant of the square window holding the most occupied cells.
+ * <p>Quadrants form a pinwheel covering the window minus its center exactly once; ties resolve in
+ * {@link Quadrant} declaration order.</p>
+ *
+ * @param layer  PLANT, HERBIVORE or CARNIVORE
+ * @param center window center
+ * @param radius square radius (>= 1)
+ * @return densest quadrant, or {@code null} if the window is empty
+ */
+public Quadrant densestQuadrant(final Layer layer, final Position center, final int radius) {
+	Quadrant best = null;
+	int bestCount = 0;
+	for (Quadrant quadrant : Quadrant.values()) {
+		final int n = quadrant.count(this, layer, center, radius);
+		if (n > bestCount) {
+			best = quadrant;
+			bestCount = n;
+		}
+	}
+	return best;
+}
+
+//=============================================================================
+//                                 Quadrant Enum
+//=============================================================================
+
+/**
+ * Pinwheel quadrants of a square window around a center, each with its unit step direction.
+ */
+public enum Quadrant {
+	/**
+	 * Columns {@code x..x+r}, rows {@code y-r..y-1}.
+	 */
+	NORTH_EAST(1, -1),
+	/**
+	 * Columns {@code x+1..x+r}, rows {@code y..y+r}.
+	 */
+	SOUTH_EAST(1, 1),
+	/**
+	 * Columns {@code x-r..x}, rows {@code y+1..y+r}.
+	 */
+	SOUTH_WEST(-1, 1),
+	/**
+	 * Columns {@code x-r..x-1}, rows {@code y-r..y}.
+	 */
+	NORTH_WEST(-1, -1);
+
+	private final int dx;
+	private final int dy;
+
+	Quadrant(final int dx, final int dy) {
+		this.dx = dx;
+		this.dy = dy;
+	}
+
+	/**
+	 * Return the horizontal component of the step toward this quadrant.
+	 *
+	 * @return -1 or 1
+	 */
+	public int dx() {
+		return dx;
+	}
+
+	/**
+	 * Return the vertical component of the step toward this quadrant.
+	 *
+	 * @return -1 or 1
+	 */
+	public int dy() {
+		return dy;
+	}
+
+	/**
+	 * Count occupied cells of this quadrant.
+	 */
+	private int count(final DensityTables tables, final Layer layer, final Position c, final int r) {
+		final int x = c.x();
+		final int y = c.y();
+		return switch (this) {
+			case NORTH_EAST -> tables.count(layer, x, y - r, x + r, y - 1);
+			case SOUTH_EAST -> tables.count(layer, x + 1, y, x + r, y + r);
+			case SOUTH_WEST -> tables.count(layer, x - r, y + 1, x, y + r);
+			case NORTH_WEST -> tables.count(layer, x - r, y - r, x - 1, y);
+		};
+	}
+}
+}
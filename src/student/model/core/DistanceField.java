@@ -0,0 +1,333 @@
+/* ============================================================================
+ * Path: src/student/model/core/DistanceField.java
+ * Author: Zakary Gaillard-D.
+ * Date: 2026-10-18
+ * Description: Bounded multi-source distance field over the grid, repaired incrementally.
+ * ========================================================================== */
+package student.model.core;
+
+import student.model.organisms.Species;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Grid of Manhattan distances (cardinal steps, as animals move) from every cell to the nearest
+ * source cell, capped at a maximum range.
+ * <p>The field is built once with a 4-neighbor multi-source BFS in O(cells), then kept exact as
+ * sources appear or disappear: adding a source floods only its {@code range} window, removing one
+ * repairs the same window with a bucketed BFS seeded from its border. Queries are O(1), so a
+ * shared field replaces per-animal window scans whose cost grows with the vision radius.</p>
+ *
+ * <p>Updates reuse two primitive work arrays sized to one window, so moving a source allocates
+ * nothing; they must not run concurrently (callers already serialize them, since they write the
+ * shared distances).</p>
+ */
+public final class DistanceField {
+//=============================================================================
+//                                   Constants
+//=============================================================================
+/**
+ * Distance reported for cells farther than {@link #getRange()} from every source.
+ */
+public static final int UNREACHED = Integer.MAX_VALUE;
+
+/**
+ * Cardinal deltas {@code {dx, dy}} in row-major order: N, W, E, S.
+ */
+private static final int[][] CROSS = {{0, -1}, {-1, 0}, {1, 0}, {0, 1}};
+
+//=============================================================================
+//                                   Fields
+//=============================================================================
+private final int width;
+private final int height;
+private final int range;
+private final int[] dist;
+private final int[] seedStart;
+private int[] seeds;
+private int[] queue;
+
+//=============================================================================
+//                               Construction
+//=============================================================================
+
+/**
+ * Create an empty field (no sources) of the given size.
+ *
+ * @param width  grid width
+ * @param height grid height
+ * @param range  maximum distance tracked (>= 1)
+ */
+public DistanceField(final int width, final int height, final int range) {
+	if (range < 1) throw new IllegalArgumentException("range must be >= 1, but was: " + range);
+	this.width = width;
+	this.height = height;
+	this.range = range;
+	this.dist = new int[width * height];
+	this.seedStart = new int[range + 1];
+	Arrays.fill(dist, UNREACHED);
+}
+
+/**
+ * Build a field whose sources are every cell holding an animal of the given species.
+ *
+ * @param world   world to scan
+ * @param species animal species acting as source
+ * @param range   maximum distance tracked
+ * @return freshly built field
+ */
+public static DistanceField ofAnimals(final World world, final Species species, final int range) {
+	final DistanceField field = new DistanceField(world.getWidth(), world.getHeight(), range);
+	final int[] queue = new int[field.dist.length];
+	int tail = 0;
+	for (int y = 0; y < world.getHeight(); y++) {
+		for (int x = 0; x < world.getWidth(); x++) {
+			if (world.getCell(new Position(x, y)).getAnimalSpecies() == species) {
+				field.dist[y * field.width + x] = 0;
+				queue[tail++] = y * field.width + x;
+			}
+		}
+	}
+	field.flood(queue, 0, tail);
+	return field;
+}
+
+//=============================================================================
+//                               Accessors
+//=============================================================================
+
+/**
+ * Return the maximum distance tracked.
+ *
+ * @return range
+ */
+public int getRange() {
+	return range;
+}
+
+/**
+ * Return the distance from {@code (x, y)} to the nearest source.
+ *
+ * @param x column
+ * @param y row
+ * @return distance in steps, or {@link #UNREACHED} if beyond range or out of bounds
+ */
+public int distanceAt(final int x, final int y) {
+	if (x < 0 || y < 0 || x >= width || y >= height) return UNREACHED;
+	return dist[y * width + x];
+}
+
+/**
+ * Return whether {@code (x, y)} is itself a source.
+ *
+ * @param x column
+ * @param y row
+ * @return {@code true} if distance is zero
+ */
+public boolean isSource(final int x, final int y) {
+	return distanceAt(x, y) == 0;
+}
+
+/**
+ * Return the cardinal neighbors of {@code from} strictly closer to a source than {@code from}
+ * (one Manhattan step toward it), in row-major order. Empty when no source is within range.
+ *
+ * @param from current position
+ * @return positions one step closer to the nearest source (never {@code null})
+ */
+public List<Position> stepsToward(final Position from) {
+	final List<Position> steps = new ArrayList<>();
+	final int here = distanceAt(from.x(), from.y());
+	if (here == UNREACHED || here == 0) return steps;
+	for (int[] d : CROSS) {
+		if (distanceAt(from.x() + d[0], from.y() + d[1]) < here) {
+			steps.add(new Position(from.x() + d[0], from.y() + d[1]));
+		}
+	}
+	return steps;
+}
+
+/**
+ * Return the in-bounds cardinal neighbors of {@code from} farthest from every source (Manhattan
+ * distance, cells beyond range counting as farthest), in row-major order. Empty when no source is
+ * within range of {@code from}.
+ *
+ * @param from current position
+ * @return cardinal positions maximizing the distance to the nearest source (never {@code null})
+ */
+public List<Position> stepsAway(final Position from) {
+	return stepsAway(from, pos -> true);
+}
+
+/**
+ * Same as {@link #stepsAway(Position)}, restricted to the neighbors accepted by {@code allowed}
+ * (e.g. cells with a free animal slot): the maximum is taken over allowed cells only.
+ *
+ * @param from    current position
+ * @param allowed filter applied to candidate cells before ranking
+ * @return allowed cardinal positions maximizing the distance (never {@code null})
+ */
+public List<Position> stepsAway(final Position from, final Predicate<Position> allowed) {
+	final List<Position> steps = new ArrayList<>();
+	if (distanceAt(from.x(), from.y()) == UNREACHED) return steps;
+	int best = -1;
+	for (int[] d : CROSS) {
+		final int nx = from.x() + d[0];
+		final int ny = from.y() + d[1];
+		if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+		final Position pos = new Position(nx, ny);
+		if (!allowed.test(pos)) continue;
+		final int far = dist[ny * width + nx];
+		if (far > best) {
+			best = far;
+			steps.clear();
+		}
+		if (far == best) steps.add(pos);
+	}
+	return steps;
+}
+
+//=============================================================================
+//                               Updates
+//=============================================================================
+
+/**
+ * Register a new source at {@code (x, y)} and lower distances within its range.
+ *
+ * @param x column
+ * @param y row
+ */
+public void addSource(final int x, final int y) {
+	if (x < 0 || y < 0 || x >= width || y >= height) return;
+	final int i = y * width + x;
+	if (dist[i] == 0) return;
+	dist[i] = 0;
+	final int[] q = workQueue();
+	q[0] = i;
+	flood(q, 0, 1);
+}
+
+/**
+ * Remove the source at {@code (x, y)} and repair distances within its range.
+ * <p>Cells outside the square window of radius {@code range} are more than {@code range} steps
+ * from it and could not depend on it, so the ring just outside the window seeds a bucketed BFS
+ * over the window; remaining sources inside the window seed it at distance 0. The window is an
+ * axis-aligned rectangle, so every shortest cardinal path from the ring into it stays inside.</p>
+ *
+ * @param x column
+ * @param y row
+ */
+public void removeSource(final int x, final int y) {
+	if (x < 0 || y < 0 || x >= width || y >= height || dist[y * width + x] != 0) return;
+	dist[y * width + x] = UNREACHED;
+	final int x0 = Math.max(0, x - range);
+	final int x1 = Math.min(width - 1, x + range);
+	final int y0 = Math.max(0, y - range);
+	final int y1 = Math.min(height - 1, y + range);
+	for (int cy = y0; cy <= y1; cy++) {
+		for (int cx = x0; cx <= x1; cx++) {
+			if (dist[cy * width + cx] != 0) dist[cy * width + cx] = UNREACHED;
+		}
+	}
+
+	// Seeds (inner sources and the untouched ring around the window) counting-sorted by distance.
+	final int[] q = workQueue();
+	final int ry0 = Math.max(0, y0 - 1);
+	final int ry1 = Math.min(height - 1, y1 + 1);
+	final int rx0 = Math.max(0, x0 - 1);
+	final int rx1 = Math.min(width - 1, x1 + 1);
+	Arrays.fill(seedStart, 0);
+	for (int pass = 0; pass < 2; pass++) {
+		for (int cy = ry0; cy <= ry1; cy++) {
+			for (int cx = rx0; cx <= rx1; cx++) {
+				final int d = seedDistance(cx, cy, x0, x1, y0, y1);
+				if (d < 0) continue;
+				if (pass == 0) seedStart[d + 1]++;
+				else seeds[seedStart[d]++] = cy * width + cx;
+			}
+		}
+		if (pass == 0) for (int d = 0; d < range; d++) seedStart[d + 1] += seedStart[d];
+	}
+	final int seedCount = seedStart[range];
+
+	// Merge the sorted seeds with the FIFO of relaxed cells: cells leave in distance order, so
+	// each window cell is queued at most once.
+	int next = 0;
+	int head = 0;
+	int tail = 0;
+	while (next < seedCount || head < tail) {
+		final int i = head < tail && (next == seedCount || dist[q[head]] <= dist[seeds[next]])
+			? q[head++] : seeds[next++];
+		final int d = dist[i];
+		if (d >= range) continue;
+		final int cx = i % width;
+		final int cy = i / width;
+		for (int[] delta : CROSS) {
+			final int nx = cx + delta[0];
+			final int ny = cy + delta[1];
+			if (nx < x0 || ny < y0 || nx > x1 || ny > y1) continue;
+			final int n = ny * width + nx;
+			if (dist[n] > d + 1) {
+				dist[n] = d + 1;
+				q[tail++] = n;
+			}
+		}
+	}
+}
+
+/**
+ * Return the seed distance of a cell for a repair of window {@code [x0, x1] × [y0, y1]}, or -1
+ * if it does not seed the repair (only sources inside, and ring cells below range, do).
+ */
+private int seedDistance(final int cx, final int cy, final int x0, final int x1, final int y0, final int y1) {
+	final int d = dist[cy * width + cx];
+	final boolean inside = cx >= x0 && cx <= x1 && cy >= y0 && cy <= y1;
+	return d == 0 && inside || d != UNREACHED && d < range && !inside ? d : -1;
+}
+
+/**
+ * Return the reusable work queue, allocating it and the seed array on first use; both hold one
+ * repair window plus its ring.
+ */
+private int[] workQueue() {
+	if (queue == null) {
+		final int side = 2 * range + 3;
+		queue = new int[side * side];
+		seeds = new int[side * side];
+	}
+	return queue;
+}
+
+/**
+ * Breadth-first relaxation from queued cells (whose distances are already set), stopping at
+ * {@code range}.
+ *
+ * @param queue cell indices; must have room for every cell the flood may reach
+ * @param head  first queued index
+ * @param tail  one past the last queued index
+ */
+private void flood(final int[] queue, int head, int tail) {
+	int[] q = queue;
+	while (head < tail) {
+		final int i = q[head++];
+		final int d = dist[i];
+		if (d >= range) continue;
+		final int cx = i % width;
+		final int cy = i / width;
+		for (int[] delta : CROSS) {
+			final int nx = cx + delta[0];
+			final int ny = cy + delta[1];
+			if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+			final int n = ny * width + nx;
+			if (dist[n] > d + 1) {
+				dist[n] = d + 1;
+				if (tail == q.length) q = Arrays.copyOf(q, q.length * 2);
+				q[tail++] = n;
+			}
+		}
+	}
+}
+}
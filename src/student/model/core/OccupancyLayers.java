@@ -0,0 +1,169 @@
+/* ============================================================================
+ * Path: src/student/model/core/OccupancyLayers.java
+ * Author: Zakary Gaillard-D.
+ * Date: 2026-10-18
+ * Description: Per-layer occupancy bitboards (plant, herbivore, carnivore, animal, growing) of a world.
+ * ========================================================================== */
+package student.model.core;
+
+/**
+ * Occupancy bitboards mirroring the slots of every {@link Cell} of a {@link World}.
+ * <p>Each {@link Layer} stores one bit per cell in {@code long} words, row by row. The owning
+ * world updates the bits whenever a cell slot or a plant's energy changes, so neighborhood queries can read a whole
+ * window row with a couple of shifts and masks instead of visiting cells one by one.</p>
+ */
+public final class OccupancyLayers {
+//=============================================================================
+//                                   Fields
+//=============================================================================
+private final int width;
+private final int height;
+private final int words;
+private final long[][] bits;
+
+//=============================================================================
+//                               Construction
+//=============================================================================
+
+/**
+ * Create empty layers for a grid of the given size.
+ *
+ * @param width  grid width
+ * @param height grid height
+ */
+OccupancyLayers(final int width, final int height) {
+	this.width = width;
+	this.height = height;
+	this.words = (width + 63) >>> 6;
+	this.bits = new long[Layer.values().length][words * height];
+}
+
+//=============================================================================
+//                               Queries
+//=============================================================================
+
+/**
+ * Return whether the given layer bit is set at {@code (x, y)}.
+ *
+ * @param layer layer to read
+ * @param x     column
+ * @param y     row
+ * @return {@code true} if occupied (always {@code false} out of bounds)
+ */
+public boolean get(final Layer layer, final int x, final int y) {
+	if (x < 0 || y < 0 || x >= width || y >= height) return false;
+	return (bits[layer.ordinal()][y * words + (x >>> 6)] >>> (x & 63) & 1L) != 0;
+}
+
+/**
+ * Return {@code len} consecutive bits of a layer row starting at column {@code x0}: bit
+ * {@code i} of the result is column {@code x0 + i}. Columns or rows outside the grid read as 0.
+ *
+ * @param layer layer to read
+ * @param y     row
+ * @param x0    first column (may be negative)
+ * @param len   number of columns, 1..64
+ * @return packed row bits
+ */
+public long rowBits(final Layer layer, final int y, final int x0, final int len) {
+	if (y < 0 || y >= height) return 0L;
+	final int start = Math.max(0, x0);
+	final int end = Math.min(width, x0 + len);
+	if (start >= end) return 0L;
+	final long[] row = bits[layer.ordinal()];
+	final int base = y * words;
+	final int w = start >>> 6;
+	final int off = start & 63;
+	long v = row[base + w] >>> off;
+	if (off != 0 && w + 1 < words) v |= row[base + w + 1] << (64 - off);
+	return (v & lowMask(end - start)) << (start - x0);
+}
+
+/**
+ * Return a mask of the columns {@code x0 .. x0+len-1} that fall inside the grid, for row
+ * {@code y} (0 if the row is outside).
+ *
+ * @param y   row
+ * @param x0  first column (may be negative)
+ * @param len number of columns, 1..64
+ * @return packed in-bounds bits
+ */
+public long boundsBits(final int y, final int x0, final int len) {
+	if (y < 0 || y >= height) return 0L;
+	final int start = Math.max(0, x0);
+	final int end = Math.min(width, x0 + len);
+	if (start >= end) return 0L;
+	return lowMask(end - start) << (start - x0);
+}
+
+/**
+ * Count set bits of a layer over the whole grid.
+ *
+ * @param layer layer to count
+ * @return population of the layer
+ */
+public int count(final Layer layer) {
+	int total = 0;
+	for (long word : bits[layer.ordinal()]) total += Long.bitCount(word);
+	return total;
+}
+
+/**
+ * Return a mask with the {@code n} lowest bits set.
+ *
+ * @param n bit count, 0..64
+ * @return mask
+ */
+private static long lowMask(final int n) {
+	return n >= 64 ? -1L : (1L << n) - 1;
+}
+
+//=============================================================================
+//                               Updates
+//=============================================================================
+
+/**
+ * Set or clear a layer bit.
+ *
+ * @param layer layer to write
+ * @param x     column
+ * @param y     row
+ * @param value new bit value
+ */
+void set(final Layer layer, final int x, final int y, final boolean value) {
+	final int i = y * words + (x >>> 6);
+	final long bit = 1L << (x & 63);
+	if (value) bits[layer.ordinal()][i] |= bit;
+	else bits[layer.ordinal()][i] &= ~bit;
+}
+
+//=============================================================================
+//                                   Layer Enum
+//=============================================================================
+
+/**
+ * Occupancy layers maintained per cell.
+ */
+public enum Layer {
+	/**
+	 * Plant slot occupied.
+	 */
+	PLANT,
+	/**
+	 * Animal slot holds a herbivore.
+	 */
+	HERBIVORE,
+	/**
+	 * Animal slot holds a carnivore.
+	 */
+	CARNIVORE,
+	/**
+	 * Animal slot occupied (any species).
+	 */
+	ANIMAL,
+	/**
+	 * Plant slot holds a live plant below its energy cap.
+	 */
+	GROWING
+}
+}
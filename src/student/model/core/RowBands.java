@@ -0,0 +1,110 @@
+/* ============================================================================
+ * Path: src/student/model/core/RowBands.java
+ * Author: Zakary Gaillard-D.
+ * Date: 2026-10-18
+ * Description: Row-band parallel iteration over organisms for cell-independent phases.
+ * ========================================================================== */
+package student.model.core;
+
+import student.model.organisms.Organism;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Runs a per-organism action over horizontal bands of world rows in parallel.
+ * <p>Meant for phases with no cross-cell dependency (plant growth, removal of dead plants):
+ * organisms are bucketed by row, rows are grouped into contiguous bands of similar load, and each
+ * band runs on one worker in row-major order. Band boundaries fall on multiples of
+ * {@link ActivityMap#CHUNK_SIZE} rows, so two bands never share a row nor an activity chunk:
+ * per-row bookkeeping (occupancy bitboards, fingerprint rows) is written by a single worker. The
+ * remaining shared state touched by such phases, chunk versions and the death queue, is
+ * concurrent.</p>
+ *
+ * <p>Worlds smaller than the threshold run serially on the calling thread, in list order.</p>
+ */
+public final class RowBands {
+//=============================================================================
+//                                   Constants
+//=============================================================================
+/**
+ * Default minimum world size, in cells, for parallel execution.
+ */
+public static final int DEFAULT_THRESHOLD = 128 * 128;
+
+/**
+ * Bands per worker thread, for load balancing.
+ */
+private static final int BANDS_PER_WORKER = 4;
+
+//=============================================================================
+//                               Construction
+//=============================================================================
+
+/**
+ * Private constructor to prevent instantiation of utility class.
+ */
+private RowBands() {
+	throw new UnsupportedOperationException("Utility class cannot be instantiated");
+}
+
+//=============================================================================
+//                                 Iteration
+//=============================================================================
+
+/**
+ * Apply an action to each placed organism, in parallel row bands when the world has at least
+ * {@code threshold} cells.
+ * <p>The action may change the organism and its own cell only.</p>
+ *
+ * @param <T>       organism type
+ * @param world     world the organisms live in
+ * @param items     organisms to visit (entries without a position are skipped)
+ * @param threshold minimum {@code width * height} for parallel execution
+ * @param action    per-organism action
+ */
+public static <T extends Organism> void forEach(final World world,
+                                                final List<T> items,
+                                                final int threshold,
+                                                final Consumer<? super T> action) {
+	final int height = world.getHeight();
+	if ((long) world.getWidth() * height < threshold || items.size() < 2) {
+		for (T item : items) {
+			if (item.getPosition() != null) action.accept(item);
+		}
+		return;
+	}
+
+	// Counting sort by row: rowStart[y] .. rowStart[y + 1] indexes the items of row y.
+	final int[] rowStart = new int[height + 1];
+	for (T item : items) {
+		if (item.getPosition() != null) rowStart[item.getPosition().y() + 1]++;
+	}
+	for (int y = 0; y < height; y++) rowStart[y + 1] += rowStart[y];
+	final Object[] byRow = new Object[rowStart[height]];
+	final int[] fill = rowStart.clone();
+	for (T item : items) {
+		if (item.getPosition() != null) byRow[fill[item.getPosition().y()]++] = item;
+	}
+
+	// Contiguous chunk-aligned bands of rows holding roughly the same number of items.
+	final int chunkRows = (height + ActivityMap.CHUNK_SIZE - 1) / ActivityMap.CHUNK_SIZE;
+	final int bands = Math.max(1, Math.min(chunkRows, ForkJoinPool.getCommonPoolParallelism() * BANDS_PER_WORKER));
+	final int[] bandRow = new int[bands + 1];
+	for (int b = 1, y = 0; b < bands; b++) {
+		final long target = (long) byRow.length * b / bands;
+		while (y < height && rowStart[y] < target) y += ActivityMap.CHUNK_SIZE;
+		bandRow[b] = Math.min(y, height);
+	}
+	bandRow[bands] = height;
+
+	IntStream.range(0, bands).parallel().forEach(b -> {
+		for (int i = rowStart[bandRow[b]]; i < rowStart[bandRow[b + 1]]; i++) {
+			@SuppressWarnings("unchecked") final T item = (T) byRow[i];
+			action.accept(item);
+		}
+	});
+}
+}
@@ -6,21 +6,77 @@
  * ========================================================================== */
 package student.model.core;
 
+import student.model.organisms.Animal;
+import student.model.organisms.Carnivore;
+import student.model.organisms.Herbivore;
+import student.model.organisms.Organism;
+import student.model.organisms.Plant;
+import student.model.organisms.Species;
+
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Represents the simulation world as a rectangular grid of {@link Cell} instances.
  * <p>World is a simple container offering coordinate validation and neighbor lookup. Higher-level
  * behaviors (movement, spawning, cleanup) are orchestrated by controllers or organisms.</p>
+ *
+ * <p>Cells are stored in a flat row-major array surrounded by a null sentinel ring two cells
+ * wide, so neighbor lookups are fixed index offsets with no bounds test per neighbor.</p>
  */
-public class World {
+public final class World {
+//=============================================================================
+//                                   Constants
+//=============================================================================
+/**
+ * Width of the sentinel ring around the grid, enough for the widest (5×5) neighborhood.
+ */
+private static final int PAD = 2;
+
+/**
+ * Cardinal deltas {@code {dx, dy}} in legacy {@link #getNeighbors} order.
+ */
+private static final int[][] CROSS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+/**
+ * 8-way deltas {@code {dx, dy}} in legacy {@link #getNeighbors} order.
+ */
+private static final int[][] RING = {{-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}};
+
+/**
+ * Vision deltas indexed by level (1..3) in {@link prof.utils.RandomGenerator} neighbor bit order:
+ * N, S, W, E for the cross; column by column ({@code dx} outer, {@code dy} inner) for squares.
+ */
+private static final int[][][] VISION = {null, {{0, -1}, {0, 1}, {-1, 0}, {1, 0}}, square(1), square(2)};
+
 //=============================================================================
 //                                   Fields
 //=============================================================================
 private final int width;
 private final int height;
-private final Cell[][] grid;
+private final int stride;
+private final Cell[] grid;
+private final int[] crossOffsets;
+private final int[] ringOffsets;
+private final int[][] visionOffsets;
+private final Set<Organism> deaths = ConcurrentHashMap.newKeySet();
+private final Set<Organism> reproductionCandidates = ConcurrentHashMap.newKeySet();
+private final Set<Plant> growingPlants = ConcurrentHashMap.newKeySet();
+private final ActivityMap activity;
+private final OccupancyLayers occupancy;
+private volatile DistanceField[] preyFields = new DistanceField[0];
+private volatile DistanceField[] threatFields = new DistanceField[0];
+private DensityTables densityTables;
+private WeakReference<WorldSnapshot> lastSnapshot = new WeakReference<>(null);
+private final Object identity = new Object();
+private final long[] rowHash;
 
 //=============================================================================
 //                               Construction
@@ -35,14 +91,23 @@ private final Cell[][] grid;
 public World(int width, int height) {
 	this.width = width;
 	this.height = height;
-	this.grid = new Cell[height][width];
+	this.stride = width + 2 * PAD;
+	this.grid = new Cell[stride * (height + 2 * PAD)]; // sentinel ring stays null
+	this.occupancy = new OccupancyLayers(width, height);
+	this.activity = new ActivityMap(width, height);
+	this.rowHash = new long[height];
 	
 	// Initialize every cell (row-major). Kept explicit for clarity over streams.
 	for (int y = 0; y < height; y++) {
 		for (int x = 0; x < width; x++) {
-			grid[y][x] = new Cell(new Position(x, y));
+			grid[index(x, y)] = new Cell(this, new Position(x, y));
 		}
 	}
+	
+	// Flat offset tables: neighbor loops become straight-line array reads.
+	this.crossOffsets = offsets(CROSS);
+	this.ringOffsets = offsets(RING);
+	this.visionOffsets = new int[][]{null, offsets(VISION[1]), offsets(VISION[2]), offsets(VISION[3])};
 }
 
 //=============================================================================
@@ -67,6 +132,24 @@ public int getHeight() {
 	return height;
 }
 
+/**
+ * Return the occupancy bitboards kept in sync with every cell slot.
+ *
+ * @return occupancy layers (never {@code null})
+ */
+public OccupancyLayers getOccupancy() {
+	return occupancy;
+}
+
+/**
+ * Return the per-chunk version stamps used to find regions changed since a snapshot.
+ *
+ * @return activity map (never {@code null})
+ */
+public ActivityMap getActivity() {
+	return activity;
+}
+
 //=============================================================================
 //                              Cell Retrieval
 //=============================================================================
@@ -79,7 +162,51 @@ public int getHeight() {
  */
 public Cell getCell(Position pos) {
 	if (!isValidPosition(pos)) return null;
-	return grid[pos.y()][pos.x()];
+	return grid[index(pos.x(), pos.y())];
+}
+
+/**
+ * Return the index of {@code (x, y)} in the padded cell array.
+ *
+ * @param x column (may reach {@code -PAD} / {@code width + PAD - 1})
+ * @param y row (may reach {@code -PAD} / {@code height + PAD - 1})
+ * @return flat index
+ */
+private int index(int x, int y) {
+	return (y + PAD) * stride + x + PAD;
+}
+
+/**
+ * Convert {@code (dx, dy)} deltas into flat offsets of the padded array.
+ *
+ * @param deltas pairs of {@code {dx, dy}}
+ * @return offsets in the same order
+ */
+private int[] offsets(int[][] deltas) {
+	int[] offsets = new int[deltas.length];
+	for (int i = 0; i < deltas.length; i++) {
+		offsets[i] = deltas[i][1] * stride + deltas[i][0];
+	}
+	return offsets;
+}
+
+/**
+ * Build deltas of a square window minus its center, column by column ({@code dx} outer,
+ * {@code dy} inner).
+ *
+ * @param radius window radius
+ * @return {@code (2r+1)² - 1} pairs of {@code {dx, dy}}
+ */
+private static int[][] square(int radius) {
+	int side = 2 * radius + 1;
+	int[][] deltas = new int[side * side - 1][];
+	int i = 0;
+	for (int dx = -radius; dx <= radius; dx++) {
+		for (int dy = -radius; dy <= radius; dy++) {
+			if (dx != 0 || dy != 0) deltas[i++] = new int[]{dx, dy};
+		}
+	}
+	return deltas;
 }
 
 //=============================================================================
@@ -147,6 +274,465 @@ public void transferPlant(Cell from, Cell to) {
 	}
 }
 
+//=============================================================================
+//                               Slot Hooks
+//=============================================================================
+
+/**
+ * Called by an owned {@link Cell} after its animal slot changed.
+ *
+ * @param cell     cell whose animal slot changed
+ * @param previous former occupant (may be {@code null})
+ * @param current  new occupant (may be {@code null})
+ */
+void animalSlotChanged(Cell cell, Animal previous, Animal current) {
+	final int x = cell.getPosition().x();
+	final int y = cell.getPosition().y();
+	activity.markDirty(x, y);
+	final Species species = current != null ? current.getSpecies() : null;
+	occupancy.set(OccupancyLayers.Layer.ANIMAL, x, y, current != null);
+	occupancy.set(OccupancyLayers.Layer.HERBIVORE, x, y, species == Species.HERBIVORE);
+	occupancy.set(OccupancyLayers.Layer.CARNIVORE, x, y, species == Species.CARNIVORE);
+	updateFields(preyFields, Species.HERBIVORE, previous, current, x, y);
+	updateFields(threatFields, Species.CARNIVORE, previous, current, x, y);
+	rowHash[y] ^= slotKey(x, y, previous) ^ slotKey(x, y, current);
+	if (previous != null && previous != current) deaths.remove(previous);
+}
+
+/**
+ * Keep the shared distance fields of one species in sync with an animal slot change.
+ *
+ * @param fields   cached fields indexed by range (unrequested ranges are {@code null})
+ * @param species  species acting as source for those fields
+ * @param previous former occupant (may be {@code null})
+ * @param current  new occupant (may be {@code null})
+ * @param x        cell column
+ * @param y        cell row
+ */
+private static void updateFields(DistanceField[] fields, Species species, Animal previous, Animal current, int x, int y) {
+	final boolean was = previous != null && previous.getSpecies() == species;
+	final boolean is = current != null && current.getSpecies() == species;
+	if (was == is) return;
+	for (DistanceField field : fields) {
+		if (field == null) continue;
+		if (was) field.removeSource(x, y);
+		else field.addSource(x, y);
+	}
+}
+
+/**
+ * Called by an owned {@link Cell} after its plant slot changed.
+ *
+ * @param cell     cell whose plant slot changed
+ * @param previous former occupant (may be {@code null})
+ * @param current  new occupant (may be {@code null})
+ */
+void plantSlotChanged(Cell cell, Plant previous, Plant current) {
+	activity.markDirty(cell.getPosition().x(), cell.getPosition().y());
+	occupancy.set(OccupancyLayers.Layer.PLANT, cell.getPosition().x(), cell.getPosition().y(), current != null);
+	occupancy.set(OccupancyLayers.Layer.GROWING, cell.getPosition().x(), cell.getPosition().y(), current != null && isGrowing(current));
+	rowHash[cell.getPosition().y()] ^= slotKey(cell.getPosition().x(), cell.getPosition().y(), previous)
+		^ slotKey(cell.getPosition().x(), cell.getPosition().y(), current);
+	if (previous != null && previous != current) deaths.remove(previous);
+}
+
+//=============================================================================
+//                              Shared Fields
+//=============================================================================
+
+/**
+ * Return the distance field from every herbivore, bounded by {@code range} Manhattan steps.
+ * <p>Built once per range with a multi-source BFS on first request, then cached and kept exact
+ * incrementally as herbivores move, spawn or are eaten, so callers asking for different ranges
+ * never rebuild each other's fields. Carnivores read their best step with
+ * {@link DistanceField#stepsToward(Position)} in O(1) instead of scanning their vision window.</p>
+ *
+ * @param range maximum distance tracked (vision radius of the hunters)
+ * @return shared prey distance field
+ */
+public synchronized DistanceField preyField(int range) {
+	preyFields = cachedField(preyFields, Species.HERBIVORE, range);
+	return preyFields[range];
+}
+
+/**
+ * Return the threat map: distance from every carnivore, bounded by {@code range} Manhattan steps.
+ * <p>Same lifecycle as {@link #preyField(int)}. Herbivores read whether a predator is within
+ * range ({@code distanceAt} at their own cell) and which free cardinal cells maximize the
+ * distance to it ({@link DistanceField#stepsAway(Position, java.util.function.Predicate)}) in
+ * O(1), instead of rescanning overlapping windows for every member of a herd.</p>
+ *
+ * @param range maximum distance tracked
+ * @return shared predator distance field
+ */
+public synchronized DistanceField threatField(int range) {
+	threatFields = cachedField(threatFields, Species.CARNIVORE, range);
+	return threatFields[range];
+}
+
+/**
+ * Return a field cache holding a field of the given range, building it (and growing a copy of
+ * the cache) if it was never requested. The cache is replaced, never mutated, so slot hooks can
+ * iterate it without locking.
+ *
+ * @param fields  current cache indexed by range
+ * @param species source species
+ * @param range   requested range (>= 1)
+ * @return cache containing {@code range}
+ */
+private DistanceField[] cachedField(DistanceField[] fields, Species species, int range) {
+	if (range < fields.length && fields[range] != null) return fields;
+	final DistanceField[] grown = Arrays.copyOf(fields, Math.max(fields.length, range + 1));
+	grown[range] = DistanceField.ofAnimals(this, species, range);
+	return grown;
+}
+
+/**
+ * Return the start-of-turn summed-area tables of plant, herbivore and carnivore counts.
+ * <p>Built lazily in O(cells) on first request after {@link #invalidateDensity()}, then shared by
+ * every query of the turn: window counts, densest quadrant and target lookup cost O(1) or
+ * O(log r) whatever the radius. The tables are a snapshot taken at that first request and are
+ * not updated by later moves, births or deaths. Request them at the start of a turn, before
+ * animals move (statistics, turn-level planning), never for perception inside a movement
+ * phase, where {@link OccupancyLayers} gives the live occupancy.</p>
+ *
+ * @return density tables for the current turn
+ */
+public synchronized DensityTables densityTables() {
+	if (densityTables == null) densityTables = new DensityTables(this);
+	return densityTables;
+}
+
+/**
+ * Drop the current density tables so the next {@link #densityTables()} call rebuilds them.
+ * Called by the controller at the start of every turn.
+ */
+public void invalidateDensity() {
+	densityTables = null;
+}
+
+//=============================================================================
+//                            Snapshots and Forks
+//=============================================================================
+
+/**
+ * Return a token identifying this world, held by its snapshots instead of the world itself so
+ * they never keep it reachable.
+ *
+ * @return identity token (same instance for the life of the world)
+ */
+Object identity() {
+	return identity;
+}
+
+/**
+ * Capture the current occupants, sharing every chunk unchanged since the previous call with the
+ * previous snapshot (copy-on-write), so repeated snapshots of a running world cost
+ * O(changed chunks).
+ * <p>The previous snapshot is only weakly referenced: chunks are shared while a caller (ring,
+ * journal) still holds it, and a world nobody snapshots again does not pin it.</p>
+ *
+ * @return snapshot of the current state
+ */
+public synchronized WorldSnapshot snapshot() {
+	final WorldSnapshot snapshot = new WorldSnapshot(this, lastSnapshot.get());
+	lastSnapshot = new WeakReference<>(snapshot);
+	return snapshot;
+}
+
+/**
+ * Return an independent copy of this world: same size and occupants (including dead ones
+ * awaiting cleanup), with fresh cells and organisms. Changes to either world are not seen by the
+ * other.
+ * <p>Occupied cells are found 64 columns at a time from the occupancy bitboards and copied
+ * directly, so beyond allocating the new grid the cost is O(occupants), with no intermediate
+ * snapshot.</p>
+ *
+ * @return forked world
+ */
+public World fork() {
+	final World copy = new World(width, height);
+	for (int y = 0; y < height; y++) {
+		for (int x0 = 0; x0 < width; x0 += 64) {
+			final int len = Math.min(64, width - x0);
+			long bits = occupancy.rowBits(OccupancyLayers.Layer.PLANT, y, x0, len)
+				| occupancy.rowBits(OccupancyLayers.Layer.ANIMAL, y, x0, len);
+			while (bits != 0) {
+				final int x = x0 + Long.numberOfTrailingZeros(bits);
+				bits &= bits - 1;
+				final Cell from = grid[index(x, y)];
+				final Cell to = copy.grid[copy.index(x, y)];
+				final Plant plant = from.getPlant();
+				if (plant != null) to.setPlant(copyOf(plant, new Plant(), to.getPosition()));
+				switch (from.getAnimal()) {
+					case null -> { }
+					case Herbivore herbivore -> to.setAnimal(copyOf(herbivore, new Herbivore(), to.getPosition()));
+					case Carnivore carnivore -> to.setAnimal(copyOf(carnivore, new Carnivore(), to.getPosition()));
+				}
+			}
+		}
+	}
+	return copy;
+}
+
+/**
+ * Give a fresh organism the energy and alive flag of the original, at the given position.
+ */
+private static <T extends Organism> T copyOf(final Organism original, final T copy, final Position pos) {
+	copy.restore(original.getEnergy(), original.isAlive());
+	copy.setPosition(pos);
+	return copy;
+}
+
+//=============================================================================
+//                                Fingerprint
+//=============================================================================
+
+/**
+ * Return the Zobrist fingerprint of the current state: the XOR, over every occupied slot, of a
+ * 64-bit key derived from (cell, species, energy).
+ * <p>Kept incrementally: slot hooks and {@link #energyChanged} XOR out the old key and XOR in
+ * the new one, so reading it costs O(height) whatever the population. Keys are accumulated per
+ * row, hence updates from {@link RowBands} workers never share a word. Two worlds of the same
+ * size in the same state have the same fingerprint whatever the history that led there; equal
+ * fingerprints mean identical states with probability 1 - 2<sup>-64</sup>. The alive flag is
+ * not hashed (it follows energy).</p>
+ *
+ * @return 64-bit state fingerprint
+ */
+public long fingerprint() {
+	long hash = 0;
+	for (long row : rowHash) hash ^= row;
+	return hash;
+}
+
+/**
+ * Return the key of a slot occupant ({@code 0} for an empty slot).
+ */
+private long slotKey(int x, int y, Organism organism) {
+	return organism == null ? 0 : key(x, y, organism.getSpecies(), organism.getEnergy());
+}
+
+/**
+ * Return the Zobrist key of an occupant of a given species and energy at {@code (x, y)}
+ * (SplitMix64 finalizer over the packed tuple).
+ */
+private long key(int x, int y, Species species, int energy) {
+	long z = ((long) (y * width + x) << 35 | (long) species.ordinal() << 32 | (energy & 0xFFFFFFFFL))
+		+ 0x9E3779B97F4A7C15L;
+	z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+	z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+	return z ^ (z >>> 31);
+}
+
+/**
+ * Return whether an organism currently occupies the slot of its own position (dead or alive).
+ */
+private boolean inSlot(Organism organism) {
+	Position pos = organism.getPosition();
+	if (pos == null || !isValidPosition(pos)) return false;
+	Cell cell = grid[index(pos.x(), pos.y())];
+	return organism.getSpecies().isAnimal() ? cell.getAnimal() == organism : cell.getPlant() == organism;
+}
+
+//=============================================================================
+//                               Death Queue
+//=============================================================================
+
+/**
+ * Queue an organism that just died so the cleanup phase can remove it without scanning the grid.
+ * <p>Called by {@link Organism#setEnergy(int)} on the alive → dead transition and by
+ * {@link Cell} when an already dead organism is placed. An entry leaves the queue as soon as its
+ * organism leaves its slot, so the queue only ever holds dead organisms still on the grid (at most
+ * two per cell) even when no cleanup phase drains it.</p>
+ *
+ * @param organism dead organism (ignored if {@code null} or not in the slot of its position)
+ */
+public void enqueueDeath(Organism organism) {
+	if (organism != null && inSlot(organism)) deaths.add(organism);
+}
+
+/**
+ * Return the number of dead organisms still on the grid, i.e. queued since the last drain.
+ *
+ * @return pending death count
+ */
+public int pendingDeaths() {
+	return deaths.size();
+}
+
+/**
+ * Remove every queued dead organism from its cell, then clear the queue.
+ * <p>Entries whose cell no longer holds them or that are alive again are skipped. Cost is
+ * O(deaths), independent of world size.</p>
+ *
+ * @return number of occupants actually removed
+ */
+public int drainDeaths() {
+	return drainDeaths(Integer.MAX_VALUE);
+}
+
+/**
+ * Same as {@link #drainDeaths()}, removing dead plants in parallel {@link RowBands} when the world
+ * has at least {@code parallelThreshold} cells.
+ * <p>Plant removal only touches the plant's own cell and row, so it splits cleanly by rows.
+ * Dead animals are removed serially afterwards since the shared distance fields repair windows
+ * spanning several rows.</p>
+ *
+ * @param parallelThreshold minimum world size in cells for parallel removal
+ * @return number of occupants actually removed
+ */
+public int drainDeaths(int parallelThreshold) {
+	final List<Plant> plants = new ArrayList<>();
+	final List<Organism> animals = new ArrayList<>();
+	final Iterator<Organism> it = deaths.iterator();
+	while (it.hasNext()) {
+		Organism organism = it.next();
+		it.remove();
+		if (organism.isAlive()) continue;
+		Position pos = organism.getPosition();
+		if (pos == null || !isValidPosition(pos)) continue;
+		if (organism.getSpecies().isAnimal()) animals.add(organism);
+		else plants.add((Plant) organism);
+	}
+	
+	final LongAdder removed = new LongAdder();
+	RowBands.forEach(this, plants, parallelThreshold, plant -> {
+		Cell cell = grid[index(plant.getPosition().x(), plant.getPosition().y())];
+		if (cell.getPlant() == plant) {
+			cell.removePlant();
+			removed.increment();
+		}
+	});
+	for (Organism animal : animals) {
+		Cell cell = grid[index(animal.getPosition().x(), animal.getPosition().y())];
+		if (cell.getAnimal() == animal) {
+			cell.removeAnimal();
+			removed.increment();
+		}
+	}
+	return removed.intValue();
+}
+
+//=============================================================================
+//                          Reproduction Candidates
+//=============================================================================
+
+/**
+ * Plants first, then animals; each group in row-major order of their position.
+ */
+private static final Comparator<Organism> REPRODUCTION_ORDER =
+	Comparator.<Organism>comparingInt(o -> o.getSpecies().isAnimal() ? 1 : 0)
+		.thenComparingInt(o -> o.getPosition().y())
+		.thenComparingInt(o -> o.getPosition().x());
+
+/**
+ * Update the reproduction candidate index and the growing plant set after an organism's energy
+ * changed.
+ * <p>Called by {@link Organism#setEnergy(int)} and by {@link Cell} on placement; only threshold
+ * crossings touch the indexes.</p>
+ *
+ * @param organism organism whose energy changed
+ * @param previous energy before the change
+ */
+public void energyChanged(Organism organism, int previous) {
+	Position pos = organism.getPosition();
+	if (pos != null) activity.markDirty(pos.x(), pos.y());
+	if (previous != organism.getEnergy() && inSlot(organism)) {
+		rowHash[pos.y()] ^= key(pos.x(), pos.y(), organism.getSpecies(), previous)
+			^ key(pos.x(), pos.y(), organism.getSpecies(), organism.getEnergy());
+	}
+	if (organism.getSpecies() == Species.PLANT) {
+		final Plant plant = (Plant) organism;
+		if (isGrowing(plant)) growingPlants.add(plant);
+		else growingPlants.remove(plant);
+		if (inSlot(plant)) occupancy.set(OccupancyLayers.Layer.GROWING, pos.x(), pos.y(), isGrowing(plant));
+	}
+	final int threshold = organism.getSpecies().reproductionThreshold();
+	final boolean eligible = organism.isAlive() && organism.getEnergy() >= threshold;
+	if (eligible) {
+		reproductionCandidates.add(organism);
+	} else if (previous >= threshold || !organism.isAlive()) {
+		reproductionCandidates.remove(organism);
+	}
+}
+
+/**
+ * Return organisms whose energy reaches their species reproduction threshold, in deterministic
+ * order: plants before animals, each group row-major by position.
+ * <p>Entries that died or left their cell since being indexed are dropped here. The returned
+ * list is a snapshot; callers still confirm with {@code canReproduce}. Cost is
+ * O(k log k) for k eligible parents instead of O(population).</p>
+ *
+ * @return ordered snapshot of reproduction candidates (never {@code null})
+ */
+public List<Organism> reproductionCandidates() {
+	final List<Organism> ordered = new ArrayList<>(reproductionCandidates.size());
+	final Iterator<Organism> it = reproductionCandidates.iterator();
+	while (it.hasNext()) {
+		Organism organism = it.next();
+		if (isPlaced(organism) && organism.getEnergy() >= organism.getSpecies().reproductionThreshold()) {
+			ordered.add(organism);
+		} else {
+			it.remove();
+		}
+	}
+	ordered.sort(REPRODUCTION_ORDER);
+	return ordered;
+}
+
+//=============================================================================
+//                              Growing Plants
+//=============================================================================
+
+/**
+ * Return live placed plants below their maximum energy, i.e. the only plants a growth step can
+ * change. Saturated plants are never listed, so the growth phase costs O(non-saturated plants).
+ * <p>Growth itself stays eager: the phase calls {@link Plant#grow} on each listed plant, and a
+ * plant leaves the set once {@link Plant#setEnergy} brings it to the cap (at most
+ * {@code MAX_ENERGY - 1} steps). Energy is never computed lazily from elapsed turns, so every
+ * reader sees the stored value and the set stays exact as long as energy only changes through
+ * {@code setEnergy}.</p>
+ * <p>Stale entries are dropped here; iteration order is unspecified since growth is
+ * independent per plant.</p>
+ *
+ * @return snapshot of growing plants (never {@code null})
+ */
+public List<Plant> growingPlants() {
+	final List<Plant> plants = new ArrayList<>(growingPlants.size());
+	final Iterator<Plant> it = growingPlants.iterator();
+	while (it.hasNext()) {
+		Plant plant = it.next();
+		if (isPlaced(plant) && isGrowing(plant)) {
+			plants.add(plant);
+		} else {
+			it.remove();
+		}
+	}
+	return plants;
+}
+
+/**
+ * Return whether a plant is alive and below its energy cap.
+ */
+private static boolean isGrowing(Plant plant) {
+	return plant.isAlive() && plant.getEnergy() < Species.PLANT.maxEnergy();
+}
+
+/**
+ * Return whether a live organism still occupies the slot at its recorded position.
+ *
+ * @param organism organism to check
+ * @return {@code true} if alive and present in its cell
+ */
+private boolean isPlaced(Organism organism) {
+	if (!organism.isAlive()) return false;
+	Position pos = organism.getPosition();
+	if (pos == null || !isValidPosition(pos)) return false;
+	Cell cell = grid[index(pos.x(), pos.y())];
+	return organism.getSpecies().isAnimal() ? cell.getAnimal() == organism : cell.getPlant() == organism;
+}
+
 //=============================================================================
 //                               Neighborhood
 //=============================================================================
@@ -159,25 +745,66 @@ public void transferPlant(Cell from, Cell to) {
  * @return list of neighboring cells (never {@code null})
  */
 public List<Cell> getNeighbors(Position pos, boolean includeDiagonals) {
-	List<Cell> neighbors = new ArrayList<>();
-	
-	int[][] deltas;
-	if (includeDiagonals) {
-		// 8 directions including diagonals.
-		deltas = new int[][]{{-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}};
-	} else {
-		// Cardinal directions only.
-		deltas = new int[][]{{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+	if (!isValidPosition(pos)) return collect(pos, includeDiagonals ? RING : CROSS);
+	// Sentinel ring: out-of-bounds neighbors read as null, no bounds checks per delta.
+	return collect(pos, includeDiagonals ? ringOffsets : crossOffsets);
+}
+
+/**
+ * Return the in-bounds cells of a vision neighborhood, in {@link prof.utils.RandomGenerator}
+ * neighbor bit order.
+ * <ul>
+ *   <li>1 → cross (N, S, W, E)</li>
+ *   <li>2 → 3×3 square, column by column</li>
+ *   <li>3 → 5×5 square, column by column</li>
+ * </ul>
+ *
+ * @param pos         origin position
+ * @param visionRange vision level (1, 2, or 3)
+ * @return list of neighboring cells (never {@code null})
+ * @throws IllegalArgumentException if visionRange is not 1, 2, or 3
+ */
+public List<Cell> getNeighborhood(Position pos, int visionRange) {
+	if (visionRange < 1 || visionRange > 3) {
+		throw new IllegalArgumentException(
+			"visionRange must be 1 (cross), 2 (3x3), or 3 (5x5), but was: " + visionRange);
 	}
-	
+	if (!isValidPosition(pos)) return collect(pos, VISION[visionRange]);
+	return collect(pos, visionOffsets[visionRange]);
+}
+
+/**
+ * Gather the non-sentinel cells at the given offsets from an in-bounds position.
+ *
+ * @param pos     origin position (must be in bounds)
+ * @param offsets flat offsets into the padded array
+ * @return list of cells (never {@code null})
+ */
+private List<Cell> collect(Position pos, int[] offsets) {
+	List<Cell> neighbors = new ArrayList<>(offsets.length);
+	int origin = index(pos.x(), pos.y());
+	for (int offset : offsets) {
+		Cell cell = grid[origin + offset];
+		if (cell != null) neighbors.add(cell);
+	}
+	return neighbors;
+}
+
+/**
+ * Gather the in-bounds cells at the given deltas from a position outside the grid (slow path).
+ *
+ * @param pos    origin position
+ * @param deltas pairs of {@code {dx, dy}}
+ * @return list of cells (never {@code null})
+ */
+private List<Cell> collect(Position pos, int[][] deltas) {
+	List<Cell> neighbors = new ArrayList<>();
 	for (int[] delta : deltas) {
 		int nx = pos.x() + delta[0];
 		int ny = pos.y() + delta[1];
 		if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue; // Avoid invalid Position creation.
-		Position neighborPos = new Position(nx, ny); // Safe now.
-		neighbors.add(getCell(neighborPos));
+		neighbors.add(grid[index(nx, ny)]);
 	}
-	
 	return neighbors;
 }
 }
@@ -0,0 +1,346 @@
+/* ============================================================================
+ * Path: src/student/model/core/WorldSnapshot.java
+ * Author: Zakary Gaillard-D.
+ * Date: 2026-10-18
+ * Description: Compact immutable copy of a world's occupants, restorable into a fresh World.
+ * ========================================================================== */
+package student.model.core;
+
+import student.model.organisms.Animal;
+import student.model.organisms.Carnivore;
+import student.model.organisms.Herbivore;
+import student.model.organisms.Organism;
+import student.model.organisms.Plant;
+import student.model.organisms.Species;
+
+/**
+ * Immutable, array-backed copy of every occupant of a {@link World}.
+ * <p>Each cell is stored as one flag byte (plant present / alive, animal species / alive) plus
+ * two {@code int} energies, grouped by {@link ActivityMap#CHUNK_SIZE} chunks. Capturing and
+ * restoring are linear passes with no parsing. Dead occupants awaiting cleanup are preserved as
+ * such.</p>
+ *
+ * <p>Chunks are shared copy-on-write between successive snapshots of the same world: a chunk
+ * whose {@link ActivityMap#version} did not move since the base snapshot is reused as is, so
+ * snapshotting a running world only copies the regions that changed. A snapshot identifies its
+ * world by an opaque token rather than a reference, so kept snapshots never pin the world.</p>
+ */
+public final class WorldSnapshot {
+//=============================================================================
+//                                   Constants
+//=============================================================================
+/**
+ * Cell flag: plant slot occupied.
+ */
+public static final byte PLANT = 1;
+/**
+ * Cell flag: the plant is alive.
+ */
+public static final byte PLANT_ALIVE = 1 << 1;
+/**
+ * Cell flag: animal slot holds a herbivore.
+ */
+public static final byte HERBIVORE = 1 << 2;
+/**
+ * Cell flag: animal slot holds a carnivore.
+ */
+public static final byte CARNIVORE = 1 << 3;
+/**
+ * Cell flag: the animal is alive.
+ */
+public static final byte ANIMAL_ALIVE = 1 << 4;
+/**
+ * Approximate heap footprint of one chunk (three arrays plus headers).
+ */
+private static final long CHUNK_BYTES = ActivityMap.CHUNK_SIZE * ActivityMap.CHUNK_SIZE * (1L + 4 + 4) + 3 * 16 + 32;
+
+//=============================================================================
+//                                   Fields
+//=============================================================================
+private final Object source;
+private final int width;
+private final int height;
+private final int chunksX;
+private final Chunk[] chunks;
+
+//=============================================================================
+//                               Construction
+//=============================================================================
+
+/**
+ * Capture the occupants of a world.
+ *
+ * @param world world to copy (not modified)
+ */
+public WorldSnapshot(final World world) {
+	this(world, null);
+}
+
+/**
+ * Capture the occupants of a world, reusing the unchanged chunks of an earlier snapshot of the
+ * same world.
+ *
+ * @param world world to copy (not modified)
+ * @param base  earlier snapshot of {@code world} (ignored if {@code null} or of another world)
+ */
+public WorldSnapshot(final World world, final WorldSnapshot base) {
+	this.source = world.identity();
+	this.width = world.getWidth();
+	this.height = world.getHeight();
+	final ActivityMap activity = world.getActivity();
+	this.chunksX = activity.getChunksX();
+	this.chunks = new Chunk[chunksX * activity.getChunksY()];
+	final boolean reuse = base != null && base.source == source;
+	for (int cy = 0; cy < activity.getChunksY(); cy++) {
+		for (int cx = 0; cx < chunksX; cx++) {
+			final int c = cy * chunksX + cx;
+			final long version = activity.version(cx, cy);
+			chunks[c] = reuse && base.chunks[c].version == version ? base.chunks[c] : capture(world, cx, cy, version);
+		}
+	}
+}
+
+/**
+ * Build a snapshot from flat row-major cell arrays (e.g. decoded from a journal).
+ *
+ * @param width        world width
+ * @param height       world height
+ * @param flags        cell flags ({@link #PLANT}, {@link #HERBIVORE}, ...)
+ * @param plantEnergy  plant energy per cell (ignored where no plant)
+ * @param animalEnergy animal energy per cell (ignored where no animal)
+ */
+public WorldSnapshot(final int width, final int height, final byte[] flags, final int[] plantEnergy, final int[] animalEnergy) {
+	this.source = null;
+	this.width = width;
+	this.height = height;
+	final int size = ActivityMap.CHUNK_SIZE;
+	this.chunksX = (width + size - 1) / size;
+	this.chunks = new Chunk[chunksX * ((height + size - 1) / size)];
+	for (int c = 0; c < chunks.length; c++) {
+		chunks[c] = new Chunk(0, new byte[size * size], new int[size * size], new int[size * size]);
+	}
+	for (int y = 0; y < height; y++) {
+		for (int x = 0; x < width; x++) {
+			final Chunk chunk = chunks[(y / size) * chunksX + x / size];
+			final int i = (y % size) * size + x % size;
+			chunk.flags[i] = flags[y * width + x];
+			chunk.plantEnergy[i] = plantEnergy[y * width + x];
+			chunk.animalEnergy[i] = animalEnergy[y * width + x];
+		}
+	}
+}
+
+/**
+ * Copy the occupants of one chunk.
+ */
+private static Chunk capture(final World world, final int cx, final int cy, final long version) {
+	final int size = ActivityMap.CHUNK_SIZE;
+	final byte[] flags = new byte[size * size];
+	final int[] plantEnergy = new int[size * size];
+	final int[] animalEnergy = new int[size * size];
+	final int x1 = Math.min(world.getWidth(), (cx + 1) * size);
+	final int y1 = Math.min(world.getHeight(), (cy + 1) * size);
+	for (int y = cy * size; y < y1; y++) {
+		for (int x = cx * size; x < x1; x++) {
+			final int i = (y % size) * size + x % size;
+			final Cell cell = world.getCell(new Position(x, y));
+			byte f = 0;
+			final Plant plant = cell.getPlant();
+			if (plant != null) {
+				f |= PLANT;
+				if (plant.isAlive()) f |= PLANT_ALIVE;
+				plantEnergy[i] = plant.getEnergy();
+			}
+			final Animal animal = cell.getAnimal();
+			if (animal != null) {
+				f |= animal.getSpecies() == Species.HERBIVORE ? HERBIVORE : CARNIVORE;
+				if (animal.isAlive()) f |= ANIMAL_ALIVE;
+				animalEnergy[i] = animal.getEnergy();
+			}
+			flags[i] = f;
+		}
+	}
+	return new Chunk(version, flags, plantEnergy, animalEnergy);
+}
+
+//=============================================================================
+//                               Accessors
+//=============================================================================
+
+/**
+ * Return the width of the captured world.
+ *
+ * @return number of columns
+ */
+public int getWidth() {
+	return width;
+}
+
+/**
+ * Return the height of the captured world.
+ *
+ * @return number of rows
+ */
+public int getHeight() {
+	return height;
+}
+
+/**
+ * Return whether both snapshots were captured from the same live world (always {@code false} for
+ * snapshots built from flat arrays).
+ *
+ * @param other snapshot to compare with
+ * @return {@code true} if same source world
+ */
+public boolean sameWorld(final WorldSnapshot other) {
+	return source != null && source == other.source;
+}
+
+/**
+ * Return the flags of cell {@code (x, y)}.
+ *
+ * @param x column
+ * @param y row
+ * @return combination of {@link #PLANT}, {@link #PLANT_ALIVE}, {@link #HERBIVORE},
+ * {@link #CARNIVORE}, {@link #ANIMAL_ALIVE}
+ */
+public byte flagsAt(final int x, final int y) {
+	return chunkAt(x, y).flags[slot(x, y)];
+}
+
+/**
+ * Return the plant energy of cell {@code (x, y)} (0 when no plant).
+ *
+ * @param x column
+ * @param y row
+ * @return plant energy
+ */
+public int plantEnergyAt(final int x, final int y) {
+	return chunkAt(x, y).plantEnergy[slot(x, y)];
+}
+
+/**
+ * Return the animal energy of cell {@code (x, y)} (0 when no animal).
+ *
+ * @param x column
+ * @param y row
+ * @return animal energy
+ */
+public int animalEnergyAt(final int x, final int y) {
+	return chunkAt(x, y).animalEnergy[slot(x, y)];
+}
+
+/**
+ * Return whether chunk {@code (cx, cy)} is the same shared instance in both snapshots, meaning
+ * its cells are known identical without comparing them.
+ *
+ * @param other snapshot to compare with
+ * @param cx    chunk column
+ * @param cy    chunk row
+ * @return {@code true} if shared
+ */
+public boolean sharesChunk(final WorldSnapshot other, final int cx, final int cy) {
+	return other.chunks.length == chunks.length && chunks[cy * chunksX + cx] == other.chunks[cy * chunksX + cx];
+}
+
+/**
+ * Return the chunk holding cell {@code (x, y)}.
+ */
+private Chunk chunkAt(final int x, final int y) {
+	return chunks[(y / ActivityMap.CHUNK_SIZE) * chunksX + x / ActivityMap.CHUNK_SIZE];
+}
+
+/**
+ * Return the index of cell {@code (x, y)} inside its chunk.
+ */
+private static int slot(final int x, final int y) {
+	return (y % ActivityMap.CHUNK_SIZE) * ActivityMap.CHUNK_SIZE + x % ActivityMap.CHUNK_SIZE;
+}
+
+/**
+ * Return how many chunks this snapshot shares with another one (same array instances).
+ *
+ * @param other snapshot to compare with
+ * @return shared chunk count (0 if the chunk grids differ)
+ */
+public int sharedChunks(final WorldSnapshot other) {
+	if (other.chunks.length != chunks.length) return 0;
+	int shared = 0;
+	for (int c = 0; c < chunks.length; c++) {
+		if (chunks[c] == other.chunks[c]) shared++;
+	}
+	return shared;
+}
+
+/**
+ * Return the approximate heap footprint of the chunks of this snapshot that are not shared with
+ * another one. Summed over a chain of snapshots of the same world (each against the previous
+ * kept one), this counts every distinct chunk once.
+ *
+ * @param previous snapshot whose chunks are already accounted for (or {@code null})
+ * @return bytes held by this snapshot alone
+ */
+public long retainedBytes(final WorldSnapshot previous) {
+	final boolean comparable = previous != null && previous.chunks.length == chunks.length;
+	long bytes = 0;
+	for (int c = 0; c < chunks.length; c++) {
+		if (!comparable || chunks[c] != previous.chunks[c]) bytes += CHUNK_BYTES;
+	}
+	return bytes;
+}
+
+//=============================================================================
+//                               Restoration
+//=============================================================================
+
+/**
+ * Build a new, independent world holding fresh copies of the captured occupants.
+ *
+ * @return restored world
+ */
+public World restore() {
+	final World world = new World(width, height);
+	final int size = ActivityMap.CHUNK_SIZE;
+	for (int c = 0; c < chunks.length; c++) {
+		final Chunk chunk = chunks[c];
+		final int x0 = (c % chunksX) * size;
+		final int y0 = (c / chunksX) * size;
+		for (int i = 0; i < size * size; i++) {
+			final byte f = chunk.flags[i];
+			if (f == 0) continue;
+			final Position pos = new Position(x0 + i % size, y0 + i / size);
+			final Cell cell = world.getCell(pos);
+			if ((f & PLANT) != 0) {
+				final Plant plant = new Plant();
+				place(plant, pos, chunk.plantEnergy[i], (f & PLANT_ALIVE) != 0);
+				cell.setPlant(plant);
+			}
+			if ((f & (HERBIVORE | CARNIVORE)) != 0) {
+				final Animal animal = (f & HERBIVORE) != 0 ? new Herbivore() : new Carnivore();
+				place(animal, pos, chunk.animalEnergy[i], (f & ANIMAL_ALIVE) != 0);
+				cell.setAnimal(animal);
+			}
+		}
+	}
+	return world;
+}
+
+/**
+ * Restore an organism's state and position before it enters its cell.
+ */
+private static void place(final Organism organism, final Position pos, final int energy, final boolean alive) {
+	organism.restore(energy, alive);
+	organism.setPosition(pos);
+}
+
+//=============================================================================
+//                                   Chunk
+//=============================================================================
+
+/**
+ * Occupants of one chunk ({@code CHUNK_SIZE²} cells, row-major; cells past the world edge stay
+ * empty) and the chunk version they were captured at. Never mutated once built.
+ */
+private record Chunk(long version, byte[] flags, int[] plantEnergy, int[] animalEnergy) {
+}
+}
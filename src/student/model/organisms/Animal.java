@@ -27,18 +27,20 @@ import java.util.List;
  * </ul>
  * Feeding and reproduction energy thresholds are specialized in subclasses.</p>
  */
-public abstract class Animal extends Organism implements Perceptive, Movable, Eater, Reproducible {
+public abstract sealed class Animal extends Organism implements Perceptive, Movable, Eater, Reproducible
+	permits Herbivore, Carnivore {
 //=============================================================================
 //                               Construction
 //=============================================================================
 
 /**
- * Construct an animal with initial energy.
+ * Construct an animal with its species tag and initial energy.
  *
- * @param energy starting energy
+ * @param species animal species tag
+ * @param energy  starting energy
  */
-public Animal(int energy) {
-	super(energy);
+protected Animal(Species species, int energy) {
+	super(species, energy);
 }
 
 //=============================================================================
@@ -19,12 +19,12 @@ import student.model.core.World;
  *   <li>Reproduces at a higher energy threshold</li>
  * </ul>
  */
-public class Carnivore extends Animal implements Hunting {
+public final class Carnivore extends Animal implements Hunting {
 //=============================================================================
 //                                   Constants
 //=============================================================================
-private static final int MAX_ENERGY = 20;
-private static final int REPRODUCTION_THRESHOLD = 14;
+static final int MAX_ENERGY = 20;
+static final int REPRODUCTION_THRESHOLD = 14;
 private static final int VISION_RANGE = 3; // 5x5
 private static final int MOVEMENT_RANGE = 2; // 3x3
 
@@ -36,7 +36,7 @@ private static final int MOVEMENT_RANGE = 2; // 3x3
  * Construct a carnivore with base energy 5.
  */
 public Carnivore() {
-	super(5);
+	super(Species.CARNIVORE, 5);
 }
 
 /**
@@ -45,7 +45,7 @@ public Carnivore() {
  * @param energy requested starting energy
  */
 public Carnivore(int energy) {
-	super(Math.min(Math.max(1, energy), MAX_ENERGY));
+	super(Species.CARNIVORE, Math.min(Math.max(1, energy), MAX_ENERGY));
 }
 
 //=============================================================================
@@ -79,6 +79,10 @@ public int visionRange() {
  * vision 1: cross (4)
  * vision 2: full 3x3 (radius 1 square excluding center)
  * vision 3: full 5x5 (radius 2 square excluding center)
+ * <p>{@code world.preyField(4)} gives the Manhattan distance to the nearest herbivore from any
+ * cell in O(1), shared by all carnivores (4 reaches the corners of the 5×5 window). A distance
+ * above 2 may come from a herbivore outside the window, so visibility is still checked against
+ * the window itself.</p>
  *
  * @param world world context
  * @return prey position or {@code null}
@@ -95,6 +99,9 @@ public Position chooseHunt(World world) {
 
 /**
  * Move toward prey if detected; else random adjacent move.
+ * <p>{@link student.model.core.DistanceField#stepsToward(Position)} on {@code world.preyField(4)}
+ * lists the cardinal cells one Manhattan step closer to the nearest prey; ties are broken with
+ * {@link prof.utils.RandomGenerator}.</p>
  *
  * @param world world context
  * @param pos   current position
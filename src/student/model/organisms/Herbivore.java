@@ -20,12 +20,12 @@ import student.model.core.World;
  *   <li>Reproduces when energy threshold is met</li>
  * </ul>
  */
-public class Herbivore extends Animal implements Fleeing, Edible {
+public final class Herbivore extends Animal implements Fleeing, Edible {
 //=============================================================================
 //                                   Constants
 //=============================================================================
-private static final int MAX_ENERGY = 10;
-private static final int REPRODUCTION_THRESHOLD = 7;
+static final int MAX_ENERGY = 10;
+static final int REPRODUCTION_THRESHOLD = 7;
 private static final int VISION_RANGE = 2; // 3x3
 private static final int MOVEMENT_RANGE = 2; // 3x3
 
@@ -37,7 +37,7 @@ private static final int MOVEMENT_RANGE = 2; // 3x3
  * Construct a herbivore with base energy 3.
  */
 public Herbivore() {
-	super(3);
+	super(Species.HERBIVORE, 3);
 }
 
 /**
@@ -46,7 +46,7 @@ public Herbivore() {
  * @param energy requested starting energy
  */
 public Herbivore(int energy) {
-	super(Math.min(Math.max(1, energy), MAX_ENERGY));
+	super(Species.HERBIVORE, Math.min(Math.max(1, energy), MAX_ENERGY));
 }
 
 //=============================================================================
@@ -69,6 +69,12 @@ public int visionRange() {
 
 /**
  * Choose a position maximizing distance from a nearby carnivore if one is perceived.
+ * <p>{@code world.threatField(3)} gives the Manhattan distance to the nearest carnivore in O(1).
+ * A distance of 2 may also come from a carnivore two cells away in a straight line, which is
+ * outside the 3×3 window, so sight is still checked against the window.
+ * {@link student.model.core.DistanceField#stepsAway(Position, java.util.function.Predicate)},
+ * filtered on free animal slots, then lists the free cardinal cells maximizing that distance
+ * (range 3 keeps every neighbor of a threatened herbivore distinguishable).</p>
  *
  * @param world world context
  * @return flee destination or {@code null} if no threat detected
@@ -134,7 +140,7 @@ public void eat(Cell cell, World world) {
  */
 @Override
 public int nutrition() {
-	return energy;
+	return getEnergy();
 }
 
 //=============================================================================
@@ -8,29 +8,39 @@ package student.model.organisms;
 
 import student.model.behaviors.Energetic;
 import student.model.core.Position;
+import student.model.core.World;
 
 /**
  * Base abstract organism holding shared state: {@link Position}, energy, and alive flag.
- * <p>Specialized behavior (movement, feeding, reproduction) is defined in subtypes.</p>
+ * <p>Specialized behavior (movement, feeding, reproduction) is defined in subtypes. The hierarchy
+ * is sealed and every instance carries its {@link Species} tag so callers can switch on it.</p>
+ *
+ * <p>Energy and alive flag are private: subtypes read them with {@link #getEnergy()} and
+ * {@link #isAlive()} and change them only through {@link #setEnergy(int)}, so the owning world
+ * is notified of every change.</p>
  */
-public abstract class Organism implements Energetic {
+public abstract sealed class Organism implements Energetic permits Animal, Plant {
 //=============================================================================
 //                                   Fields
 //=============================================================================
+protected final Species species;
 protected Position position;
-protected int energy;
-protected boolean alive = true;
+private int energy;
+private boolean alive = true;
+private World world;
 
 //=============================================================================
 //                               Construction
 //=============================================================================
 
 /**
- * Construct an organism with initial energy.
+ * Construct an organism with its species tag and initial energy.
  *
- * @param energy starting energy value
+ * @param species species tag (never {@code null})
+ * @param energy  starting energy value
  */
-public Organism(int energy) {
+protected Organism(Species species, int energy) {
+	this.species = species;
 	this.energy = energy;
 }
 
@@ -38,6 +48,15 @@ public Organism(int energy) {
 //                               Accessors
 //=============================================================================
 
+/**
+ * Return the species tag of this organism.
+ *
+ * @return species (never {@code null})
+ */
+public final Species getSpecies() {
+	return species;
+}
+
 /**
  * Return current position (may be {@code null} if not placed).
  *
@@ -56,6 +75,24 @@ public void setPosition(Position pos) {
 	this.position = pos;
 }
 
+/**
+ * Return the world this organism was last placed in (may be {@code null} if never placed).
+ *
+ * @return owning world or {@code null}
+ */
+public World getWorld() {
+	return world;
+}
+
+/**
+ * Set the owning world reference. Called by {@link student.model.core.Cell} on placement.
+ *
+ * @param world owning world (may be {@code null})
+ */
+public void setWorld(World world) {
+	this.world = world;
+}
+
 //=============================================================================
 //                            Energetic Contract
 //=============================================================================
@@ -72,12 +109,46 @@ public int getEnergy() {
 
 /**
  * Set energy; marks organism dead if energy <= 0.
+ * <p>Ends by calling {@link #energyChanged(int, boolean)} so the owning world learns about deaths
+ * and threshold crossings without scanning the grid; overrides should delegate to
+ * {@code super.setEnergy(...)}.</p>
  *
  * @param value new energy value
  */
 @Override
 public void setEnergy(int value) {
+	final int previous = energy;
+	final boolean wasAlive = alive;
 	// TODO: Implement energy setting logic with alive state update.
+	energyChanged(previous, wasAlive);
+}
+
+/**
+ * Hook called by {@link #setEnergy(int)} after energy and alive flag were stored; reports the
+ * change to the owning world (death queue, reproduction and growth indexes, fingerprint).
+ *
+ * @param previous energy before the change
+ * @param wasAlive alive flag before the change
+ */
+protected void energyChanged(int previous, boolean wasAlive) {
+	if (world == null) return;
+	if (wasAlive && !alive) {
+		world.enqueueDeath(this);
+	}
+	world.energyChanged(this, previous);
+}
+
+/**
+ * Overwrite energy and alive flag directly, without {@link #setEnergy(int)} or world
+ * notifications. Used to rebuild organisms from a {@link student.model.core.WorldSnapshot} before
+ * they are placed (placement then refreshes the world indexes).
+ *
+ * @param energy energy value to restore
+ * @param alive  alive flag to restore
+ */
+public final void restore(int energy, boolean alive) {
+	this.energy = energy;
+	this.alive = alive;
 }
 
 /**
@@ -22,11 +22,11 @@ import student.model.core.World;
  * </ul>
  * Behavior strictly limited to local growth and reproduction logic.
  */
-public class Plant extends Organism implements Growable, Edible, Reproducible {
+public final class Plant extends Organism implements Growable, Edible, Reproducible {
 //=============================================================================
 //                                   Constants
 //=============================================================================
-private static final int MAX_ENERGY = 3;
+static final int MAX_ENERGY = 3;
 
 //=============================================================================
 //                               Construction
@@ -37,7 +37,7 @@ private static final int MAX_ENERGY = 3;
  */
 public Plant() {
 	// Default energy is 1.
-	super(1);
+	super(Species.PLANT, 1);
 }
 
 /**
@@ -46,7 +46,7 @@ public Plant() {
  * @param energy requested starting energy
  */
 public Plant(int energy) {
-	super(Math.min(Math.max(1, energy), MAX_ENERGY));
+	super(Species.PLANT, Math.min(Math.max(1, energy), MAX_ENERGY));
 }
 
 //=============================================================================
@@ -60,7 +60,7 @@ public Plant(int energy) {
  */
 @Override
 public void grow(World world) {
-	// TODO: Implement growth logic.
+	// TODO: Implement growth logic (route through setEnergy).
 }
 
 //=============================================================================
@@ -74,7 +74,7 @@ public void grow(World world) {
  */
 @Override
 public int nutrition() {
-	return energy;
+	return getEnergy();
 }
 
 //=============================================================================
@@ -127,7 +127,7 @@ public boolean spawn(World world) {
  */
 @Override
 public void addEnergy(int amount) {
-	// TODO: Implement energy addition logic.
+	// TODO: Implement energy addition logic (route through setEnergy).
 }
 
 /**
@@ -137,6 +137,6 @@ public void addEnergy(int amount) {
  */
 @Override
 public void subEnergy(int amount) {
-	// TODO: Implement energy subtraction logic.
+	// TODO: Implement energy subtraction logic (route through setEnergy so deaths are reported).
 }
 }
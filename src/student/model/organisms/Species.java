@@ -0,0 +1,76 @@
+/* ============================================================================
+ * Path: src/student/model/organisms/Species.java
+ * Author: Zakary Gaillard-D.
+ * Date: 2026-10-18
+ * Description: Compact species tag carried by every organism for switch-based dispatch.
+ * ========================================================================== */
+package student.model.organisms;
+
+/**
+ * Closed set of organism kinds present in the simulation.
+ * <p>Every {@link Organism} stores its tag in a final field so hot paths (neighbor filters,
+ * feeding helpers, statistics) can {@code switch} on it instead of chaining {@code instanceof}
+ * checks against the class hierarchy.</p>
+ */
+public enum Species {
+/**
+ * Plant occupying the plant slot of a cell; reproduces once saturated.
+ */
+PLANT(false, true, Plant.MAX_ENERGY, Plant.MAX_ENERGY),
+/**
+ * Herbivore occupying the animal slot; prey for carnivores.
+ */
+HERBIVORE(true, true, Herbivore.MAX_ENERGY, Herbivore.REPRODUCTION_THRESHOLD),
+/**
+ * Carnivore occupying the animal slot; never eaten.
+ */
+CARNIVORE(true, false, Carnivore.MAX_ENERGY, Carnivore.REPRODUCTION_THRESHOLD);
+
+private final boolean animal;
+private final boolean edible;
+private final int maxEnergy;
+private final int reproductionThreshold;
+
+Species(final boolean animal, final boolean edible, final int maxEnergy, final int reproductionThreshold) {
+	this.animal = animal;
+	this.edible = edible;
+	this.maxEnergy = maxEnergy;
+	this.reproductionThreshold = reproductionThreshold;
+}
+
+/**
+ * Return whether organisms of this species live in the animal slot.
+ *
+ * @return {@code true} for herbivores and carnivores
+ */
+public boolean isAnimal() {
+	return animal;
+}
+
+/**
+ * Return whether organisms of this species implement {@link student.model.behaviors.Edible}.
+ *
+ * @return {@code true} if the species can be consumed
+ */
+public boolean isEdible() {
+	return edible;
+}
+
+/**
+ * Return the energy cap of this species.
+ *
+ * @return maximum energy
+ */
+public int maxEnergy() {
+	return maxEnergy;
+}
+
+/**
+ * Return the minimum energy at which organisms of this species may reproduce.
+ *
+ * @return reproduction energy threshold
+ */
+public int reproductionThreshold() {
+	return reproductionThreshold;
+}
+}